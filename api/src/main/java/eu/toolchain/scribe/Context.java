@@ -8,6 +8,14 @@ import java.util.Collections;
 public interface Context {
   Context ROOT = new Root();
 
+  /**
+   * Root context whose errors do not capture a stack trace.
+   * <p>
+   * Used to decode with {@link ContextOptions#STACKLESS_ERRORS}, where the path of a rejected
+   * value is what matters and capturing deep stacks would dominate the cost of rejecting it.
+   */
+  Context STACKLESS_ROOT = new StacklessRoot();
+
   Context parent();
 
   default ContextException error(Throwable e) {
@@ -22,8 +30,23 @@ public interface Context {
     return new ContextException(this, message, e);
   }
 
+  /**
+   * Check if errors raised in this context should skip capturing stack traces.
+   *
+   * @return {@code true} if this context descends from {@link #STACKLESS_ROOT}.
+   */
+  default boolean isStackless() {
+    Context current = this;
+
+    while (!(current instanceof Root)) {
+      current = current.parent();
+    }
+
+    return current instanceof StacklessRoot;
+  }
+
   default String path() {
-    if (this == ROOT) {
+    if (this instanceof Root) {
       return "<empty>";
     }
 
@@ -31,7 +54,7 @@ public interface Context {
 
     Context current = this;
 
-    while (current != ROOT) {
+    while (!(current instanceof Root)) {
       parts.add(current);
       current = current.parent();
     }
@@ -82,6 +105,18 @@ public interface Context {
     public Context parent() {
       throw new IllegalStateException("no parent");
     }
+
+    @Override
+    public boolean isStackless() {
+      return false;
+    }
+  }
+
+  class StacklessRoot extends Root {
+    @Override
+    public boolean isStackless() {
+      return true;
+    }
   }
 
   @Data
@@ -89,6 +124,15 @@ public interface Context {
     private final Context parent;
     private final String field;
     private final boolean root;
+    /* inherited from the parent, so that raising errors does not walk to the root */
+    private final boolean stackless;
+
+    public Field(final Context parent, final String field, final boolean root) {
+      this.parent = parent;
+      this.field = field;
+      this.root = root;
+      this.stackless = parent.isStackless();
+    }
 
     @Override
     public Context parent() {
@@ -106,6 +150,15 @@ public interface Context {
     private final Context parent;
     private final int index;
     private final boolean root;
+    /* inherited from the parent, so that raising errors does not walk to the root */
+    private final boolean stackless;
+
+    public Index(final Context parent, final int index, final boolean root) {
+      this.parent = parent;
+      this.index = index;
+      this.root = root;
+      this.stackless = parent.isStackless();
+    }
 
     @Override
     public Context parent() {
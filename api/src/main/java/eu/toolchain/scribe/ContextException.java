@@ -1,30 +1,191 @@
 package eu.toolchain.scribe;
 
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
 
 public class ContextException extends RuntimeException {
   private static final long serialVersionUID = 6991019600165017678L;
 
-  @Getter
-  private final Context path;
+  /* context that the error was raised in */
+  private final Context raisedIn;
   @Getter
   private final String originalMessage;
 
+  /* fields and indexes pushed while propagating, innermost first */
+  private List<Segment> segments;
+  /* context of the most recently pushed segment, where the next one is most likely found */
+  private Context anchor;
+
+  /* resolved and rendered on first access, since rejected values might never be inspected */
+  private Context path;
+  private String message;
+
   public ContextException(final Context path, final Throwable cause) {
-    super(path.path() + ": " + cause.getMessage());
-    this.path = path;
-    this.originalMessage = cause.getMessage();
+    this(path, cause.getMessage(), null, path.isStackless());
   }
 
   public ContextException(final Context path, final String message) {
-    super(path.path() + ": " + message);
-    this.path = path;
-    this.originalMessage = message;
+    this(path, message, null, path.isStackless());
   }
 
   public ContextException(final Context path, final String message, final Throwable cause) {
-    super(path.path() + ": " + message, cause);
-    this.path = path;
+    this(path, message, cause, path.isStackless());
+  }
+
+  private ContextException(
+      final Context path, final String message, final Throwable cause, final boolean stackless
+  ) {
+    super(null, cause, !stackless, !stackless);
+    this.raisedIn = path;
     this.originalMessage = message;
   }
+
+  /**
+   * Get the path of the error, including any fields and indexes pushed while it propagated.
+   *
+   * @return The path of the error.
+   */
+  public Context getPath() {
+    Context path = this.path;
+
+    if (path == null) {
+      path = resolve();
+      this.path = path;
+    }
+
+    return path;
+  }
+
+  @Override
+  public String getMessage() {
+    String message = this.message;
+
+    if (message == null) {
+      message = getPath().path() + ": " + originalMessage;
+      this.message = message;
+    }
+
+    return message;
+  }
+
+  /**
+   * Record that this error should have been raised with the given field pushed onto the given
+   * context.
+   * <p>
+   * This permits encoders and decoders to pass their own context to fields, and only push the
+   * field when an error is actually raised. The message is exactly what it would have been if the
+   * field had been pushed. The field is recorded on this exception, and the path is only resolved
+   * when it is accessed.
+   *
+   * @param context Context that the field should have been pushed onto.
+   * @param field Field that should have been pushed.
+   * @return This exception, which is unchanged if it was not raised within the given context.
+   */
+  public ContextException pushed(final Context context, final String field) {
+    return push(new Segment(context, field, 0));
+  }
+
+  /**
+   * Record that this error should have been raised with the given index pushed onto the given
+   * context.
+   *
+   * @param context Context that the index should have been pushed onto.
+   * @param index Index that should have been pushed.
+   * @return This exception, which is unchanged if it was not raised within the given context.
+   * @see #pushed(Context, String)
+   */
+  public ContextException pushed(final Context context, final int index) {
+    return push(new Segment(context, null, index));
+  }
+
+  private ContextException push(final Segment segment) {
+    /* errors propagate outwards, so the context is usually above the previous one */
+    if (!(anchor != null && isWithin(anchor, segment.context)) &&
+        !isWithin(raisedIn, segment.context)) {
+      return this;
+    }
+
+    if (segments == null) {
+      segments = new ArrayList<>();
+    }
+
+    segments.add(segment);
+    anchor = segment.context;
+    path = null;
+    message = null;
+    return this;
+  }
+
+  /**
+   * Check if the given context is reached from current through fields and indexes only.
+   */
+  private static boolean isWithin(Context current, final Context context) {
+    while (current != context) {
+      if (!(current instanceof Context.Field || current instanceof Context.Index)) {
+        return false;
+      }
+
+      current = current.parent();
+    }
+
+    return true;
+  }
+
+  private Context resolve() {
+    if (segments == null) {
+      return raisedIn;
+    }
+
+    /* contexts and segments from the innermost context, up to the outermost segment */
+    final List<Object> parts = new ArrayList<>();
+    int remaining = segments.size();
+    Context current = raisedIn;
+
+    while (true) {
+      for (final Segment segment : segments) {
+        if (segment.context == current) {
+          parts.add(segment);
+          remaining--;
+        }
+      }
+
+      if (remaining == 0) {
+        break;
+      }
+
+      parts.add(current);
+      current = current.parent();
+    }
+
+    for (int i = parts.size() - 1; i >= 0; i--) {
+      final Object p = parts.get(i);
+
+      if (p instanceof Segment) {
+        current = ((Segment) p).pushOnto(current);
+      } else if (p instanceof Context.Field) {
+        final Context.Field f = (Context.Field) p;
+        current = new Context.Field(current, f.getField(), f.isRoot());
+      } else {
+        final Context.Index f = (Context.Index) p;
+        current = new Context.Index(current, f.getIndex(), f.isRoot());
+      }
+    }
+
+    return current;
+  }
+
+  @RequiredArgsConstructor
+  private static class Segment {
+    private final Context context;
+    /* null for indexes */
+    private final String field;
+    private final int index;
+
+    Context pushOnto(final Context parent) {
+      return field != null ? parent.push(field) : parent.push(index);
+    }
+  }
 }
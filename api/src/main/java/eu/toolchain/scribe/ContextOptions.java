@@ -0,0 +1,21 @@
+package eu.toolchain.scribe;
+
+import lombok.Data;
+
+public interface ContextOptions {
+  StacklessErrors STACKLESS_ERRORS = new StacklessErrors();
+
+  /**
+   * Option to indicate that decoding errors should not capture stack traces.
+   * <p>
+   * Rejecting invalid input is otherwise dominated by capturing the stack of deeply nested
+   * decoders. The path and message of errors are unaffected, and are only rendered when the
+   * message is accessed.
+   *
+   * @see EntityResolver#decodeContext()
+   * @see ConverterEncoding#tryDecode(Object)
+   */
+  @Data
+  class StacklessErrors implements Option {
+  }
+}
@@ -7,6 +7,22 @@ public interface ConverterEncoding<Source, Target> {
 
   Source decode(Target target);
 
+  /**
+   * Decode the given value, returning the error that rejected it instead of throwing it.
+   * <p>
+   * Combine with {@link ContextOptions#STACKLESS_ERRORS} to make rejecting values cheap.
+   *
+   * @param target Value to decode.
+   * @return The result of decoding the value.
+   */
+  default DecodeResult<Source> tryDecode(Target target) {
+    try {
+      return DecodeResult.success(decode(target));
+    } catch (final ContextException e) {
+      return DecodeResult.failure(e);
+    }
+  }
+
   default StringEncoding<Source> toStringEncoding(
       Function<Target, String> toString, Function<String, Target> fromString
   ) {
@@ -22,6 +38,11 @@ public interface ConverterEncoding<Source, Target> {
       public Source decode(final String source) {
         return parent.decode(fromString.apply(source));
       }
+
+      @Override
+      public DecodeResult<Source> tryDecode(final String source) {
+        return parent.tryDecode(fromString.apply(source));
+      }
     };
   }
 }
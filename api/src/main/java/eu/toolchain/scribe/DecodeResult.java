@@ -0,0 +1,108 @@
+package eu.toolchain.scribe;
+
+import lombok.Data;
+
+import java.util.function.Function;
+
+/**
+ * The result of decoding a value, which is either the decoded value or the error that rejected
+ * it.
+ *
+ * @param <T> The decoded type.
+ * @see ConverterEncoding#tryDecode(Object)
+ */
+public interface DecodeResult<T> {
+  /**
+   * Check if decoding succeeded.
+   */
+  boolean isSuccess();
+
+  /**
+   * Return the decoded value, or throw the error that rejected it.
+   */
+  T orElseThrow();
+
+  /**
+   * Map the decoded value from one type to another value.
+   */
+  <O> DecodeResult<O> map(Function<? super T, ? extends O> function);
+
+  /**
+   * Handle both the decoded value and the error that rejected it.
+   */
+  <O> O handle(
+      Function<? super T, ? extends O> success,
+      Function<? super ContextException, ? extends O> failure
+  );
+
+  static <T> DecodeResult<T> success(T value) {
+    return new Success<>(value);
+  }
+
+  static <T> DecodeResult<T> failure(ContextException error) {
+    return new Failure<>(error);
+  }
+
+  @Data
+  class Success<T> implements DecodeResult<T> {
+    private final T value;
+
+    @Override
+    public boolean isSuccess() {
+      return true;
+    }
+
+    @Override
+    public T orElseThrow() {
+      return value;
+    }
+
+    @Override
+    public <O> DecodeResult<O> map(final Function<? super T, ? extends O> function) {
+      return new Success<>(function.apply(value));
+    }
+
+    @Override
+    public <O> O handle(
+        final Function<? super T, ? extends O> success,
+        final Function<? super ContextException, ? extends O> failure
+    ) {
+      return success.apply(value);
+    }
+  }
+
+  @Data
+  class Failure<T> implements DecodeResult<T> {
+    private final ContextException error;
+
+    /**
+     * Get the context in which the value was rejected.
+     */
+    public Context getPath() {
+      return error.getPath();
+    }
+
+    @Override
+    public boolean isSuccess() {
+      return false;
+    }
+
+    @Override
+    public T orElseThrow() {
+      throw error;
+    }
+
+    @Override
+    public <O> DecodeResult<O> map(final Function<? super T, ? extends O> function) {
+      return new Failure<>(error);
+    }
+
+    @Override
+    public <O> O handle(
+        final Function<? super T, ? extends O> success,
+        final Function<? super ContextException, ? extends O> failure
+    ) {
+      return failure.apply(error);
+    }
+  }
+}
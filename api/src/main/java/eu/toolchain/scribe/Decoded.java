@@ -55,11 +55,28 @@ public interface Decoded<T> {
    */
   void ifPresent(Consumer<? super T> consumer);
 
+  /**
+   * Return the decoded value, or {@link #ABSENT_VALUE} if absent.
+   */
+  Object orAbsent();
+
   /**
    * Singleton absent instance.
    */
   Decoded<?> ABSENT = new Absent<>();
 
+  /**
+   * Sentinel for values which are absent, used where decoded values are not wrapped.
+   *
+   * @see DirectDecoder
+   */
+  Object ABSENT_VALUE = new Object() {
+    @Override
+    public String toString() {
+      return "Decoded.ABSENT_VALUE";
+    }
+  };
+
   /**
    * Get a decoded value that is absent.
    */
@@ -87,6 +104,18 @@ public interface Decoded<T> {
     return new Present<>(value);
   }
 
+  /**
+   * Make a decoded value from a value that is {@link #ABSENT_VALUE} to represent absence.
+   */
+  @SuppressWarnings("unchecked")
+  static <T> Decoded<T> ofOrAbsent(Object value) {
+    if (value == ABSENT_VALUE) {
+      return absent();
+    }
+
+    return new Present<>((T) value);
+  }
+
   /**
    * Implementation of {@link Decoded} for values which are present.
    */
@@ -129,6 +158,11 @@ public interface Decoded<T> {
       return this;
     }
 
+    @Override
+    public Object orAbsent() {
+      return value;
+    }
+
     @Override
     public String toString() {
       return "Decoded[" + value + "]";
@@ -174,6 +208,11 @@ public interface Decoded<T> {
       return new Present<>(supplier.get());
     }
 
+    @Override
+    public Object orAbsent() {
+      return ABSENT_VALUE;
+    }
+
     @Override
     public String toString() {
       return "Decoded[]";
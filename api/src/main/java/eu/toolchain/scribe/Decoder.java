@@ -39,4 +39,30 @@ public interface Decoder<Target, Source> {
   ) {
     return instance.flatMap(i -> decode(path, i));
   }
+
+  /**
+   * Decode the given instance to the source type, without wrapping it.
+   * <p>
+   * Decoders which are used on hot paths should implement {@link DirectDecoder}, which avoids
+   * allocating a {@link Decoded} for every decoded value.
+   *
+   * @param path Current path of the decoder.
+   * @param instance Target instance to decode.
+   * @return Source instance if successful, {@link Decoded#ABSENT_VALUE} otherwise.
+   */
+  default Object decodeOrAbsent(Context path, Target instance) {
+    return decode(path, instance).orAbsent();
+  }
+
+  /**
+   * Decode the given instance to the source type optionally, without wrapping it.
+   *
+   * @param path Current path of the decoder.
+   * @param instance Target instance, or {@link Decoded#ABSENT_VALUE} if absent.
+   * @return Source instance if successful, {@link Decoded#ABSENT_VALUE} otherwise.
+   * @see #decodeOptionally(Context, Decoded)
+   */
+  default Object decodeOptionallyOrAbsent(Context path, Object instance) {
+    return decodeOptionally(path, Decoded.ofOrAbsent(instance)).orAbsent();
+  }
 }
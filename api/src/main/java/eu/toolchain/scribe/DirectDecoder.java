@@ -0,0 +1,36 @@
+package eu.toolchain.scribe;
+
+/**
+ * A decoder which decodes values without wrapping them in {@link Decoded}.
+ * <p>
+ * Absence is signalled by returning {@link Decoded#ABSENT_VALUE}, which avoids allocating a
+ * wrapper for every decoded value. Decoding through {@link #decode(Context, Object)} still works,
+ * but wraps the result.
+ *
+ * @param <Target> Target type of encoding.
+ * @param <Source> Source type of encoding.
+ */
+public interface DirectDecoder<Target, Source> extends Decoder<Target, Source> {
+  @Override
+  Object decodeOrAbsent(Context path, Target instance);
+
+  @Override
+  default Decoded<Source> decode(final Context path, final Target instance) {
+    return Decoded.ofOrAbsent(decodeOrAbsent(path, instance));
+  }
+
+  @Override
+  default Decoded<Source> decodeOptionally(final Context path, final Decoded<Target> instance) {
+    return Decoded.ofOrAbsent(decodeOptionallyOrAbsent(path, instance.orAbsent()));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  default Object decodeOptionallyOrAbsent(final Context path, final Object instance) {
+    if (instance == Decoded.ABSENT_VALUE) {
+      return instance;
+    }
+
+    return decodeOrAbsent(path, (Target) instance);
+  }
+}
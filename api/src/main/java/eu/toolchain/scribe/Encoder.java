@@ -34,6 +34,19 @@ public interface Encoder<Target, Source> {
    */
   Target encodeEmpty(Context path);
 
+  /**
+   * Check if the given instance is absent, and should be omitted where it is the value of a field
+   * or an element of a collection.
+   * <p>
+   * Instances which are not absent are encoded with {@link #encode(Context, Object)}.
+   *
+   * @param instance Instance to check.
+   * @return {@code true} if the instance is absent.
+   */
+  default boolean isAbsent(Source instance) {
+    return false;
+  }
+
   /**
    * Encode the given instance to the target type optionally.
    *
@@ -41,8 +54,13 @@ public interface Encoder<Target, Source> {
    * @param instance Instance to encode.
    * @param callback Callback that will be called with the current target instance of the value has
    * been encoded.
+   * @deprecated Check {@link #isAbsent(Object)}, and encode with
+   * {@link #encode(Context, Object)} instead.
    */
+  @Deprecated
   default void encodeOptionally(Context path, Source instance, Consumer<Target> callback) {
-    callback.accept(encode(path, instance));
+    if (!isAbsent(instance)) {
+      callback.accept(encode(path, instance));
+    }
   }
 }
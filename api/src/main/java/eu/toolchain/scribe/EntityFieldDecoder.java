@@ -6,4 +6,11 @@ public interface EntityFieldDecoder<Target, Source> extends EntityFieldDescripto
   Decoded<Source> decode(Context path, Target instance);
 
   Decoded<Source> decodeOptionally(Context path, Decoded<Target> instance);
+
+  /**
+   * @see Decoder#decodeOptionallyOrAbsent(Context, Object)
+   */
+  default Object decodeOptionallyOrAbsent(Context path, Object instance) {
+    return decodeOptionally(path, Decoded.ofOrAbsent(instance)).orAbsent();
+  }
 }
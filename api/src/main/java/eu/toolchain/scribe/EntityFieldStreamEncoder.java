@@ -1,13 +1,29 @@
 package eu.toolchain.scribe;
 
-import java.util.function.Consumer;
-
 public interface EntityFieldStreamEncoder<Target, Source> {
   String getName();
 
   void streamEncode(Context path, Source instance, Target target);
 
-  void streamEncodeOptionally(
-      Context path, Source instance, Target target, Consumer<Runnable> callback
-  );
+  boolean isAbsent(Source instance);
+
+  @SuppressWarnings("unchecked")
+  default void streamEncodeInt(Context path, int instance, Target target) {
+    streamEncode(path, (Source) (Object) instance, target);
+  }
+
+  @SuppressWarnings("unchecked")
+  default void streamEncodeLong(Context path, long instance, Target target) {
+    streamEncode(path, (Source) (Object) instance, target);
+  }
+
+  @SuppressWarnings("unchecked")
+  default void streamEncodeDouble(Context path, double instance, Target target) {
+    streamEncode(path, (Source) (Object) instance, target);
+  }
+
+  @SuppressWarnings("unchecked")
+  default void streamEncodeBoolean(Context path, boolean instance, Target target) {
+    streamEncode(path, (Source) (Object) instance, target);
+  }
 }
@@ -2,4 +2,15 @@ package eu.toolchain.scribe;
 
 public interface EntityFieldsDecoder<Target> {
   <Source> Decoded<Source> decodeField(EntityFieldDecoder<Target, Source> decoder, Context path);
+
+  /**
+   * Decode the given field, without wrapping it.
+   *
+   * @return The decoded field, or {@link Decoded#ABSENT_VALUE} if absent.
+   */
+  default <Source> Object decodeFieldOrAbsent(
+      EntityFieldDecoder<Target, Source> decoder, Context path
+  ) {
+    return decodeField(decoder, path).orAbsent();
+  }
 }
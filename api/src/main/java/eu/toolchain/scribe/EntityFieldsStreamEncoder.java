@@ -9,5 +9,45 @@ public interface EntityFieldsStreamEncoder<Target> {
       EntityFieldStreamEncoder<Target, Source> field, Context path, Source value, Target target
   );
 
+  /**
+   * Encode a field of type {@code int}, which is never absent.
+   */
+  @SuppressWarnings("unchecked")
+  default void encodeIntField(
+      EntityFieldStreamEncoder<Target, ?> field, Context path, int value, Target target
+  ) {
+    encodeField((EntityFieldStreamEncoder<Target, Object>) field, path, value, target);
+  }
+
+  /**
+   * Encode a field of type {@code long}, which is never absent.
+   */
+  @SuppressWarnings("unchecked")
+  default void encodeLongField(
+      EntityFieldStreamEncoder<Target, ?> field, Context path, long value, Target target
+  ) {
+    encodeField((EntityFieldStreamEncoder<Target, Object>) field, path, value, target);
+  }
+
+  /**
+   * Encode a field of type {@code double}, which is never absent.
+   */
+  @SuppressWarnings("unchecked")
+  default void encodeDoubleField(
+      EntityFieldStreamEncoder<Target, ?> field, Context path, double value, Target target
+  ) {
+    encodeField((EntityFieldStreamEncoder<Target, Object>) field, path, value, target);
+  }
+
+  /**
+   * Encode a field of type {@code boolean}, which is never absent.
+   */
+  @SuppressWarnings("unchecked")
+  default void encodeBooleanField(
+      EntityFieldStreamEncoder<Target, ?> field, Context path, boolean value, Target target
+  ) {
+    encodeField((EntityFieldStreamEncoder<Target, Object>) field, path, value, target);
+  }
+
   void encodeEmpty(Context path, Target target);
 }
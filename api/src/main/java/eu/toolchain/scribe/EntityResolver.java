@@ -201,13 +201,25 @@ public interface EntityResolver {
   /**
    * Create a new resolver with the given options added to it.
    * <p>
-   * Note: This operation invalidates entity caches for the new resolver.
+   * The new resolver may share resolved mappings with this one, so options must only be
+   * consulted when building encoders and decoders, and not when resolving mappings.
    *
    * @param options Options to add to resolver.
    * @return A new resolver with the new options added to it.
    */
   EntityResolver withOptions(Option... options);
 
+  /**
+   * Get the root context that values should be decoded in.
+   *
+   * @return {@link Context#STACKLESS_ROOT} if {@link ContextOptions#STACKLESS_ERRORS} is present,
+   * otherwise {@link Context#ROOT}.
+   */
+  default Context decodeContext() {
+    return isOptionPresent(ContextOptions.STACKLESS_ERRORS) ? Context.STACKLESS_ROOT
+        : Context.ROOT;
+  }
+
   /**
    * Detect immediate annotations for the given field.
    *
@@ -5,10 +5,29 @@ import eu.toolchain.scribe.reflection.JavaType;
 
 /**
  * Read the value of individual fields.
+ * <p>
+ * The primitive variants are only used for fields of the corresponding primitive type, and box
+ * the value unless the reader overrides them.
  */
 public interface FieldReader {
   Object read(Context path, Object instance);
 
+  default int readInt(Context path, Object instance) {
+    return (Integer) read(path, instance);
+  }
+
+  default long readLong(Context path, Object instance) {
+    return (Long) read(path, instance);
+  }
+
+  default double readDouble(Context path, Object instance) {
+    return (Double) read(path, instance);
+  }
+
+  default boolean readBoolean(Context path, Object instance) {
+    return (Boolean) read(path, instance);
+  }
+
   Annotations annotations();
 
   JavaType fieldType();
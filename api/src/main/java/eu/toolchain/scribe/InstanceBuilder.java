@@ -1,18 +1,37 @@
 package eu.toolchain.scribe;
 
 import eu.toolchain.scribe.reflection.JavaType;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 
 public interface InstanceBuilder<Source> {
+  Object[] NO_ARGUMENTS = new Object[0];
+
+  /**
+   * Build a new instance using the detected creator method.
+   *
+   * @param arguments Arguments to build new instance from, one for each parameter.
+   * @return The new instance.
+   */
+  Source newInstance(Context path, Object[] arguments);
+
   /**
    * Build a new instance using the detected creator method.
    *
    * @param arguments Arguments to build new instance from.
    * @return The new instance.
    */
-  Source newInstance(Context path, List<Object> arguments);
+  default Source newInstance(Context path, List<Object> arguments) {
+    return newInstance(path, arguments.toArray());
+  }
 
   JavaType getInstanceType();
 
@@ -32,20 +51,72 @@ public interface InstanceBuilder<Source> {
     return new Constructor<>(constructor);
   }
 
+  static <Source> Factory<Source> fromFactory(
+      final JavaType instanceType, final Function<Object[], Source> factory
+  ) {
+    return new Factory<>(instanceType, factory);
+  }
+
+  /**
+   * An instance builder that delegates to a factory function, typically generated at compile
+   * time.
+   */
+  @Data
+  class Factory<Source> implements InstanceBuilder<Source> {
+    private final JavaType instanceType;
+    private final Function<Object[], Source> factory;
+
+    @Override
+    public Source newInstance(final Context path, final Object[] arguments) {
+      try {
+        return factory.apply(arguments);
+      } catch (final Exception e) {
+        throw path.error("failed to create instance of (" + instanceType + ")", e);
+      }
+    }
+  }
+
   @Data
+  @EqualsAndHashCode(exclude = "invoker")
+  @ToString(exclude = "invoker")
   class StaticMethod<Source> implements InstanceBuilder<Source> {
     private final JavaType.Method method;
+    @Getter(AccessLevel.NONE)
+    private final Optional<SpreadInvoker> invoker;
+
+    public StaticMethod(final JavaType.Method method) {
+      this(method, SpreadInvoker.bind(method::unreflect, method.getParameters().size()));
+    }
+
+    StaticMethod(final JavaType.Method method, final Optional<SpreadInvoker> invoker) {
+      this.method = method;
+      this.invoker = invoker;
+    }
 
     @SuppressWarnings("unchecked")
     @Override
-    public Source newInstance(final Context path, final List<Object> arguments) {
+    public Source newInstance(final Context path, final Object[] arguments) {
       try {
-        return (Source) method.invoke(null, arguments.toArray());
-      } catch (final Exception e) {
-        throw path.error("failed to create instance using static method (" + method + ")", e);
+        if (invoker.isPresent()) {
+          return (Source) invoker.get().invoke(arguments);
+        }
+
+        return (Source) method.invoke(null, arguments);
+      } catch (final InvocationTargetException e) {
+        throw failed(path, e.getCause());
+      } catch (final Throwable e) {
+        throw failed(path, e);
       }
     }
 
+    private ContextException failed(final Context path, final Throwable e) {
+      if (e instanceof Error) {
+        throw (Error) e;
+      }
+
+      return path.error("failed to create instance using static method (" + method + ")", e);
+    }
+
     @Override
     public JavaType getInstanceType() {
       return method.getReturnType();
@@ -53,19 +124,47 @@ public interface InstanceBuilder<Source> {
   }
 
   @Data
+  @EqualsAndHashCode(exclude = "invoker")
+  @ToString(exclude = "invoker")
   class Constructor<Source> implements InstanceBuilder<Source> {
     private final JavaType.Constructor constructor;
+    @Getter(AccessLevel.NONE)
+    private final Optional<SpreadInvoker> invoker;
+
+    public Constructor(final JavaType.Constructor constructor) {
+      this(constructor,
+          SpreadInvoker.bind(constructor::unreflect, constructor.getParameters().size()));
+    }
+
+    Constructor(final JavaType.Constructor constructor, final Optional<SpreadInvoker> invoker) {
+      this.constructor = constructor;
+      this.invoker = invoker;
+    }
 
     @SuppressWarnings("unchecked")
     @Override
-    public Source newInstance(final Context path, final List<Object> arguments) {
+    public Source newInstance(final Context path, final Object[] arguments) {
       try {
-        return (Source) constructor.newInstance(arguments.toArray());
-      } catch (final Exception e) {
-        throw path.error("failed to create instance using constructor (" + constructor + ")", e);
+        if (invoker.isPresent()) {
+          return (Source) invoker.get().invoke(arguments);
+        }
+
+        return (Source) constructor.newInstance(arguments);
+      } catch (final InvocationTargetException e) {
+        throw failed(path, e.getCause());
+      } catch (final Throwable e) {
+        throw failed(path, e);
       }
     }
 
+    private ContextException failed(final Context path, final Throwable e) {
+      if (e instanceof Error) {
+        throw (Error) e;
+      }
+
+      return path.error("failed to create instance using constructor (" + constructor + ")", e);
+    }
+
     @Override
     public JavaType getInstanceType() {
       return constructor.getType();
@@ -9,13 +9,24 @@ import java.util.stream.Stream;
 
 public class MatcherRegistry<T> {
   private final List<Entry<T>> entries = new ArrayList<>();
+  /* rebuilt whenever an entry is added, registries are typically populated once */
+  private volatile RawTypeIndex<Entry<T>> index = newIndex();
 
-  public void add(final TypeMatcher matcher, final T value) {
+  public synchronized void add(final TypeMatcher matcher, final T value) {
     entries.add(new Entry<>(matcher, value));
+    index = newIndex();
   }
 
   public Stream<T> find(final JavaType type) {
-    return entries.stream().filter(e -> e.matcher.matches(type)).map(Entry::getValue);
+    return index
+        .get(type.getType())
+        .stream()
+        .filter(e -> e.matcher.matches(type))
+        .map(Entry::getValue);
+  }
+
+  private RawTypeIndex<Entry<T>> newIndex() {
+    return new RawTypeIndex<>(entries, (e, raw) -> e.matcher.mayMatch(raw));
   }
 
   @Data
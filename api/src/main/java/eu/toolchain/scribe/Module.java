@@ -3,4 +3,17 @@ package eu.toolchain.scribe;
 @FunctionalInterface
 public interface Module {
   void register(final ScribeBuilder builder);
+
+  /**
+   * Version of the detectors registered by this module, which is part of the configuration
+   * fingerprint of resolvers it is installed in.
+   * <p>
+   * Detectors are otherwise only fingerprinted by class, so modules registering lambdas should
+   * declare a version, and change it when what those detect changes.
+   *
+   * @return The version of this module, or an empty string if it doesn't declare one.
+   */
+  default String version() {
+    return "";
+  }
 }
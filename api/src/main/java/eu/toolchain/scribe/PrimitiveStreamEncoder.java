@@ -0,0 +1,45 @@
+package eu.toolchain.scribe;
+
+/**
+ * Stream encoders which can encode primitive values without boxing them.
+ * <p>
+ * Fields of a primitive type are read and encoded through these when the encoder for the field
+ * implements them.
+ */
+public interface PrimitiveStreamEncoder {
+  interface OfInt<Target> extends StreamEncoder<Target, Integer> {
+    void streamEncodeInt(Context path, int instance, Target target);
+
+    @Override
+    default void streamEncode(Context path, Integer instance, Target target) {
+      streamEncodeInt(path, instance, target);
+    }
+  }
+
+  interface OfLong<Target> extends StreamEncoder<Target, Long> {
+    void streamEncodeLong(Context path, long instance, Target target);
+
+    @Override
+    default void streamEncode(Context path, Long instance, Target target) {
+      streamEncodeLong(path, instance, target);
+    }
+  }
+
+  interface OfDouble<Target> extends StreamEncoder<Target, Double> {
+    void streamEncodeDouble(Context path, double instance, Target target);
+
+    @Override
+    default void streamEncode(Context path, Double instance, Target target) {
+      streamEncodeDouble(path, instance, target);
+    }
+  }
+
+  interface OfBoolean<Target> extends StreamEncoder<Target, Boolean> {
+    void streamEncodeBoolean(Context path, boolean instance, Target target);
+
+    @Override
+    default void streamEncode(Context path, Boolean instance, Target target) {
+      streamEncodeBoolean(path, instance, target);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package eu.toolchain.scribe;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiPredicate;
+
+/**
+ * Indexes a list of values by the raw classes that they apply to.
+ * <p>
+ * The candidates for each raw class are computed once, in the order of the indexed list, and
+ * stored in a {@link ClassValue}.
+ *
+ * @param <T> Type of indexed values.
+ */
+public class RawTypeIndex<T> {
+  private final ClassValue<List<T>> candidates;
+
+  /**
+   * Create a new index.
+   *
+   * @param values Values to index.
+   * @param applies Predicate checking if a value could apply to a given raw class.
+   */
+  public RawTypeIndex(final List<T> values, final BiPredicate<T, Class<?>> applies) {
+    final List<T> copy = new ArrayList<>(values);
+
+    this.candidates = new ClassValue<List<T>>() {
+      @Override
+      protected List<T> computeValue(final Class<?> raw) {
+        final List<T> result = new ArrayList<>();
+
+        for (final T value : copy) {
+          if (applies.test(value, raw)) {
+            result.add(value);
+          }
+        }
+
+        return Collections.unmodifiableList(result);
+      }
+    };
+  }
+
+  /**
+   * Get all values which could apply to the given raw class.
+   *
+   * @param raw Raw class to get values for.
+   * @return Values which could apply to the given raw class.
+   */
+  public List<T> get(final Class<?> raw) {
+    return candidates.get(raw);
+  }
+}
@@ -12,6 +12,9 @@ import eu.toolchain.scribe.detector.MappingDetector;
 import eu.toolchain.scribe.detector.SubTypesDetector;
 import eu.toolchain.scribe.detector.TypeAliasDetector;
 import eu.toolchain.scribe.detector.TypeNameDetector;
+import eu.toolchain.scribe.reflection.JavaType;
+
+import java.util.function.Function;
 
 public interface ScribeBuilder {
   /**
@@ -54,6 +57,26 @@ public interface ScribeBuilder {
    */
   ScribeBuilder classEncoding(ClassEncodingDetector detector);
 
+  /**
+   * Install a class encoding for a specific type.
+   * <p>
+   * Class encodings installed this way bypass class encoding detection for the given type, which
+   * is typically used for encodings that have been generated at compile time.
+   *
+   * @param type Type to install class encoding for.
+   * @param encoding Function creating the class encoding, which might return {@code null} to fall
+   * back to detection.
+   * @return This builder.
+   * @throws UnsupportedOperationException If the builder can not install class encodings for
+   * specific types.
+   */
+  default ScribeBuilder classEncoding(
+      JavaType type, Function<EntityResolver, ClassEncoding<Object>> encoding
+  ) {
+    throw new UnsupportedOperationException(
+        "Class encodings for specific types are not supported by this builder");
+  }
+
   /**
    * Install an sub types detector.
    *
@@ -0,0 +1,51 @@
+package eu.toolchain.scribe;
+
+import lombok.Data;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Optional;
+
+/**
+ * An executable bound once into a method handle which takes all of its arguments as a single,
+ * pre-sized array.
+ */
+@Data
+public class SpreadInvoker {
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  private static final MethodType SPREAD_TYPE =
+      MethodType.methodType(Object.class, Object[].class);
+
+  private final MethodHandle handle;
+
+  public Object invoke(final Object[] arguments) throws Throwable {
+    return (Object) handle.invokeExact(arguments);
+  }
+
+  /**
+   * Bind the given executable.
+   *
+   * @param unreflect Function producing a method handle for the executable.
+   * @param arity Number of arguments the executable takes.
+   * @return A spread invoker, or empty if the executable is not accessible.
+   */
+  public static Optional<SpreadInvoker> bind(final Unreflect unreflect, final int arity) {
+    final MethodHandle handle;
+
+    try {
+      handle = unreflect.unreflect(LOOKUP);
+    } catch (final IllegalAccessException e) {
+      return Optional.empty();
+    }
+
+    return Optional.of(
+        new SpreadInvoker(handle.asSpreader(Object[].class, arity).asType(SPREAD_TYPE)));
+  }
+
+  @FunctionalInterface
+  public interface Unreflect {
+    MethodHandle unreflect(MethodHandles.Lookup lookup) throws IllegalAccessException;
+  }
+}
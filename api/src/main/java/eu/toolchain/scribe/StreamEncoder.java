@@ -15,9 +15,26 @@ public interface StreamEncoder<Target, Source> {
     streamEncode(Context.ROOT, instance, target);
   }
 
+  /**
+   * Check if the given instance is absent, and should be omitted where it is the value of a field
+   * or an element of a collection.
+   *
+   * @see Encoder#isAbsent(Object)
+   */
+  default boolean isAbsent(Source instance) {
+    return false;
+  }
+
+  /**
+   * @deprecated Check {@link #isAbsent(Object)}, and encode with
+   * {@link #streamEncode(Context, Object, Object)} instead.
+   */
+  @Deprecated
   default void streamEncodeOptionally(
       Context path, Source instance, Target target, Consumer<Runnable> callback
   ) {
-    callback.accept(() -> streamEncode(path, instance, target));
+    if (!isAbsent(instance)) {
+      callback.accept(() -> streamEncode(path, instance, target));
+    }
   }
 }
@@ -5,6 +5,7 @@ import lombok.Data;
 
 import java.lang.reflect.Type;
 import java.util.Arrays;
+import java.util.Map;
 
 /**
  * Utility functions for matching types.
@@ -18,6 +19,19 @@ public interface TypeMatcher {
    */
   boolean matches(final JavaType type);
 
+  /**
+   * Check if the current matcher could match any type with the given raw class.
+   * <p>
+   * This is used to index matchers by raw class, so it must return {@code true} if
+   * {@link #matches(JavaType)} returns {@code true} for any type with the given raw class.
+   *
+   * @param raw Raw class to check.
+   * @return {@code false} if the current matcher never matches types with the given raw class.
+   */
+  default boolean mayMatch(final Class<?> raw) {
+    return true;
+  }
+
   /**
    * Creates a matcher for a given primitive type.
    *
@@ -31,12 +45,11 @@ public interface TypeMatcher {
       throw new IllegalArgumentException("Not a primitive type: " + primitive);
     }
 
-    final JavaType expect = JavaType.PRIMITIVES_TO_BOXED.getOrDefault(primitive, primitive);
-    return type -> JavaType.PRIMITIVES_TO_BOXED.getOrDefault(type, type).equals(expect);
+    return new Primitive(JavaType.PRIMITIVES_TO_BOXED.getOrDefault(primitive, primitive));
   }
 
   static TypeMatcher isPrimitive() {
-    return JavaType::isPrimitive;
+    return new AnyPrimitive();
   }
 
   static TypeMatcher not(TypeMatcher matcher) {
@@ -44,7 +57,7 @@ public interface TypeMatcher {
   }
 
   static TypeMatcher isArray() {
-    return JavaType::isArray;
+    return new IsArray();
   }
 
   static TypeMatcher inPackage(final String packageName) {
@@ -56,15 +69,15 @@ public interface TypeMatcher {
   }
 
   static TypeMatcher anyOf(final TypeMatcher... matchers) {
-    return type -> Arrays.stream(matchers).anyMatch(m -> m.matches(type));
+    return new AnyOf(matchers);
   }
 
   static TypeMatcher allOf(final TypeMatcher... matchers) {
-    return type -> Arrays.stream(matchers).allMatch(m -> m.matches(type));
+    return new AllOf(matchers);
   }
 
   static TypeMatcher instance(final Class<?> base) {
-    return type -> base.isAssignableFrom(type.getType());
+    return new Instance(base);
   }
 
   static TypeMatcher type(final Class<?> base, final TypeMatcher... parameters) {
@@ -77,6 +90,101 @@ public interface TypeMatcher {
     return new Parameterized(base, parameters);
   }
 
+  @Data
+  class Primitive implements TypeMatcher {
+    /**
+     * The boxed primitive type to match.
+     */
+    private final JavaType boxed;
+
+    @Override
+    public boolean matches(final JavaType type) {
+      return JavaType.PRIMITIVES_TO_BOXED.getOrDefault(type, type).equals(boxed);
+    }
+
+    @Override
+    public boolean mayMatch(final Class<?> raw) {
+      return raw == boxed.getType() || raw == boxed.asUnboxed().getType();
+    }
+  }
+
+  @Data
+  class AnyPrimitive implements TypeMatcher {
+    @Override
+    public boolean matches(final JavaType type) {
+      return type.isPrimitive();
+    }
+
+    @Override
+    public boolean mayMatch(final Class<?> raw) {
+      for (final Map.Entry<JavaType, JavaType> e : JavaType.PRIMITIVES_TO_BOXED.entrySet()) {
+        if (raw == e.getKey().getType() || raw == e.getValue().getType()) {
+          return true;
+        }
+      }
+
+      return false;
+    }
+  }
+
+  @Data
+  class IsArray implements TypeMatcher {
+    @Override
+    public boolean matches(final JavaType type) {
+      return type.isArray();
+    }
+
+    @Override
+    public boolean mayMatch(final Class<?> raw) {
+      return raw.isArray();
+    }
+  }
+
+  @Data
+  class AnyOf implements TypeMatcher {
+    private final TypeMatcher[] matchers;
+
+    @Override
+    public boolean matches(final JavaType type) {
+      return Arrays.stream(matchers).anyMatch(m -> m.matches(type));
+    }
+
+    @Override
+    public boolean mayMatch(final Class<?> raw) {
+      return Arrays.stream(matchers).anyMatch(m -> m.mayMatch(raw));
+    }
+  }
+
+  @Data
+  class AllOf implements TypeMatcher {
+    private final TypeMatcher[] matchers;
+
+    @Override
+    public boolean matches(final JavaType type) {
+      return Arrays.stream(matchers).allMatch(m -> m.matches(type));
+    }
+
+    @Override
+    public boolean mayMatch(final Class<?> raw) {
+      return Arrays.stream(matchers).allMatch(m -> m.mayMatch(raw));
+    }
+  }
+
+  @Data
+  class Instance implements TypeMatcher {
+    private final Class<?> base;
+
+    @Override
+    public boolean matches(final JavaType type) {
+      return base.isAssignableFrom(type.getType());
+    }
+
+    @Override
+    public boolean mayMatch(final Class<?> raw) {
+      return base.isAssignableFrom(raw);
+    }
+  }
+
   @Data
   class InPackage implements TypeMatcher {
     private final String packageName;
@@ -85,6 +193,11 @@ public interface TypeMatcher {
     public boolean matches(final JavaType type) {
       return type.getType().getPackage().getName().startsWith(packageName + ".");
     }
+
+    @Override
+    public boolean mayMatch(final Class<?> raw) {
+      return raw.getPackage() != null && raw.getPackage().getName().startsWith(packageName + ".");
+    }
   }
 
   @Data
@@ -103,6 +216,11 @@ public interface TypeMatcher {
     public boolean matches(final JavaType type) {
       return base.equals(type.getType());
     }
+
+    @Override
+    public boolean mayMatch(final Class<?> raw) {
+      return base.equals(raw);
+    }
   }
 
   @Data
@@ -126,5 +244,10 @@ public interface TypeMatcher {
 
       return true;
     }
+
+    @Override
+    public boolean mayMatch(final Class<?> raw) {
+      return base.equals(raw);
+    }
   }
 }
@@ -12,14 +12,45 @@ import java.util.stream.Stream;
 public interface MappingDetector {
   Stream<Match<Mapping<Object>>> detect(EntityResolver resolver, JavaType type);
 
+  /**
+   * Check if this detector could detect a mapping for any type with the given raw class.
+   *
+   * @param raw Raw class to check.
+   * @return {@code false} if this detector never detects mappings for the given raw class.
+   * @see TypeMatcher#mayMatch(Class)
+   */
+  default boolean mayDetect(final Class<?> raw) {
+    return true;
+  }
+
   static MappingDetector matchMapping(
       final TypeMatcher matcher, final Function<JavaType, Mapping<Object>> mapping
   ) {
-    return (resolver, type) -> {
-      final Stream<Mapping<Object>> stream =
-          matcher.matches(type) ? Stream.of(mapping.apply(type)) : Stream.empty();
+    return matching(matcher, (resolver, type) -> Stream
+        .of(mapping.apply(type))
+        .map(Match.withPriority(MatchPriority.HIGH)));
+  }
+
+  /**
+   * Restrict the given detector to types matched by the given matcher.
+   *
+   * @param matcher Matcher for the types to detect.
+   * @param detector Detector to restrict.
+   * @return A detector which is only used for matching types.
+   */
+  static MappingDetector matching(final TypeMatcher matcher, final MappingDetector detector) {
+    return new MappingDetector() {
+      @Override
+      public Stream<Match<Mapping<Object>>> detect(
+          final EntityResolver resolver, final JavaType type
+      ) {
+        return matcher.matches(type) ? detector.detect(resolver, type) : Stream.empty();
+      }
 
-      return stream.map(Match.withPriority(MatchPriority.HIGH));
+      @Override
+      public boolean mayDetect(final Class<?> raw) {
+        return matcher.mayMatch(raw);
+      }
     };
   }
 }
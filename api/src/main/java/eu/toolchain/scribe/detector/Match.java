@@ -5,10 +5,10 @@ import lombok.Data;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Data
@@ -26,18 +26,42 @@ public class Match<T> {
   public static <S, T> Optional<T> bestUniqueMatch(
       Stream<S> alternatives, Function<S, Stream<Match<T>>> map
   ) {
-    final List<Match<T>> results = alternatives.flatMap(map).collect(Collectors.toList());
+    final Iterator<Match<T>> it = alternatives.flatMap(map).iterator();
 
-    final List<Match<T>> sorted = new ArrayList<>(results);
-    Collections.sort(sorted, BY_PRIORITY);
+    if (!it.hasNext()) {
+      return Optional.empty();
+    }
+
+    Match<T> best = it.next();
+    /* only allocated when there are conflicting matches */
+    List<Match<T>> all = null;
+    boolean conflict = false;
+
+    while (it.hasNext()) {
+      final Match<T> next = it.next();
 
-    if (results.size() > 1) {
-      if (sorted.get(0).getPriority() == sorted.get(1).getPriority()) {
-        throw new IllegalArgumentException(
-            "Found multiple matches with the same priority: " + sorted);
+      if (all == null) {
+        all = new ArrayList<>();
+        all.add(best);
       }
+
+      all.add(next);
+
+      final int compare = BY_PRIORITY.compare(next, best);
+
+      if (compare < 0) {
+        best = next;
+        conflict = false;
+      } else if (compare == 0) {
+        conflict = true;
+      }
+    }
+
+    if (conflict) {
+      Collections.sort(all, BY_PRIORITY);
+      throw new IllegalArgumentException("Found multiple matches with the same priority: " + all);
     }
 
-    return sorted.stream().map(Match::getValue).findFirst();
+    return Optional.of(best.getValue());
   }
 }
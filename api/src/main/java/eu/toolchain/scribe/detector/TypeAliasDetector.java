@@ -5,6 +5,7 @@ import eu.toolchain.scribe.TypeMatcher;
 import eu.toolchain.scribe.reflection.Annotations;
 import eu.toolchain.scribe.reflection.JavaType;
 
+import java.lang.annotation.Annotation;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -15,6 +16,31 @@ import java.util.stream.Stream;
 public interface TypeAliasDetector<From, To> {
   Stream<TypeAlias<From, To>> detect(JavaType type, Annotations annotations);
 
+  /**
+   * Check if this detector could detect an alias for any type with the given raw class.
+   *
+   * @param raw Raw class to check.
+   * @return {@code false} if this detector never detects aliases for the given raw class.
+   * @see TypeMatcher#mayMatch(Class)
+   */
+  default boolean mayDetect(final Class<?> raw) {
+    return true;
+  }
+
+  /**
+   * Check if annotations of the given type could influence this detector.
+   * <p>
+   * Mappings are cached by type, and the annotations that are relevant to any type alias
+   * detector. Annotations that no detector is influenced by are ignored, which permits fields
+   * with different annotations to share the same mapping.
+   *
+   * @param annotation Type of annotation to check.
+   * @return {@code false} if annotations of the given type never influence this detector.
+   */
+  default boolean isAnnotationRelevant(final Class<? extends Annotation> annotation) {
+    return true;
+  }
+
   /**
    * Setup a simple type alias detector.
    *
@@ -25,8 +51,23 @@ public interface TypeAliasDetector<From, To> {
   static <From, To> TypeAliasDetector<From, To> matchAlias(
       final TypeMatcher matcher, final Function<JavaType, TypeAlias<From, To>> mapping
   ) {
-    return (type, annotations) -> {
-      return matcher.matches(type) ? Stream.of(mapping.apply(type)) : Stream.empty();
+    return new TypeAliasDetector<From, To>() {
+      @Override
+      public Stream<TypeAlias<From, To>> detect(
+          final JavaType type, final Annotations annotations
+      ) {
+        return matcher.matches(type) ? Stream.of(mapping.apply(type)) : Stream.empty();
+      }
+
+      @Override
+      public boolean mayDetect(final Class<?> raw) {
+        return matcher.mayMatch(raw);
+      }
+
+      @Override
+      public boolean isAnnotationRelevant(final Class<? extends Annotation> annotation) {
+        return false;
+      }
     };
   }
 }
@@ -1,38 +1,71 @@
 package eu.toolchain.scribe.reflection;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+/**
+ * An immutable set of annotations, indexed by annotation type.
+ */
 @Data
+@EqualsAndHashCode(of = "annotations")
+@ToString(of = "annotations")
 public class Annotations {
+  private static final Annotations EMPTY = new Annotations(Collections.emptyList());
+
   private final List<Annotation> annotations;
+  @Getter(AccessLevel.NONE)
+  private final Map<Class<? extends Annotation>, List<Annotation>> byType;
+
+  public Annotations(final List<Annotation> annotations) {
+    final List<Annotation> copy = new ArrayList<>(annotations);
+    final Map<Class<? extends Annotation>, List<Annotation>> byType = new HashMap<>();
+
+    for (final Annotation a : copy) {
+      byType.computeIfAbsent(a.annotationType(), t -> new ArrayList<>(1)).add(a);
+    }
+
+    this.annotations = Collections.unmodifiableList(copy);
+    this.byType = byType;
+  }
 
   public boolean isAnnotationPresent(final Class<? extends Annotation> annotation) {
-    return annotations
-        .stream()
-        .filter(a -> annotation.isAssignableFrom(a.getClass()))
-        .findFirst()
-        .isPresent();
+    if (annotation == Annotation.class) {
+      return !annotations.isEmpty();
+    }
+
+    return byType.containsKey(annotation);
   }
 
   public <T extends Annotation> Stream<T> getAnnotation(final Class<T> annotation) {
-    return annotations
-        .stream()
-        .filter(a -> annotation.isAssignableFrom(a.getClass()))
-        .map(annotation::cast);
+    if (annotation == Annotation.class) {
+      return annotations.stream().map(annotation::cast);
+    }
+
+    return byType.getOrDefault(annotation, Collections.emptyList()).stream().map(annotation::cast);
   }
 
   public static Annotations of(final Annotation... annotations) {
-    return new Annotations(Stream.of(annotations).collect(Collectors.toList()));
+    if (annotations.length == 0) {
+      return EMPTY;
+    }
+
+    return new Annotations(Arrays.asList(annotations));
   }
 
   public static Annotations of(final Stream<Annotation> annotations) {
@@ -40,11 +73,19 @@ public class Annotations {
   }
 
   public static Annotations empty() {
-    return new Annotations(Collections.emptyList());
+    return EMPTY;
   }
 
   public Annotations merge(final Annotations a) {
-    final HashSet<Annotation> annotations = new HashSet<>(this.annotations);
+    if (a.annotations.isEmpty()) {
+      return this;
+    }
+
+    if (annotations.isEmpty()) {
+      return a;
+    }
+
+    final LinkedHashSet<Annotation> annotations = new LinkedHashSet<>(this.annotations);
     annotations.addAll(a.annotations);
     return new Annotations(new ArrayList<>(annotations));
   }
@@ -6,27 +6,50 @@ import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Data
-@EqualsAndHashCode(of = {"type", "typeParameters"})
 public class JavaType implements AccessibleType, AnnotatedType {
+  /**
+   * Canonical instances, per raw class.
+   * <p>
+   * Must be initialized before any other static field, since those construct types.
+   */
+  private static final ClassValue<Canonical> CANONICAL = new ClassValue<Canonical>() {
+    @Override
+    protected Canonical computeValue(final Class<?> type) {
+      return new Canonical(type);
+    }
+  };
+
   /**
    * All unboxed primitive classes to their boxed equivalent, excluding void.
    */
@@ -47,6 +70,28 @@ public class JavaType implements AccessibleType, AnnotatedType {
   private final java.lang.Class<?> type;
   private final List<JavaType> typeParameters;
 
+  @Getter(AccessLevel.NONE)
+  private final int hashCode;
+
+  /**
+   * Lazily built table of declared members.
+   * <p>
+   * Building it is idempotent, so racing threads at worst build it more than once.
+   */
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private volatile Members members;
+
+  private JavaType(
+      final Optional<TypeVariableTree> parent, final java.lang.Class<?> type,
+      final List<JavaType> typeParameters
+  ) {
+    this.parent = parent;
+    this.type = type;
+    this.typeParameters = typeParameters;
+    this.hashCode = 31 * type.hashCode() + typeParameters.hashCode();
+  }
+
   /**
    * Check if the given type is boxed.
    * <p>
@@ -105,61 +150,46 @@ public class JavaType implements AccessibleType, AnnotatedType {
   }
 
   public Optional<Field> getField(final String field) {
-    return getFields().filter(f -> f.getName().equals(field)).findFirst();
+    return Optional.ofNullable(members().fieldsByName.get(field));
   }
 
   public Stream<Field> getFields() {
-    return Arrays.stream(type.getDeclaredFields()).map(f -> {
-      final JavaType fieldType = of(f.getGenericType(), parent);
-      final List<Annotation> annotations = immutableCopy(f.getAnnotations());
-      return new Field(annotations, f.getModifiers(), fieldType, f.getName());
-    });
+    return members().fields.stream();
   }
 
   public Stream<Method> getMethod(final String name, final JavaType... parameterTypes) {
-    final List<JavaType> parameters = immutableCopy(parameterTypes);
-
-    return getMethods()
-        .filter(m -> m.getName().equals(name))
-        .filter(m -> m
-            .getParameters()
-            .stream()
-            .map(Parameter::getParameterType)
-            .collect(Collectors.toList())
-            .equals(parameters));
+    return members()
+        .methodsByName
+        .getOrDefault(name, Collections.emptyList())
+        .stream()
+        .filter(m -> parametersMatch(m.getParameters(), parameterTypes));
   }
 
   public Stream<Method> getMethods() {
-    return Arrays.stream(type.getDeclaredMethods()).map(m -> {
-      final JavaType returnType = of(m.getGenericReturnType(), parent);
-      final List<Parameter> parameters = buildParameters(m, parent);
-      final List<Annotation> annotations = immutableCopy(m.getAnnotations());
-      return new Method(m, this, annotations, m.getModifiers(), returnType, m.getName(),
-          parameters);
-    });
+    return members().methods.stream();
   }
 
   public Stream<Constructor> getConstructors() {
-    return Arrays.stream(type.getDeclaredConstructors()).map(m -> {
-      final List<Parameter> parameters = buildParameters(m, parent);
-      return new Constructor(m, this, parameters, immutableCopy(m.getAnnotations()),
-          m.getModifiers(), this);
-    });
+    return members().constructors.stream();
   }
 
   public Optional<Constructor> getConstructor(final JavaType... parameterTypes) {
-    final List<JavaType> parameters = immutableCopy(parameterTypes);
-
     return getConstructors()
-        .filter(m -> m
-            .getParameters()
-            .stream()
-            .map(Parameter::getParameterType)
-            .collect(Collectors.toList())
-            .equals(parameters))
+        .filter(c -> parametersMatch(c.getParameters(), parameterTypes))
         .findFirst();
   }
 
+  private Members members() {
+    Members m = members;
+
+    if (m == null) {
+      m = Members.build(this);
+      members = m;
+    }
+
+    return m;
+  }
+
   @Override
   public int getModifiers() {
     return type.getModifiers();
@@ -176,6 +206,27 @@ public class JavaType implements AccessibleType, AnnotatedType {
     return function.apply(this).filter(m -> m.isAnnotationPresent(annotation));
   }
 
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (!(o instanceof JavaType)) {
+      return false;
+    }
+
+    final JavaType other = (JavaType) o;
+
+    return hashCode == other.hashCode && type.equals(other.type) &&
+        typeParameters.equals(other.typeParameters);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
   @Override
   public String toString() {
     if (typeParameters.size() == 0) {
@@ -217,17 +268,25 @@ public class JavaType implements AccessibleType, AnnotatedType {
   public static JavaType of(final Type type, final Optional<TypeVariableTree> parent) {
     if (type instanceof java.lang.Class<?>) {
       final Class<?> c = (Class<?>) type;
+      final Canonical canonical = CANONICAL.get(c);
 
-      final List<JavaType> typeParameters;
+      if (c.getTypeParameters().length == 0) {
+        if (canonical.plain != null) {
+          return canonical.plain;
+        }
 
-      if (c.getTypeParameters().length > 0) {
-        final TypeVariableTree p =
-            parent.orElseThrow(() -> new IllegalArgumentException("No type information available"));
+        return new JavaType(parent, c, Collections.emptyList());
+      }
 
-        typeParameters =
-            Arrays.stream(c.getTypeParameters()).map(p::lookup).collect(Collectors.toList());
-      } else {
-        typeParameters = Collections.emptyList();
+      final TypeVariableTree p =
+          parent.orElseThrow(() -> new IllegalArgumentException("No type information available"));
+
+      final List<JavaType> typeParameters = Collections.unmodifiableList(
+          Arrays.stream(c.getTypeParameters()).map(p::lookup).collect(Collectors.toList()));
+
+      if (canonical.parameterized != null) {
+        return canonical.parameterized.get(typeParameters,
+            () -> new JavaType(parent, c, typeParameters));
       }
 
       return new JavaType(parent, c, typeParameters);
@@ -264,6 +323,22 @@ public class JavaType implements AccessibleType, AnnotatedType {
     return Collections.unmodifiableList(parameters);
   }
 
+  private static boolean parametersMatch(
+      final List<Parameter> parameters, final JavaType[] parameterTypes
+  ) {
+    if (parameters.size() != parameterTypes.length) {
+      return false;
+    }
+
+    for (int i = 0; i < parameterTypes.length; i++) {
+      if (!parameters.get(i).getParameterType().equals(parameterTypes[i])) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
   private static Map<JavaType, JavaType> primitivesToBoxed() {
     final Map<Type, Type> forward = new HashMap<>();
 
@@ -301,6 +376,185 @@ public class JavaType implements AccessibleType, AnnotatedType {
     return type.getTypeName();
   }
 
+  /**
+   * Canonical instances of a raw class.
+   * <p>
+   * Only top-level and static classes are canonicalized, since the members of inner classes might
+   * refer to type variables of their enclosing instance, which are not part of their identity.
+   */
+  private static class Canonical {
+    private final JavaType plain;
+    private final Parameterized parameterized;
+
+    Canonical(final Class<?> type) {
+      final boolean independent = !type.isLocalClass() && !type.isAnonymousClass() &&
+          (type.getEnclosingClass() == null || Modifier.isStatic(type.getModifiers()));
+
+      if (!independent) {
+        this.plain = null;
+        this.parameterized = null;
+      } else if (type.getTypeParameters().length == 0) {
+        this.plain = new JavaType(Optional.empty(), type, Collections.emptyList());
+        this.parameterized = null;
+      } else {
+        this.plain = null;
+        this.parameterized = new Parameterized();
+      }
+    }
+  }
+
+  /**
+   * Parameterized instances of a raw class.
+   * <p>
+   * Instances are weakly referenced, since their arguments, and the types they were first built
+   * from, might belong to class loaders other than the one of the raw class. Lookups are lock-free,
+   * instances with the same hash are kept in an array which is copied when an instance is added.
+   * Released instances are expunged when adding.
+   */
+  private static class Parameterized {
+    private static final InstanceReference[] EMPTY = new InstanceReference[0];
+
+    private final ConcurrentMap<Integer, InstanceReference[]> instances =
+        new ConcurrentHashMap<>();
+    private final ReferenceQueue<JavaType> released = new ReferenceQueue<>();
+
+    JavaType get(final List<JavaType> parameters, final Supplier<JavaType> build) {
+      final int hash = parameters.hashCode();
+      final JavaType existing = find(instances.get(hash), parameters);
+
+      if (existing != null) {
+        return existing;
+      }
+
+      return add(hash, parameters, build);
+    }
+
+    private synchronized JavaType add(
+        final int hash, final List<JavaType> parameters, final Supplier<JavaType> build
+    ) {
+      expunge();
+
+      final InstanceReference[] candidates = instances.getOrDefault(hash, EMPTY);
+      final JavaType existing = find(candidates, parameters);
+
+      if (existing != null) {
+        return existing;
+      }
+
+      final JavaType instance = build.get();
+      final InstanceReference[] next = Arrays.copyOf(candidates, candidates.length + 1);
+      next[candidates.length] = new InstanceReference(instance, hash, released);
+      instances.put(hash, next);
+      return instance;
+    }
+
+    private static JavaType find(
+        final InstanceReference[] candidates, final List<JavaType> parameters
+    ) {
+      if (candidates == null) {
+        return null;
+      }
+
+      for (final InstanceReference candidate : candidates) {
+        final JavaType instance = candidate.get();
+
+        if (instance != null && instance.typeParameters.equals(parameters)) {
+          return instance;
+        }
+      }
+
+      return null;
+    }
+
+    private void expunge() {
+      Reference<? extends JavaType> reference;
+
+      while ((reference = released.poll()) != null) {
+        final InstanceReference r = (InstanceReference) reference;
+        final InstanceReference[] candidates = instances.get(r.hash);
+
+        if (candidates == null) {
+          continue;
+        }
+
+        final InstanceReference[] next =
+            Arrays.stream(candidates).filter(c -> c != r).toArray(InstanceReference[]::new);
+
+        if (next.length == 0) {
+          instances.remove(r.hash);
+        } else {
+          instances.put(r.hash, next);
+        }
+      }
+    }
+  }
+
+  private static class InstanceReference extends WeakReference<JavaType> {
+    private final int hash;
+
+    InstanceReference(
+        final JavaType instance, final int hash, final ReferenceQueue<JavaType> queue
+    ) {
+      super(instance, queue);
+      this.hash = hash;
+    }
+  }
+
+  /**
+   * Declared members of a type, wrapped and indexed by name.
+   */
+  @RequiredArgsConstructor
+  private static class Members {
+    private final List<Field> fields;
+    private final Map<String, Field> fieldsByName;
+    private final List<Method> methods;
+    private final Map<String, List<Method>> methodsByName;
+    private final List<Constructor> constructors;
+
+    static Members build(final JavaType type) {
+      final Optional<TypeVariableTree> parent = type.parent;
+
+      final List<Field> fields = new ArrayList<>();
+      final Map<String, Field> fieldsByName = new HashMap<>();
+
+      for (final java.lang.reflect.Field f : type.type.getDeclaredFields()) {
+        final JavaType fieldType = of(f.getGenericType(), parent);
+        final List<Annotation> annotations = immutableCopy(f.getAnnotations());
+        final Field field = new Field(annotations, f.getModifiers(), fieldType, f.getName());
+        fields.add(field);
+        fieldsByName.putIfAbsent(field.getName(), field);
+      }
+
+      final List<Method> methods = new ArrayList<>();
+      final Map<String, List<Method>> methodsByName = new LinkedHashMap<>();
+
+      for (final java.lang.reflect.Method m : type.type.getDeclaredMethods()) {
+        final JavaType returnType = of(m.getGenericReturnType(), parent);
+        final List<Parameter> parameters = buildParameters(m, parent);
+        final List<Annotation> annotations = immutableCopy(m.getAnnotations());
+        final Method method =
+            new Method(m, type, annotations, m.getModifiers(), returnType, m.getName(),
+                parameters);
+        methods.add(method);
+        methodsByName.computeIfAbsent(method.getName(), n -> new ArrayList<>()).add(method);
+      }
+
+      final List<Constructor> constructors = new ArrayList<>();
+
+      for (final java.lang.reflect.Constructor<?> c : type.type.getDeclaredConstructors()) {
+        final List<Parameter> parameters = buildParameters(c, parent);
+        constructors.add(new Constructor(c, type, parameters, immutableCopy(c.getAnnotations()),
+            c.getModifiers(), type));
+      }
+
+      methodsByName.replaceAll((name, list) -> Collections.unmodifiableList(list));
+
+      return new Members(Collections.unmodifiableList(fields),
+          Collections.unmodifiableMap(fieldsByName), Collections.unmodifiableList(methods),
+          Collections.unmodifiableMap(methodsByName), Collections.unmodifiableList(constructors));
+    }
+  }
+
   @Data
   public static class Parameter implements AnnotatedType {
     private final JavaType parameterType;
@@ -330,6 +584,18 @@ public class JavaType implements AccessibleType, AnnotatedType {
       return internalType.newInstance(arguments);
     }
 
+    /**
+     * Produce a method handle for this constructor, as seen by the given lookup.
+     *
+     * @param lookup Lookup to use when resolving the method handle.
+     * @return A method handle for this constructor.
+     * @throws IllegalAccessException If the constructor is not accessible to the given lookup.
+     */
+    public MethodHandle unreflect(final MethodHandles.Lookup lookup)
+        throws IllegalAccessException {
+      return lookup.unreflectConstructor(internalType);
+    }
+
     @Override
     public Stream<Annotation> getAnnotationStream() {
       return Arrays.stream(internalType.getAnnotations());
@@ -358,6 +624,18 @@ public class JavaType implements AccessibleType, AnnotatedType {
         throws InvocationTargetException, IllegalAccessException {
       return internalType.invoke(instance, arguments);
     }
+
+    /**
+     * Produce a method handle for this method, as seen by the given lookup.
+     *
+     * @param lookup Lookup to use when resolving the method handle.
+     * @return A method handle for this method.
+     * @throws IllegalAccessException If the method is not accessible to the given lookup.
+     */
+    public MethodHandle unreflect(final MethodHandles.Lookup lookup)
+        throws IllegalAccessException {
+      return lookup.unreflect(internalType);
+    }
   }
 
   @Data
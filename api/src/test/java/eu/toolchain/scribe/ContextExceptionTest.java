@@ -0,0 +1,69 @@
+package eu.toolchain.scribe;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class ContextExceptionTest {
+  @Test
+  public void testMessage() {
+    assertThat(Context.ROOT.error("oops").getMessage(), is("<empty>: oops"));
+    assertThat(Context.ROOT.push("a").push(1).push("b").error("oops").getMessage(),
+        is("a[1].b: oops"));
+    assertThat(Context.STACKLESS_ROOT.push("a").push(1).error("oops").getMessage(),
+        is("a[1]: oops"));
+  }
+
+  @Test
+  public void testStackless() {
+    final ContextException stackless = Context.STACKLESS_ROOT.push("a").error("oops");
+    final ContextException regular = Context.ROOT.push("a").error("oops");
+
+    assertThat(stackless.getStackTrace().length, is(0));
+    assertThat(regular.getStackTrace().length, not(0));
+    assertThat(stackless.pushed(Context.STACKLESS_ROOT, 0).getStackTrace().length, is(0));
+  }
+
+  @Test
+  public void testPushed() {
+    final Context parent = Context.ROOT.push("a");
+    final ContextException e = parent.push("c").push(2).error("oops");
+    final StackTraceElement[] stackTrace = e.getStackTrace();
+
+    /* not raised within the given context */
+    assertThat(e.pushed(Context.ROOT.push("x"), "b"), sameInstance(e));
+    assertThat(e.getMessage(), is("a.c[2]: oops"));
+
+    assertThat(e.pushed(parent, "b"), sameInstance(e));
+    assertThat(e.getMessage(), is("a.b.c[2]: oops"));
+    assertThat(e.getStackTrace(), is(stackTrace));
+
+    e.pushed(Context.ROOT, 0);
+    assertThat(e.getMessage(), is("[0].a.b.c[2]: oops"));
+  }
+
+  @Test
+  public void testPushedDeep() {
+    final int depth = 64;
+    final Context path = Context.STACKLESS_ROOT;
+
+    /* every level passes the same path, and pushes its field only when an error propagates */
+    final ContextException e = path.error("oops");
+
+    for (int i = depth - 1; i >= 0; i--) {
+      assertThat(e.pushed(path, "f" + i), sameInstance(e));
+    }
+
+    final StringBuilder expected = new StringBuilder();
+
+    for (int i = 0; i < depth; i++) {
+      expected.append(i == 0 ? "" : ".").append("f").append(i);
+    }
+
+    assertThat(e.getStackTrace().length, is(0));
+    assertThat(e.getMessage(), is(expected + ": oops"));
+  }
+}
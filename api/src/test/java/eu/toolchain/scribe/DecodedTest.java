@@ -71,4 +71,25 @@ public class DecodedTest {
     present.ifPresent(ticker::addAndGet);
     assertThat(ticker.get(), is(value));
   }
+
+  @Test
+  public void testOrAbsent() {
+    assertThat(present.orAbsent(), is(value));
+    assertThat(absent.orAbsent(), is(Decoded.ABSENT_VALUE));
+    assertThat(Decoded.ofOrAbsent(value), is(of(value)));
+    assertThat(Decoded.ofOrAbsent(Decoded.ABSENT_VALUE), is(absent()));
+  }
+
+  @Test
+  public void testDirectDecoder() {
+    final DirectDecoder<Integer, Integer> decoder =
+        (path, instance) -> instance < 0 ? Decoded.ABSENT_VALUE : instance + 1;
+
+    assertThat(decoder.decode(Context.ROOT, value), is(of(value + 1)));
+    assertThat(decoder.decode(Context.ROOT, -1), is(absent()));
+    assertThat(decoder.decodeOptionally(Context.ROOT, present), is(of(value + 1)));
+    assertThat(decoder.decodeOptionally(Context.ROOT, absent), is(absent()));
+    assertThat(decoder.decodeOptionallyOrAbsent(Context.ROOT, Decoded.ABSENT_VALUE),
+        is(Decoded.ABSENT_VALUE));
+  }
 }
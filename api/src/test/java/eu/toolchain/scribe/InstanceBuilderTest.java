@@ -0,0 +1,93 @@
+package eu.toolchain.scribe;
+
+import eu.toolchain.scribe.reflection.JavaType;
+import lombok.Data;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class InstanceBuilderTest {
+  private static final JavaType INT = JavaType.of(int.class);
+  private static final JavaType STRING = JavaType.of(String.class);
+
+  @Data
+  public static class Entity {
+    private final int number;
+    private final String string;
+
+    public static Entity build(final int number, final String string) {
+      return new Entity(number, string);
+    }
+  }
+
+  public static class Failing {
+    public Failing(final int number) {
+      throw new StackOverflowError();
+    }
+
+    public static Failing build(final int number) {
+      throw new StackOverflowError();
+    }
+  }
+
+  @Test
+  public void testConstructor() {
+    final InstanceBuilder<Object> builder = InstanceBuilder.fromConstructor(
+        JavaType.of(Entity.class).getConstructor(INT, STRING).get());
+
+    assertThat(builder.newInstance(Context.ROOT, new Object[]{42, "foo"}),
+        is(new Entity(42, "foo")));
+  }
+
+  @Test
+  public void testStaticMethod() {
+    final InstanceBuilder<Object> builder = InstanceBuilder.fromStaticMethod(
+        JavaType.of(Entity.class).getMethod("build", INT, STRING).findFirst().get());
+
+    assertThat(builder.newInstance(Context.ROOT, new Object[]{42, "foo"}),
+        is(new Entity(42, "foo")));
+  }
+
+  @Test(expected = ContextException.class)
+  public void testIllegalArgument() {
+    final InstanceBuilder<Object> builder = InstanceBuilder.fromConstructor(
+        JavaType.of(Entity.class).getConstructor(INT, STRING).get());
+
+    builder.newInstance(Context.ROOT, new Object[]{null, "foo"});
+  }
+
+  @Test(expected = StackOverflowError.class)
+  public void testErrorIsNotWrapped() {
+    final InstanceBuilder<Object> builder =
+        InstanceBuilder.fromConstructor(JavaType.of(Failing.class).getConstructor(INT).get());
+
+    builder.newInstance(Context.ROOT, new Object[]{42});
+  }
+
+  @Test(expected = StackOverflowError.class)
+  public void testErrorIsNotWrappedByReflectiveConstructor() {
+    final InstanceBuilder<Object> builder = new InstanceBuilder.Constructor<>(
+        JavaType.of(Failing.class).getConstructor(INT).get(), Optional.empty());
+
+    builder.newInstance(Context.ROOT, new Object[]{42});
+  }
+
+  @Test(expected = StackOverflowError.class)
+  public void testErrorIsNotWrappedByReflectiveStaticMethod() {
+    final InstanceBuilder<Object> builder = new InstanceBuilder.StaticMethod<>(
+        JavaType.of(Failing.class).getMethod("build", INT).findFirst().get(), Optional.empty());
+
+    builder.newInstance(Context.ROOT, new Object[]{42});
+  }
+
+  @Test(expected = ContextException.class)
+  public void testIllegalArgumentReflective() {
+    final InstanceBuilder<Object> builder = new InstanceBuilder.Constructor<>(
+        JavaType.of(Entity.class).getConstructor(INT, STRING).get(), Optional.empty());
+
+    builder.newInstance(Context.ROOT, new Object[]{null, "foo"});
+  }
+}
@@ -41,4 +41,16 @@ public class TypeMatcherTest {
     assertTrue(type(Map.class, type(String.class), type(String.class)).matches(t));
     assertFalse(type(Map.class, type(String.class), type(List.class, any())).matches(t));
   }
+
+  @Test
+  public void testMayMatch() {
+    assertTrue(TypeMatcher.isPrimitive().mayMatch(int.class));
+    assertTrue(TypeMatcher.isPrimitive().mayMatch(Integer.class));
+    assertFalse(TypeMatcher.isPrimitive().mayMatch(String.class));
+    assertTrue(TypeMatcher.isPrimitive(boolean.class).mayMatch(Boolean.class));
+    assertFalse(TypeMatcher.isPrimitive(boolean.class).mayMatch(int.class));
+    assertTrue(type(Map.class, any(), any()).mayMatch(Map.class));
+    assertFalse(type(Map.class, any(), any()).mayMatch(List.class));
+    assertTrue(TypeMatcher.not(type(String.class)).mayMatch(String.class));
+  }
 }
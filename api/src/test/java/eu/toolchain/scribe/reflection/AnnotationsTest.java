@@ -0,0 +1,59 @@
+package eu.toolchain.scribe.reflection;
+
+import org.junit.Test;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class AnnotationsTest {
+  @Retention(RetentionPolicy.RUNTIME)
+  @interface First {
+  }
+
+  @Retention(RetentionPolicy.RUNTIME)
+  @interface Second {
+  }
+
+  @First
+  @Second
+  static class Both {
+  }
+
+  @First
+  static class One {
+  }
+
+  @Test
+  public void testLookup() {
+    final Annotations annotations = Annotations.of(One.class.getAnnotations());
+
+    assertTrue(annotations.isAnnotationPresent(First.class));
+    assertFalse(annotations.isAnnotationPresent(Second.class));
+    assertTrue(annotations.isAnnotationPresent(Annotation.class));
+    assertEquals(1, annotations.getAnnotation(First.class).count());
+    assertEquals(0, annotations.getAnnotation(Second.class).count());
+  }
+
+  @Test
+  public void testMerge() {
+    final Annotations one = Annotations.of(One.class.getAnnotations());
+    final Annotations both = Annotations.of(Both.class.getAnnotations());
+
+    final Annotations merged = one.merge(both);
+
+    assertEquals(2, merged.getAnnotations().size());
+    assertEquals(merged.getAnnotations(),
+        merged.getAnnotation(Annotation.class).collect(Collectors.toList()));
+    assertTrue(merged.isAnnotationPresent(Second.class));
+
+    assertSame(one, one.merge(Annotations.empty()));
+    assertSame(one, Annotations.empty().merge(one));
+  }
+}
@@ -4,11 +4,20 @@ import eu.toolchain.scribe.TypeReference;
 import lombok.Data;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class JavaTypeTest {
@@ -107,6 +116,127 @@ public class JavaTypeTest {
     assertNotNull(type.getMethod("one", JavaType.of(String.class)));
   }
 
+  static class TestOverloads {
+    public void method() {
+    }
+
+    public void method(String first) {
+    }
+
+    public void method(String first, int second) {
+    }
+  }
+
+  @Test
+  public void testOverloads() {
+    final JavaType type = JavaType.of(TestOverloads.class);
+    final JavaType string = JavaType.of(String.class);
+
+    assertEquals(1, type.getMethod("method").count());
+    assertEquals(1, type.getMethod("method", string).count());
+    assertEquals(1, type.getMethod("method", string, JavaType.of(int.class)).count());
+    assertEquals(0, type.getMethod("method", JavaType.of(int.class)).count());
+    assertEquals(0, type.getMethod("missing").count());
+
+    // member tables are built once per type
+    assertSame(type.getMethod("method").findFirst().get(),
+        type.getMethod("method").findFirst().get());
+  }
+
+  @Test
+  public void testCanonical() {
+    assertSame(JavaType.of(String.class), JavaType.of(String.class));
+    assertSame(JavaType.of(new TypeReference<List<String>>() {
+    }), JavaType.of(new TypeReference<List<String>>() {
+    }));
+    assertNotSame(JavaType.of(new TypeReference<List<String>>() {
+    }), JavaType.of(new TypeReference<List<Integer>>() {
+    }));
+  }
+
+  @Test
+  public void testParameterizedReleased() throws Exception {
+    final WeakReference<ClassLoader> loader = listOfIsolated();
+
+    for (int i = 0; i < 50 && loader.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+
+    assertNull(loader.get());
+  }
+
+  private WeakReference<ClassLoader> listOfIsolated() throws IOException {
+    final Isolated loader = new Isolated();
+    final Class<?> isolated = loader.define(Unloadable.class);
+
+    final JavaType type = JavaType.of(new ParameterizedType() {
+      @Override
+      public Type[] getActualTypeArguments() {
+        return new Type[]{isolated};
+      }
+
+      @Override
+      public Type getRawType() {
+        return List.class;
+      }
+
+      @Override
+      public Type getOwnerType() {
+        return null;
+      }
+    });
+
+    assertSame(isolated, type.getTypeParameter(0).get().getType());
+    return new WeakReference<>(loader);
+  }
+
+  /**
+   * Defines a copy of a class in its own class loader.
+   */
+  static class Isolated extends ClassLoader {
+    Isolated() {
+      super(JavaTypeTest.class.getClassLoader());
+    }
+
+    Class<?> define(final Class<?> type) throws IOException {
+      final String resource = type.getName().replace('.', '/') + ".class";
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+      try (final InputStream in = getParent().getResourceAsStream(resource)) {
+        final byte[] buffer = new byte[4096];
+        int read;
+
+        while ((read = in.read(buffer)) != -1) {
+          out.write(buffer, 0, read);
+        }
+      }
+
+      final byte[] bytes = out.toByteArray();
+      return defineClass(type.getName(), bytes, 0, bytes.length);
+    }
+  }
+
+  @Test
+  public void testInnerNotCanonical() {
+    final JavaType string = JavaType
+        .of(new TypeReference<TestGenericTypeVariable<String>>() {
+        })
+        .getField("nested")
+        .get()
+        .getFieldType();
+
+    final JavaType integer = JavaType
+        .of(new TypeReference<TestGenericTypeVariable<Integer>>() {
+        })
+        .getField("nested")
+        .get()
+        .getFieldType();
+
+    assertEquals(String.class, string.getField("field").get().getFieldType().getType());
+    assertEquals(Integer.class, integer.getField("field").get().getFieldType().getType());
+  }
+
   static class TestGeneric<T> {
     public void empty(T parameter) {
     }
@@ -186,3 +316,9 @@ public class JavaTypeTest {
     }
   }
 }
+
+/**
+ * Top-level, so that a copy of it can be defined without its enclosing class.
+ */
+class Unloadable {
+}
@@ -0,0 +1,101 @@
+package eu.toolchain.scribe;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.ImmutableList;
+import eu.toolchain.scribe.jackson.JacksonMapper;
+import lombok.Data;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares interpreted entity codecs against compiled ones.
+ *
+ * @see DatabindOptions#COMPILED_CODECS
+ */
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Compiled {
+  @Param({"interpreted", "compiled"})
+  String mode;
+
+  @Param({"encode", "decode"})
+  String operation;
+
+  Callable<Object> benchmark;
+
+  @Setup
+  public void setup() throws Exception {
+    final Scribe.Builder builder =
+        Scribe.defaultBuilder().install(new JacksonAnnotationsModule());
+
+    switch (mode) {
+      case "interpreted":
+        break;
+      case "compiled":
+        builder.option(DatabindOptions.COMPILED_CODECS);
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported mode: " + mode);
+    }
+
+    final JacksonMapper mapper = new JacksonMapper(builder.build());
+    final StringEncoding<Person> encoding = mapper.stringEncodingFor(Person.class);
+
+    final Person person =
+        new Person("Ted Johnsson", 42, true, ImmutableList.of("climbing", "cooking"));
+    final String json = encoding.encode(person);
+
+    switch (operation) {
+      case "encode":
+        benchmark = () -> encoding.encode(person);
+        break;
+      case "decode":
+        benchmark = () -> encoding.decode(json);
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported operation: " + operation);
+    }
+  }
+
+  @Benchmark
+  public void codec(Blackhole bh) throws Exception {
+    bh.consume(benchmark.call());
+  }
+
+  @Data
+  public static class Person {
+    private final String name;
+    private final int age;
+    private final boolean active;
+    private final List<String> hobbies;
+
+    @JsonCreator
+    public Person(
+        @JsonProperty("name") final String name, @JsonProperty("age") final int age,
+        @JsonProperty("active") final boolean active,
+        @JsonProperty("hobbies") final List<String> hobbies
+    ) {
+      this.name = name;
+      this.age = age;
+      this.active = active;
+      this.hobbies = hobbies;
+    }
+  }
+}
@@ -0,0 +1,201 @@
+package eu.toolchain.scribe;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import eu.toolchain.scribe.jackson.JacksonMapper;
+import lombok.Data;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves a set of independent type graphs with a fresh mapper, using a varying number of
+ * threads.
+ */
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class Resolution {
+  static final List<Class<?>> TYPES =
+      Arrays.asList(Person.class, Order.class, Invoice.class, Shipment.class);
+
+  @Param({"1", "2", "4"})
+  int threads;
+
+  ExecutorService executor;
+
+  @Setup
+  public void setup() {
+    executor = Executors.newFixedThreadPool(threads);
+  }
+
+  @TearDown
+  public void teardown() {
+    executor.shutdownNow();
+  }
+
+  @Benchmark
+  public void resolve(Blackhole bh) throws Exception {
+    final JacksonMapper mapper = new JacksonMapper(
+        Scribe.defaultBuilder().install(new JacksonAnnotationsModule()).build());
+
+    final List<Future<StringEncoding<Object>>> futures = new ArrayList<>();
+
+    for (final Class<?> type : TYPES) {
+      futures.add(executor.submit(() -> mapper.stringEncodingForType(type)));
+    }
+
+    for (final Future<StringEncoding<Object>> future : futures) {
+      bh.consume(future.get());
+    }
+  }
+
+  @Data
+  public static class Address {
+    private final String street;
+    private final String city;
+    private final Optional<String> zip;
+
+    @JsonCreator
+    public Address(
+        @JsonProperty("street") final String street, @JsonProperty("city") final String city,
+        @JsonProperty("zip") final Optional<String> zip
+    ) {
+      this.street = street;
+      this.city = city;
+      this.zip = zip;
+    }
+  }
+
+  @Data
+  public static class Person {
+    private final String name;
+    private final int age;
+    private final List<Address> addresses;
+
+    @JsonCreator
+    public Person(
+        @JsonProperty("name") final String name, @JsonProperty("age") final int age,
+        @JsonProperty("addresses") final List<Address> addresses
+    ) {
+      this.name = name;
+      this.age = age;
+      this.addresses = addresses;
+    }
+  }
+
+  @Data
+  public static class Item {
+    private final String sku;
+    private final long quantity;
+    private final double price;
+
+    @JsonCreator
+    public Item(
+        @JsonProperty("sku") final String sku, @JsonProperty("quantity") final long quantity,
+        @JsonProperty("price") final double price
+    ) {
+      this.sku = sku;
+      this.quantity = quantity;
+      this.price = price;
+    }
+  }
+
+  @Data
+  public static class Order {
+    private final String id;
+    private final List<Item> items;
+    private final Optional<String> note;
+
+    @JsonCreator
+    public Order(
+        @JsonProperty("id") final String id, @JsonProperty("items") final List<Item> items,
+        @JsonProperty("note") final Optional<String> note
+    ) {
+      this.id = id;
+      this.items = items;
+      this.note = note;
+    }
+  }
+
+  @Data
+  public static class Invoice {
+    private final String number;
+    private final List<Line> lines;
+    private final boolean paid;
+
+    @JsonCreator
+    public Invoice(
+        @JsonProperty("number") final String number, @JsonProperty("lines") final List<Line> lines,
+        @JsonProperty("paid") final boolean paid
+    ) {
+      this.number = number;
+      this.lines = lines;
+      this.paid = paid;
+    }
+  }
+
+  @Data
+  public static class Line {
+    private final String text;
+    private final double amount;
+
+    @JsonCreator
+    public Line(
+        @JsonProperty("text") final String text, @JsonProperty("amount") final double amount
+    ) {
+      this.text = text;
+      this.amount = amount;
+    }
+  }
+
+  @Data
+  public static class Shipment {
+    private final String carrier;
+    private final List<Parcel> parcels;
+
+    @JsonCreator
+    public Shipment(
+        @JsonProperty("carrier") final String carrier,
+        @JsonProperty("parcels") final List<Parcel> parcels
+    ) {
+      this.carrier = carrier;
+      this.parcels = parcels;
+    }
+  }
+
+  @Data
+  public static class Parcel {
+    private final int weight;
+    private final Optional<String> label;
+
+    @JsonCreator
+    public Parcel(
+        @JsonProperty("weight") final int weight,
+        @JsonProperty("label") final Optional<String> label
+    ) {
+      this.weight = weight;
+      this.label = label;
+    }
+  }
+}
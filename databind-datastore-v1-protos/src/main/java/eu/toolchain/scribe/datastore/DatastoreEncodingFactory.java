@@ -34,6 +34,7 @@ import eu.toolchain.scribe.datastore.encoding.StringEncoder;
 import eu.toolchain.scribe.datastore.encoding.ValueDecoder;
 import eu.toolchain.scribe.datastore.encoding.ValueEncoder;
 import eu.toolchain.scribe.reflection.JavaType;
+import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
@@ -46,6 +47,7 @@ import static eu.toolchain.scribe.TypeMatcher.isPrimitive;
 import static eu.toolchain.scribe.TypeMatcher.type;
 
 @RequiredArgsConstructor
+@EqualsAndHashCode
 public class DatastoreEncodingFactory
     implements EncoderFactory<Value, Entity>, DecoderFactory<Value, Entity> {
   private static final Registry<? super Encoder<Value, ?>, DatastoreEncodingFactory> encoders =
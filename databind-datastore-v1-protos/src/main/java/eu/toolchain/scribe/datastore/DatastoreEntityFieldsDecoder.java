@@ -28,4 +28,19 @@ public class DatastoreEntityFieldsDecoder implements EntityFieldsDecoder<Value>
       return field.decodeOptionally(path, Decoded.ofNullable(value.get(field.getName())));
     }
   }
+
+  @Override
+  public <Source> Object decodeFieldOrAbsent(
+      final EntityFieldDecoder<Value, Source> field, final Context path
+  ) {
+    final Flags flags = field.getFlags();
+
+    if (flags.getFlag(DatastoreFlags.KeyFlag.class).findFirst().isPresent()) {
+      return field.decodeOptionallyOrAbsent(path, key.get().orAbsent());
+    }
+
+    final Value property = value.get(field.getName());
+    return field.decodeOptionallyOrAbsent(path,
+        property == null ? Decoded.ABSENT_VALUE : property);
+  }
 }
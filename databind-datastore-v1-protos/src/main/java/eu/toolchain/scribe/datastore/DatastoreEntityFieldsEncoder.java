@@ -3,6 +3,7 @@ package eu.toolchain.scribe.datastore;
 import com.google.datastore.v1.Entity;
 import com.google.datastore.v1.Value;
 import eu.toolchain.scribe.Context;
+import eu.toolchain.scribe.ContextException;
 import eu.toolchain.scribe.EntityFieldEncoder;
 import eu.toolchain.scribe.EntityFieldsEncoder;
 import eu.toolchain.scribe.Flags;
@@ -16,19 +17,23 @@ public class DatastoreEntityFieldsEncoder implements EntityFieldsEncoder<Value,
   public <Source> void encodeField(
       EntityFieldEncoder<Value, Source> field, Context path, Source value
   ) {
+    if (field.isAbsent(value)) {
+      return;
+    }
+
     // TODO: implement infrastructure to make encoders aware of field annotations to avoid the
     // runtime and complexity penalty of checking them here.
 
     final Flags flags = field.getFlags();
 
-    if (flags.getFlag(DatastoreFlags.KeyFlag.class).findFirst().isPresent()) {
-      field.encodeOptionally(path.push(field.getName()), value, target -> {
-        object.setKey(target.getKeyValue());
-      });
-    } else {
-      field.encodeOptionally(path.push(field.getName()), value, target -> {
-        object.getMutableProperties().put(field.getName(), target);
-      });
+    try {
+      if (flags.getFlag(DatastoreFlags.KeyFlag.class).findFirst().isPresent()) {
+        object.setKey(field.encode(path, value).getKeyValue());
+      } else {
+        object.getMutableProperties().put(field.getName(), field.encode(path, value));
+      }
+    } catch (final ContextException e) {
+      throw e.pushed(path, field.getName());
     }
   }
 
@@ -40,6 +40,7 @@ public class DatastoreV1ProtosMapper
   public ConverterEncoding<Object, Value> valueEncodingForType(final Type type) {
     final Encoder<Value, Object> encoder = valueEncoder.newEncoderForType(type);
     final Decoder<Value, Object> decoder = valueDecoder.newDecoderForType(type);
+    final Context root = resolver.decodeContext();
 
     return new ConverterEncoding<Object, Value>() {
       public Value encode(Object instance) {
@@ -47,13 +48,13 @@ public class DatastoreV1ProtosMapper
       }
 
       public Object decode(Value instance) {
-        final Decoded<Object> decoded = decoder.decode(Context.ROOT, instance);
+        final Decoded<Object> decoded = decoder.decode(root, instance);
 
         if (decoded == null) {
-          throw Context.ROOT.error("decoder returned null");
+          throw root.error("decoder returned null");
         }
 
-        return decoded.orElseThrow(() -> Context.ROOT.error("input decoded to nothing"));
+        return decoded.orElseThrow(() -> root.error("input decoded to nothing"));
       }
     };
   }
@@ -76,6 +77,7 @@ public class DatastoreV1ProtosMapper
         (EntityEncoder<Value, Entity, Object>) valueEncoder;
     final EntityDecoder<Value, Entity, Object> decoder =
         (EntityDecoder<Value, Entity, Object>) valueDecoder;
+    final Context root = resolver.decodeContext();
 
     return new ConverterEncoding<Object, Entity>() {
       public Entity encode(Object instance) {
@@ -83,7 +85,7 @@ public class DatastoreV1ProtosMapper
       }
 
       public Object decode(Entity instance) {
-        return decoder.decodeEntity(Context.ROOT, instance);
+        return decoder.decodeEntity(root, instance);
       }
     };
   }
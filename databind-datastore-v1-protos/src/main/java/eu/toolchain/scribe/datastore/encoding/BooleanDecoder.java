@@ -4,19 +4,19 @@ import com.google.datastore.v1.Value;
 
 import eu.toolchain.scribe.Context;
 import eu.toolchain.scribe.Decoded;
-import eu.toolchain.scribe.Decoder;
+import eu.toolchain.scribe.DirectDecoder;
 
 import lombok.Data;
 
 @Data
-public class BooleanDecoder implements Decoder<Value, Boolean> {
+public class BooleanDecoder implements DirectDecoder<Value, Boolean> {
   @Override
-  public Decoded<Boolean> decode(final Context path, final Value instance) {
+  public Object decodeOrAbsent(final Context path, final Value instance) {
     switch (instance.getValueTypeCase()) {
       case BOOLEAN_VALUE:
-        return Decoded.of(instance.getBooleanValue());
+        return instance.getBooleanValue();
       case NULL_VALUE:
-        return Decoded.absent();
+        return Decoded.ABSENT_VALUE;
       default:
         throw path.error("expected boolean");
     }
@@ -4,18 +4,18 @@ import com.google.datastore.v1.Key;
 import com.google.datastore.v1.Value;
 import eu.toolchain.scribe.Context;
 import eu.toolchain.scribe.Decoded;
-import eu.toolchain.scribe.Decoder;
+import eu.toolchain.scribe.DirectDecoder;
 import lombok.Data;
 
 @Data
-public class KeyDecoder implements Decoder<Value, Key> {
+public class KeyDecoder implements DirectDecoder<Value, Key> {
   @Override
-  public Decoded<Key> decode(final Context path, final Value instance) {
+  public Object decodeOrAbsent(final Context path, final Value instance) {
     switch (instance.getValueTypeCase()) {
       case KEY_VALUE:
-        return Decoded.of(instance.getKeyValue());
+        return instance.getKeyValue();
       case NULL_VALUE:
-        return Decoded.absent();
+        return Decoded.ABSENT_VALUE;
       default:
         throw path.error("expected key");
     }
@@ -3,8 +3,10 @@ package eu.toolchain.scribe.datastore.encoding;
 import com.google.datastore.v1.Value;
 
 import eu.toolchain.scribe.Context;
+import eu.toolchain.scribe.ContextException;
 import eu.toolchain.scribe.Decoded;
 import eu.toolchain.scribe.Decoder;
+import eu.toolchain.scribe.DirectDecoder;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,29 +15,41 @@ import lombok.Data;
 
 @Data
 public class ListDecoder<ElementSource>
-    implements Decoder<Value, List<ElementSource>> {
+    implements DirectDecoder<Value, List<ElementSource>> {
   private final Decoder<Value, ElementSource> value;
 
   @Override
-  public Decoded<List<ElementSource>> decode(final Context path, final Value instance) {
+  public Object decodeOrAbsent(final Context path, final Value instance) {
     switch (instance.getValueTypeCase()) {
       case ARRAY_VALUE:
-        return Decoded.of(decodeList(path, instance.getArrayValue().getValuesList()));
+        return decodeList(path, instance.getArrayValue().getValuesList());
       case NULL_VALUE:
-        return Decoded.absent();
+        return Decoded.ABSENT_VALUE;
       default:
         throw path.error("expected list");
     }
   }
 
+  @SuppressWarnings("unchecked")
   private List<ElementSource> decodeList(final Context path, final List<Value> values) {
     final List<ElementSource> result = new ArrayList<>(values.size());
 
     int index = 0;
 
     for (final Value v : values) {
-      final Context p = path.push(index++);
-      value.decode(p, v).ifPresent(result::add);
+      final Object decoded;
+
+      try {
+        decoded = value.decodeOrAbsent(path, v);
+      } catch (final ContextException e) {
+        throw e.pushed(path, index);
+      }
+
+      if (decoded != Decoded.ABSENT_VALUE) {
+        result.add((ElementSource) decoded);
+      }
+
+      index++;
     }
 
     return result;
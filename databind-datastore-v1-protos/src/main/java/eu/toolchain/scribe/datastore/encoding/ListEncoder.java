@@ -4,6 +4,7 @@ import com.google.datastore.v1.ArrayValue;
 import com.google.datastore.v1.Value;
 
 import eu.toolchain.scribe.Context;
+import eu.toolchain.scribe.ContextException;
 import eu.toolchain.scribe.Encoder;
 
 import java.util.List;
@@ -23,8 +24,15 @@ public class ListEncoder<ElementSource> extends AbstractEncoder<List<ElementSour
     int index = 0;
 
     for (final ElementSource value : instance) {
-      final Context p = path.push(index++);
-      this.value.encodeOptionally(p, value, result::addValues);
+      try {
+        if (!this.value.isAbsent(value)) {
+          result.addValues(this.value.encode(path, value));
+        }
+      } catch (final ContextException e) {
+        throw e.pushed(path, index);
+      }
+
+      index++;
     }
 
     return Value.newBuilder().setArrayValue(result.build()).build();
@@ -4,6 +4,7 @@ import com.google.datastore.v1.Entity;
 import com.google.datastore.v1.Value;
 
 import eu.toolchain.scribe.Context;
+import eu.toolchain.scribe.ContextException;
 import eu.toolchain.scribe.Encoder;
 
 import java.util.Map;
@@ -21,11 +22,13 @@ public class MapEncoder<ValueSource> extends AbstractEncoder<Map<String, ValueSo
     final Entity.Builder entity = Entity.newBuilder();
 
     for (final Map.Entry<String, ValueSource> e : instance.entrySet()) {
-      final Context p = path.push(e.getKey());
-
-      value.encodeOptionally(p, e.getValue(), target -> {
-        entity.getMutableProperties().put(e.getKey(), target);
-      });
+      try {
+        if (!value.isAbsent(e.getValue())) {
+          entity.getMutableProperties().put(e.getKey(), value.encode(path, e.getValue()));
+        }
+      } catch (final ContextException ex) {
+        throw ex.pushed(path, e.getKey());
+      }
     }
 
     return Value.newBuilder().setEntityValue(entity.build()).build();
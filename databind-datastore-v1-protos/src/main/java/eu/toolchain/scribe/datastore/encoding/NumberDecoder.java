@@ -4,25 +4,25 @@ import com.google.datastore.v1.Value;
 
 import eu.toolchain.scribe.Context;
 import eu.toolchain.scribe.Decoded;
-import eu.toolchain.scribe.Decoder;
+import eu.toolchain.scribe.DirectDecoder;
 
 import java.util.function.Function;
 
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
-public class NumberDecoder<T extends Number> implements Decoder<Value, T> {
+public class NumberDecoder<T extends Number> implements DirectDecoder<Value, T> {
   private final Function<Number, T> converter;
 
   @Override
-  public Decoded<T> decode(final Context path, final Value instance) {
+  public Object decodeOrAbsent(final Context path, final Value instance) {
     switch (instance.getValueTypeCase()) {
       case DOUBLE_VALUE:
-        return Decoded.of(converter.apply(instance.getDoubleValue()));
+        return converter.apply(instance.getDoubleValue());
       case INTEGER_VALUE:
-        return Decoded.of(converter.apply(instance.getIntegerValue()));
+        return converter.apply(instance.getIntegerValue());
       case NULL_VALUE:
-        return Decoded.absent();
+        return Decoded.ABSENT_VALUE;
       default:
         throw path.error("expected numerical value");
     }
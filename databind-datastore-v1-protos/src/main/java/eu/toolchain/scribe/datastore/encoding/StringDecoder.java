@@ -4,19 +4,19 @@ import com.google.datastore.v1.Value;
 
 import eu.toolchain.scribe.Context;
 import eu.toolchain.scribe.Decoded;
-import eu.toolchain.scribe.Decoder;
+import eu.toolchain.scribe.DirectDecoder;
 
 import lombok.Data;
 
 @Data
-public class StringDecoder implements Decoder<Value, String> {
+public class StringDecoder implements DirectDecoder<Value, String> {
   @Override
-  public Decoded<String> decode(final Context path, final Value instance) {
+  public Object decodeOrAbsent(final Context path, final Value instance) {
     switch (instance.getValueTypeCase()) {
       case STRING_VALUE:
-        return Decoded.of(instance.getStringValue());
+        return instance.getStringValue();
       case NULL_VALUE:
-        return Decoded.absent();
+        return Decoded.ABSENT_VALUE;
       default:
         throw path.error("expected string");
     }
@@ -2,15 +2,14 @@ package eu.toolchain.scribe.datastore.encoding;
 
 import com.google.datastore.v1.Value;
 import eu.toolchain.scribe.Context;
-import eu.toolchain.scribe.Decoded;
-import eu.toolchain.scribe.Decoder;
+import eu.toolchain.scribe.DirectDecoder;
 import lombok.Data;
 
 @Data
-public class ValueDecoder implements Decoder<Value, Value> {
+public class ValueDecoder implements DirectDecoder<Value, Value> {
   @Override
-  public Decoded<Value> decode(final Context path, final Value instance) {
-    return Decoded.of(instance);
+  public Object decodeOrAbsent(final Context path, final Value instance) {
+    return instance;
   }
 
   private static final ValueDecoder INSTANCE = new ValueDecoder();
@@ -1,5 +1,6 @@
 package eu.toolchain.scribe.datastore;
 
+import com.google.datastore.v1.ArrayValue;
 import com.google.datastore.v1.Entity;
 import com.google.datastore.v1.Key;
 import com.google.datastore.v1.Value;
@@ -14,6 +15,8 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
@@ -58,6 +61,44 @@ public class DatastoreTest {
     });
   }
 
+  @Data
+  public static class EmptyOptionals {
+    private final Optional<String> field;
+    private final List<Optional<String>> list;
+    private final Map<String, Optional<String>> map;
+  }
+
+  @Test
+  public void testEmptyOptionalsOmitted() {
+    final EmptyOptionals value = new EmptyOptionals(Optional.empty(),
+        Collections.singletonList(Optional.empty()),
+        Collections.singletonMap("a", Optional.empty()));
+
+    final Entity.Builder omitted = Entity.newBuilder();
+    omitted.getMutableProperties().put("list",
+        Value.newBuilder().setArrayValue(ArrayValue.newBuilder().build()).build());
+    omitted.getMutableProperties().put("map",
+        Value.newBuilder().setEntityValue(Entity.newBuilder().build()).build());
+
+    assertThat(mapper.valueEncodingFor(EmptyOptionals.class).encode(value),
+        is(Value.newBuilder().setEntityValue(omitted.build()).build()));
+
+    final Value nullValue = Value.newBuilder().setNullValue(NullValue.NULL_VALUE).build();
+    final Entity.Builder map = Entity.newBuilder();
+    map.getMutableProperties().put("a", nullValue);
+
+    final Entity.Builder nulls = Entity.newBuilder();
+    nulls.getMutableProperties().put("field", nullValue);
+    nulls.getMutableProperties().put("list",
+        Value.newBuilder().setArrayValue(ArrayValue.newBuilder().addValues(nullValue)).build());
+    nulls.getMutableProperties().put("map", Value.newBuilder().setEntityValue(map).build());
+
+    assertThat(mapper
+        .withOptions(DatabindOptions.OPTIONAL_EMPTY_AS_NULL)
+        .valueEncodingFor(EmptyOptionals.class)
+        .encode(value), is(Value.newBuilder().setEntityValue(nulls.build()).build()));
+  }
+
   @Test
   public void testOptionalFieldAbsentAsNull() {
     testValue(OptionalField.class, new OptionalField(Optional.empty()), (b, v) -> {
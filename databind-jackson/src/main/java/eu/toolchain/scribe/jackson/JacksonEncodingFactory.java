@@ -39,6 +39,7 @@ import eu.toolchain.scribe.jackson.encoding.StringDecoder;
 import eu.toolchain.scribe.jackson.encoding.StringEncoder;
 import eu.toolchain.scribe.jackson.encoding.StringStreamEncoder;
 import eu.toolchain.scribe.reflection.JavaType;
+import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
@@ -50,6 +51,7 @@ import static eu.toolchain.scribe.TypeMatcher.isPrimitive;
 import static eu.toolchain.scribe.TypeMatcher.type;
 
 @RequiredArgsConstructor
+@EqualsAndHashCode
 public class JacksonEncodingFactory
     implements EncoderFactory<JsonNode, JsonNode.ObjectJsonNode>, DecoderFactory<JsonNode,
     JsonNode.ObjectJsonNode>, StreamEncoderFactory<JsonGenerator> {
@@ -183,15 +185,12 @@ public class JacksonEncodingFactory
     return new JacksonEntityFieldsStreamEncoder();
   }
 
-  private static final AbstractVisitor<JsonNode.ObjectJsonNode> OBJECT_VISITOR =
-      new AbstractVisitor<JsonNode.ObjectJsonNode>() {
-        @Override
-        public Decoded<JsonNode.ObjectJsonNode> visitObject(
-            final JsonNode.ObjectJsonNode object
-        ) {
-          return Decoded.of(object);
-        }
-      };
+  private static final AbstractVisitor OBJECT_VISITOR = new AbstractVisitor() {
+    @Override
+    public Object visitObject(final JsonNode.ObjectJsonNode object) {
+      return object;
+    }
+  };
 
   @Override
   public EntityFieldsDecoder<JsonNode> newEntityDecoder(
@@ -207,6 +206,6 @@ public class JacksonEncodingFactory
 
   @Override
   public Decoded<JsonNode.ObjectJsonNode> valueAsEntity(final JsonNode instance) {
-    return instance.visit(OBJECT_VISITOR);
+    return Decoded.ofOrAbsent(instance.visit(OBJECT_VISITOR));
   }
 }
@@ -18,4 +18,12 @@ public class JacksonEntityFieldsDecoder implements EntityFieldsDecoder<JsonNode>
   ) {
     return decoder.decodeOptionally(path, Decoded.ofNullable(value.get(decoder.getName())));
   }
+
+  @Override
+  public <Source> Object decodeFieldOrAbsent(
+      final EntityFieldDecoder<JsonNode, Source> decoder, final Context path
+  ) {
+    final JsonNode node = value.get(decoder.getName());
+    return decoder.decodeOptionallyOrAbsent(path, node == null ? Decoded.ABSENT_VALUE : node);
+  }
 }
@@ -1,6 +1,7 @@
 package eu.toolchain.scribe.jackson;
 
 import eu.toolchain.scribe.Context;
+import eu.toolchain.scribe.ContextException;
 import eu.toolchain.scribe.EntityFieldEncoder;
 import eu.toolchain.scribe.EntityFieldsEncoder;
 import lombok.RequiredArgsConstructor;
@@ -17,8 +18,13 @@ public class JacksonEntityFieldsEncoder
   public <Source> void encodeField(
       EntityFieldEncoder<JsonNode, Source> field, Context path, Source value
   ) {
-    field.encodeOptionally(path.push(field.getName()), value,
-        target -> object.put(field.getName(), target));
+    try {
+      if (!field.isAbsent(value)) {
+        object.put(field.getName(), field.encode(path, value));
+      }
+    } catch (final ContextException e) {
+      throw e.pushed(path, field.getName());
+    }
   }
 
   @Override
@@ -2,6 +2,7 @@ package eu.toolchain.scribe.jackson;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import eu.toolchain.scribe.Context;
+import eu.toolchain.scribe.ContextException;
 import eu.toolchain.scribe.EntityFieldStreamEncoder;
 import eu.toolchain.scribe.EntityFieldsStreamEncoder;
 import lombok.RequiredArgsConstructor;
@@ -33,15 +34,73 @@ public class JacksonEntityFieldsStreamEncoder implements EntityFieldsStreamEncod
       final EntityFieldStreamEncoder<JsonGenerator, Source> field, final Context path,
       final Source value, final JsonGenerator generator
   ) {
-    field.streamEncodeOptionally(path.push(field.getName()), value, generator, callable -> {
-      try {
-        generator.writeFieldName(field.getName());
-      } catch (IOException e) {
-        throw path.error(e);
-      }
+    if (field.isAbsent(value)) {
+      return;
+    }
+
+    writeFieldName(field, path, generator);
+
+    try {
+      field.streamEncode(path, value, generator);
+    } catch (final ContextException e) {
+      throw e.pushed(path, field.getName());
+    }
+  }
+
+  @Override
+  public void encodeIntField(
+      final EntityFieldStreamEncoder<JsonGenerator, ?> field, final Context path, final int value,
+      final JsonGenerator generator
+  ) {
+    writeFieldName(field, path, generator);
+
+    try {
+      field.streamEncodeInt(path, value, generator);
+    } catch (final ContextException e) {
+      throw e.pushed(path, field.getName());
+    }
+  }
+
+  @Override
+  public void encodeLongField(
+      final EntityFieldStreamEncoder<JsonGenerator, ?> field, final Context path, final long value,
+      final JsonGenerator generator
+  ) {
+    writeFieldName(field, path, generator);
+
+    try {
+      field.streamEncodeLong(path, value, generator);
+    } catch (final ContextException e) {
+      throw e.pushed(path, field.getName());
+    }
+  }
 
-      callable.run();
-    });
+  @Override
+  public void encodeDoubleField(
+      final EntityFieldStreamEncoder<JsonGenerator, ?> field, final Context path,
+      final double value, final JsonGenerator generator
+  ) {
+    writeFieldName(field, path, generator);
+
+    try {
+      field.streamEncodeDouble(path, value, generator);
+    } catch (final ContextException e) {
+      throw e.pushed(path, field.getName());
+    }
+  }
+
+  @Override
+  public void encodeBooleanField(
+      final EntityFieldStreamEncoder<JsonGenerator, ?> field, final Context path,
+      final boolean value, final JsonGenerator generator
+  ) {
+    writeFieldName(field, path, generator);
+
+    try {
+      field.streamEncodeBoolean(path, value, generator);
+    } catch (final ContextException e) {
+      throw e.pushed(path, field.getName());
+    }
   }
 
   @Override
@@ -52,4 +111,16 @@ public class JacksonEntityFieldsStreamEncoder implements EntityFieldsStreamEncod
       throw path.error(e);
     }
   }
+
+  private void writeFieldName(
+      final EntityFieldStreamEncoder<JsonGenerator, ?> field, final Context path,
+      final JsonGenerator generator
+  ) {
+    try {
+      generator.writeFieldName(field.getName());
+    } catch (final IOException e) {
+      /* reported on the entity, not the field */
+      throw path.error(e);
+    }
+  }
 }
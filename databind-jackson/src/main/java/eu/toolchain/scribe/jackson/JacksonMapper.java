@@ -4,8 +4,10 @@ import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import eu.toolchain.scribe.Context;
+import eu.toolchain.scribe.ContextException;
 import eu.toolchain.scribe.ConverterEncoding;
 import eu.toolchain.scribe.ConverterMapper;
+import eu.toolchain.scribe.DecodeResult;
 import eu.toolchain.scribe.Decoder;
 import eu.toolchain.scribe.Encoder;
 import eu.toolchain.scribe.EntityConverterMapper;
@@ -56,6 +58,7 @@ public class JacksonMapper
   public ConverterEncoding<Object, JsonNode> valueEncodingForType(final Type type) {
     final Encoder<JsonNode, Object> encoder = encoderProvider.newEncoderForType(type);
     final Decoder<JsonNode, Object> decoder = decoderProvider.newDecoderForType(type);
+    final Context root = resolver.decodeContext();
 
     return new ConverterEncoding<Object, JsonNode>() {
       @Override
@@ -66,9 +69,20 @@ public class JacksonMapper
       @Override
       public Object decode(final JsonNode value) {
         return decoder
-            .decode(Context.ROOT, value)
+            .decode(root, value)
             .orElseThrow(() -> new IllegalArgumentException("Value decoded to nothing"));
       }
+
+      @Override
+      public DecodeResult<Object> tryDecode(final JsonNode value) {
+        try {
+          return DecodeResult.success(decoder
+              .decode(root, value)
+              .orElseThrow(() -> root.error("Value decoded to nothing")));
+        } catch (final ContextException e) {
+          return DecodeResult.failure(e);
+        }
+      }
     };
   }
 
@@ -92,6 +106,7 @@ public class JacksonMapper
         (EntityEncoder<JsonNode, JsonNode.ObjectJsonNode, Object>) valueEncoder;
     final EntityDecoder<JsonNode, JsonNode.ObjectJsonNode, Object> decoder =
         (EntityDecoder<JsonNode, JsonNode.ObjectJsonNode, Object>) valueDecoder;
+    final Context root = resolver.decodeContext();
 
     return new ConverterEncoding<Object, JsonNode.ObjectJsonNode>() {
       public JsonNode.ObjectJsonNode encode(Object instance) {
@@ -99,7 +114,7 @@ public class JacksonMapper
       }
 
       public Object decode(JsonNode.ObjectJsonNode instance) {
-        return decoder.decodeEntity(Context.ROOT, instance);
+        return decoder.decodeEntity(root, instance);
       }
     };
   }
@@ -109,23 +124,37 @@ public class JacksonMapper
     final Decoder<JsonNode, Object> decoder = decoderProvider.newDecoderForType(type);
     final StreamEncoder<JsonGenerator, Object> streamEncoder =
         streamEncoderProvider.newStreamEncoder(type);
+    final Context root = resolver.decodeContext();
 
     return new StringEncoding<Object>() {
       @Override
       public Object decode(String json) {
         final JsonNode node;
 
-        try (final JsonParser parser = factory.createParser(json)) {
-          node = JsonNode.fromParser(parser);
+        try {
+          node = parse(json);
         } catch (final IOException e) {
           throw new RuntimeException("failed to generate node", e);
         }
 
         return decoder
-            .decode(Context.ROOT, node)
+            .decode(root, node)
             .orElseThrow(() -> new IllegalArgumentException("String decoded to nothing"));
       }
 
+      @Override
+      public DecodeResult<Object> tryDecode(final String json) {
+        try {
+          return DecodeResult.success(decoder
+              .decode(root, parse(json))
+              .orElseThrow(() -> root.error("String decoded to nothing")));
+        } catch (final IOException e) {
+          return DecodeResult.failure(root.error("failed to generate node", e));
+        } catch (final ContextException e) {
+          return DecodeResult.failure(e);
+        }
+      }
+
       @Override
       public String encode(Object instance) {
         final Context path = Context.ROOT;
@@ -143,6 +172,12 @@ public class JacksonMapper
     };
   }
 
+  private JsonNode parse(final String json) throws IOException {
+    try (final JsonParser parser = factory.createParser(json)) {
+      return JsonNode.fromParser(parser);
+    }
+  }
+
   public JacksonMapper withOptions(final Option... options) {
     return new JacksonMapper(resolver.withOptions(options), factory);
   }
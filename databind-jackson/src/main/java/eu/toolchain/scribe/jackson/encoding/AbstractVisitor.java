@@ -4,10 +4,13 @@ import eu.toolchain.scribe.Decoded;
 import eu.toolchain.scribe.jackson.JsonNode;
 import lombok.EqualsAndHashCode;
 
+/**
+ * Visitor which returns the visited value, or {@link Decoded#ABSENT_VALUE} if it is absent.
+ */
 @EqualsAndHashCode
-public abstract class AbstractVisitor<T> implements JsonNode.Visitor<Decoded<T>> {
+public abstract class AbstractVisitor implements JsonNode.Visitor<Object> {
   @Override
-  public Decoded<T> visitNull(final JsonNode.NullJsonNode n) {
-    return Decoded.absent();
+  public Object visitNull(final JsonNode.NullJsonNode n) {
+    return Decoded.ABSENT_VALUE;
   }
 }
@@ -1,22 +1,21 @@
 package eu.toolchain.scribe.jackson.encoding;
 
 import eu.toolchain.scribe.Context;
-import eu.toolchain.scribe.Decoded;
-import eu.toolchain.scribe.Decoder;
+import eu.toolchain.scribe.DirectDecoder;
 import eu.toolchain.scribe.jackson.JsonNode;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
 @Data
 @EqualsAndHashCode(callSuper = true)
-public class BooleanDecoder extends AbstractVisitor<Boolean> implements Decoder<JsonNode, Boolean> {
+public class BooleanDecoder extends AbstractVisitor implements DirectDecoder<JsonNode, Boolean> {
   @Override
-  public Decoded<Boolean> visitBoolean(final JsonNode.BooleanJsonNode booleanNode) {
-    return Decoded.of(booleanNode.getValue());
+  public Object visitBoolean(final JsonNode.BooleanJsonNode booleanNode) {
+    return booleanNode.getValue();
   }
 
   @Override
-  public Decoded<Boolean> decode(final Context path, final JsonNode instance) {
+  public Object decodeOrAbsent(final Context path, final JsonNode instance) {
     return instance.visit(this);
   }
 
@@ -2,6 +2,7 @@ package eu.toolchain.scribe.jackson.encoding;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import eu.toolchain.scribe.Context;
+import eu.toolchain.scribe.PrimitiveStreamEncoder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
@@ -9,10 +10,11 @@ import java.io.IOException;
 
 @Data
 @EqualsAndHashCode(callSuper = true)
-public class BooleanStreamEncoder extends AbstractStreamEncoder<Boolean> {
+public class BooleanStreamEncoder extends AbstractStreamEncoder<Boolean>
+    implements PrimitiveStreamEncoder.OfBoolean<JsonGenerator> {
   @Override
-  public void streamEncode(
-      final Context path, final Boolean instance, final JsonGenerator generator
+  public void streamEncodeBoolean(
+      final Context path, final boolean instance, final JsonGenerator generator
   ) {
     try {
       generator.writeBoolean(instance);
@@ -2,15 +2,17 @@ package eu.toolchain.scribe.jackson.encoding;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import eu.toolchain.scribe.Context;
+import eu.toolchain.scribe.PrimitiveStreamEncoder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
 @Data
 @EqualsAndHashCode(callSuper = true)
-public class DoubleStreamEncoder extends AbstractStreamEncoder<Double> {
+public class DoubleStreamEncoder extends AbstractStreamEncoder<Double>
+    implements PrimitiveStreamEncoder.OfDouble<JsonGenerator> {
   @Override
-  public void streamEncode(
-      final Context path, final Double instance, final JsonGenerator target
+  public void streamEncodeDouble(
+      final Context path, final double instance, final JsonGenerator target
   ) {
     try {
       target.writeNumber(instance);
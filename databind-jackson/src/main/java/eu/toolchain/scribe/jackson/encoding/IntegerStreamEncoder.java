@@ -2,15 +2,17 @@ package eu.toolchain.scribe.jackson.encoding;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import eu.toolchain.scribe.Context;
+import eu.toolchain.scribe.PrimitiveStreamEncoder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
 @Data
 @EqualsAndHashCode(callSuper = true)
-public class IntegerStreamEncoder extends AbstractStreamEncoder<Integer> {
+public class IntegerStreamEncoder extends AbstractStreamEncoder<Integer>
+    implements PrimitiveStreamEncoder.OfInt<JsonGenerator> {
   @Override
-  public void streamEncode(
-      final Context path, final Integer instance, final JsonGenerator target
+  public void streamEncodeInt(
+      final Context path, final int instance, final JsonGenerator target
   ) {
     try {
       target.writeNumber(instance);
@@ -1,8 +1,10 @@
 package eu.toolchain.scribe.jackson.encoding;
 
 import eu.toolchain.scribe.Context;
+import eu.toolchain.scribe.ContextException;
 import eu.toolchain.scribe.Decoded;
 import eu.toolchain.scribe.Decoder;
+import eu.toolchain.scribe.DirectDecoder;
 import eu.toolchain.scribe.jackson.JsonNode;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -12,28 +14,49 @@ import java.util.List;
 
 @Data
 @EqualsAndHashCode(callSuper = true)
-public class ListDecoder<ElementSource> extends AbstractVisitor<List<JsonNode>>
-    implements Decoder<JsonNode, List<ElementSource>> {
+public class ListDecoder<ElementSource> extends AbstractVisitor
+    implements DirectDecoder<JsonNode, List<ElementSource>> {
   @Override
-  public Decoded<List<JsonNode>> visitList(final JsonNode.ListJsonNode list) {
-    return Decoded.of(list.getValues());
+  public Object visitList(final JsonNode.ListJsonNode list) {
+    return list.getValues();
   }
 
   private final Decoder<JsonNode, ElementSource> value;
 
+  @SuppressWarnings("unchecked")
   @Override
-  public Decoded<List<ElementSource>> decode(final Context path, final JsonNode instance) {
-    return instance.visit(this).map(values -> {
-      final List<ElementSource> result = new ArrayList<>(values.size());
+  public Object decodeOrAbsent(final Context path, final JsonNode instance) {
+    final Object values = instance.visit(this);
 
-      int index = 0;
+    if (values == Decoded.ABSENT_VALUE) {
+      return values;
+    }
 
-      for (final JsonNode v : values) {
-        final Context p = path.push(index++);
-        value.decode(p, v).ifPresent(result::add);
+    return decodeList(path, (List<JsonNode>) values);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<ElementSource> decodeList(final Context path, final List<JsonNode> values) {
+    final List<ElementSource> result = new ArrayList<>(values.size());
+
+    int index = 0;
+
+    for (final JsonNode v : values) {
+      final Object decoded;
+
+      try {
+        decoded = value.decodeOrAbsent(path, v);
+      } catch (final ContextException e) {
+        throw e.pushed(path, index);
+      }
+
+      if (decoded != Decoded.ABSENT_VALUE) {
+        result.add((ElementSource) decoded);
       }
 
-      return result;
-    });
+      index++;
+    }
+
+    return result;
   }
 }
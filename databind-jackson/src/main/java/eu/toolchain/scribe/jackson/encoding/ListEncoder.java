@@ -1,6 +1,7 @@
 package eu.toolchain.scribe.jackson.encoding;
 
 import eu.toolchain.scribe.Context;
+import eu.toolchain.scribe.ContextException;
 import eu.toolchain.scribe.Encoder;
 import eu.toolchain.scribe.jackson.JsonNode;
 import lombok.Data;
@@ -21,8 +22,15 @@ public class ListEncoder<ElementSource> extends AbstractEncoder<List<ElementSour
     int index = 0;
 
     for (final ElementSource value : instance) {
-      final Context p = path.push(index++);
-      this.value.encodeOptionally(p, value, result::add);
+      try {
+        if (!this.value.isAbsent(value)) {
+          result.add(this.value.encode(path, value));
+        }
+      } catch (final ContextException e) {
+        throw e.pushed(path, index);
+      }
+
+      index++;
     }
 
     return new JsonNode.ListJsonNode(result);
@@ -2,6 +2,7 @@ package eu.toolchain.scribe.jackson.encoding;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import eu.toolchain.scribe.Context;
+import eu.toolchain.scribe.ContextException;
 import eu.toolchain.scribe.StreamEncoder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -26,8 +27,15 @@ public class ListStreamEncoder<ElementSource> extends AbstractStreamEncoder<List
     }
 
     for (final ElementSource value : instance) {
-      final Context p = path.push(index++);
-      this.value.streamEncodeOptionally(p, value, target, Runnable::run);
+      try {
+        if (!this.value.isAbsent(value)) {
+          this.value.streamEncode(path, value, target);
+        }
+      } catch (final ContextException e) {
+        throw e.pushed(path, index);
+      }
+
+      index++;
     }
 
     try {
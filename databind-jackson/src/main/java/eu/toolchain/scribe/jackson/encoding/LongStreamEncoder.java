@@ -2,15 +2,17 @@ package eu.toolchain.scribe.jackson.encoding;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import eu.toolchain.scribe.Context;
+import eu.toolchain.scribe.PrimitiveStreamEncoder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
 @Data
 @EqualsAndHashCode(callSuper = true)
-public class LongStreamEncoder extends AbstractStreamEncoder<Long> {
+public class LongStreamEncoder extends AbstractStreamEncoder<Long>
+    implements PrimitiveStreamEncoder.OfLong<JsonGenerator> {
   @Override
-  public void streamEncode(
-      final Context path, final Long instance, final JsonGenerator target
+  public void streamEncodeLong(
+      final Context path, final long instance, final JsonGenerator target
   ) {
     try {
       target.writeNumber(instance);
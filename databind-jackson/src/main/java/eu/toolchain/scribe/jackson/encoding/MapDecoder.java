@@ -1,8 +1,10 @@
 package eu.toolchain.scribe.jackson.encoding;
 
 import eu.toolchain.scribe.Context;
+import eu.toolchain.scribe.ContextException;
 import eu.toolchain.scribe.Decoded;
 import eu.toolchain.scribe.Decoder;
+import eu.toolchain.scribe.DirectDecoder;
 import eu.toolchain.scribe.jackson.JsonNode;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -12,30 +14,47 @@ import java.util.Map;
 
 @Data
 @EqualsAndHashCode(callSuper = true)
-public class MapDecoder<ValueSource> extends AbstractVisitor<Map<String, JsonNode>>
-    implements Decoder<JsonNode, Map<String, ValueSource>> {
+public class MapDecoder<ValueSource> extends AbstractVisitor
+    implements DirectDecoder<JsonNode, Map<String, ValueSource>> {
   @Override
-  public Decoded<Map<String, JsonNode>> visitObject(
-      final JsonNode.ObjectJsonNode object
-  ) {
-    return Decoded.of(object.getFields());
+  public Object visitObject(final JsonNode.ObjectJsonNode object) {
+    return object.getFields();
   }
 
   private final Decoder<JsonNode, ValueSource> value;
 
+  @SuppressWarnings("unchecked")
   @Override
-  public Decoded<Map<String, ValueSource>> decode(
-      final Context path, final JsonNode instance
+  public Object decodeOrAbsent(final Context path, final JsonNode instance) {
+    final Object values = instance.visit(this);
+
+    if (values == Decoded.ABSENT_VALUE) {
+      return values;
+    }
+
+    return decodeMap(path, (Map<String, JsonNode>) values);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, ValueSource> decodeMap(
+      final Context path, final Map<String, JsonNode> values
   ) {
-    return instance.visit(this).map(values -> {
-      final Map<String, ValueSource> result = new HashMap<>(values.size());
+    final Map<String, ValueSource> result = new HashMap<>(values.size());
+
+    for (final Map.Entry<String, JsonNode> e : values.entrySet()) {
+      final Object decoded;
+
+      try {
+        decoded = value.decodeOrAbsent(path, e.getValue());
+      } catch (final ContextException ex) {
+        throw ex.pushed(path, e.getKey());
+      }
 
-      for (final Map.Entry<String, JsonNode> e : values.entrySet()) {
-        final Context p = path.push(e.getKey());
-        value.decode(p, e.getValue()).ifPresent(v -> result.put(e.getKey(), v));
+      if (decoded != Decoded.ABSENT_VALUE) {
+        result.put(e.getKey(), (ValueSource) decoded);
       }
+    }
 
-      return result;
-    });
+    return result;
   }
 }
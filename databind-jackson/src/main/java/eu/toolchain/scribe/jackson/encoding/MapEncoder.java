@@ -1,6 +1,7 @@
 package eu.toolchain.scribe.jackson.encoding;
 
 import eu.toolchain.scribe.Context;
+import eu.toolchain.scribe.ContextException;
 import eu.toolchain.scribe.Encoder;
 import eu.toolchain.scribe.jackson.JsonNode;
 import lombok.Data;
@@ -19,11 +20,13 @@ public class MapEncoder<ValueSource> extends AbstractEncoder<Map<String, ValueSo
     final Map<String, JsonNode> result = new HashMap<>(instance.size());
 
     for (final Map.Entry<String, ValueSource> e : instance.entrySet()) {
-      final Context p = path.push(e.getKey());
-
-      value.encodeOptionally(p, e.getValue(), target -> {
-        result.put(e.getKey(), target);
-      });
+      try {
+        if (!value.isAbsent(e.getValue())) {
+          result.put(e.getKey(), value.encode(path, e.getValue()));
+        }
+      } catch (final ContextException ex) {
+        throw ex.pushed(path, e.getKey());
+      }
     }
 
     return new JsonNode.ObjectJsonNode(result);
@@ -2,6 +2,7 @@ package eu.toolchain.scribe.jackson.encoding;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import eu.toolchain.scribe.Context;
+import eu.toolchain.scribe.ContextException;
 import eu.toolchain.scribe.StreamEncoder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -24,17 +25,21 @@ public class MapStreamEncoder<ValueSource> extends AbstractStreamEncoder<Map<Str
     }
 
     for (final Map.Entry<String, ValueSource> entry : instance.entrySet()) {
-      final Context p = path.push(entry.getKey());
+      try {
+        if (value.isAbsent(entry.getValue())) {
+          continue;
+        }
 
-      value.streamEncodeOptionally(p, entry.getValue(), target, callback -> {
         try {
           target.writeFieldName(entry.getKey());
         } catch (final Exception e) {
-          throw p.error("failed to write field name", e);
+          throw path.error("failed to write field name", e);
         }
 
-        callback.run();
-      });
+        value.streamEncode(path, entry.getValue(), target);
+      } catch (final ContextException e) {
+        throw e.pushed(path, entry.getKey());
+      }
     }
 
     try {
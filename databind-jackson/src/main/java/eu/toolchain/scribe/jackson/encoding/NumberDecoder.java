@@ -1,30 +1,29 @@
 package eu.toolchain.scribe.jackson.encoding;
 
 import eu.toolchain.scribe.Context;
-import eu.toolchain.scribe.Decoded;
-import eu.toolchain.scribe.Decoder;
+import eu.toolchain.scribe.DirectDecoder;
 import eu.toolchain.scribe.jackson.JsonNode;
 import lombok.RequiredArgsConstructor;
 
 import java.util.function.Function;
 
 @RequiredArgsConstructor
-public class NumberDecoder<T extends Number> extends AbstractVisitor<T>
-    implements Decoder<JsonNode, T> {
+public class NumberDecoder<T extends Number> extends AbstractVisitor
+    implements DirectDecoder<JsonNode, T> {
   private final Function<Number, T> converter;
 
   @Override
-  public Decoded<T> visitNumber(final JsonNode.NumberJsonNode numberNode) {
-    return Decoded.of(converter.apply(numberNode.getValue()));
+  public Object visitNumber(final JsonNode.NumberJsonNode numberNode) {
+    return converter.apply(numberNode.getValue());
   }
 
   @Override
-  public Decoded<T> visitFloat(final JsonNode.FloatJsonNode floatNode) {
-    return Decoded.of(converter.apply(floatNode.getValue()));
+  public Object visitFloat(final JsonNode.FloatJsonNode floatNode) {
+    return converter.apply(floatNode.getValue());
   }
 
   @Override
-  public Decoded<T> decode(final Context path, final JsonNode instance) {
+  public Object decodeOrAbsent(final Context path, final JsonNode instance) {
     return instance.visit(this);
   }
 
@@ -1,22 +1,21 @@
 package eu.toolchain.scribe.jackson.encoding;
 
 import eu.toolchain.scribe.Context;
-import eu.toolchain.scribe.Decoded;
-import eu.toolchain.scribe.Decoder;
+import eu.toolchain.scribe.DirectDecoder;
 import eu.toolchain.scribe.jackson.JsonNode;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
 @Data
 @EqualsAndHashCode(callSuper = true)
-public class StringDecoder extends AbstractVisitor<String> implements Decoder<JsonNode, String> {
+public class StringDecoder extends AbstractVisitor implements DirectDecoder<JsonNode, String> {
   @Override
-  public Decoded<String> visitString(final JsonNode.StringJsonNode string) {
-    return Decoded.of(string.getValue());
+  public Object visitString(final JsonNode.StringJsonNode string) {
+    return string.getValue();
   }
 
   @Override
-  public Decoded<String> decode(final Context path, final JsonNode instance) {
+  public Object decodeOrAbsent(final Context path, final JsonNode instance) {
     return instance.visit(this);
   }
 
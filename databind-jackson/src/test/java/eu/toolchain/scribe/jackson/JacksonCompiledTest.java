@@ -0,0 +1,31 @@
+package eu.toolchain.scribe.jackson;
+
+import eu.toolchain.scribe.AbstractDatabindTest;
+import eu.toolchain.scribe.DatabindOptions;
+import eu.toolchain.scribe.JacksonAnnotationsModule;
+import eu.toolchain.scribe.NativeAnnotationsModule;
+import eu.toolchain.scribe.Option;
+import eu.toolchain.scribe.Scribe;
+import eu.toolchain.scribe.StringEncoding;
+import eu.toolchain.scribe.TypeReference;
+
+public class JacksonCompiledTest extends AbstractDatabindTest {
+  private JacksonMapper mapper = new JacksonMapper(Scribe
+      .defaultBuilder()
+      .install(new JacksonAnnotationsModule())
+      .install(new NativeAnnotationsModule())
+      .option(DatabindOptions.COMPILED_CODECS)
+      .build());
+
+  @Override
+  protected <S> StringEncoding<S> encodingFor(
+      final TypeReference<S> type, final Option... options
+  ) {
+    return mapper.withOptions(options).stringEncodingFor(type);
+  }
+
+  @Override
+  protected <S> StringEncoding<S> encodingFor(final Class<S> type, final Option... options) {
+    return mapper.withOptions(options).stringEncodingFor(type);
+  }
+}
@@ -0,0 +1,92 @@
+package eu.toolchain.scribe.jackson;
+
+import eu.toolchain.scribe.AbstractDatabindTest;
+import eu.toolchain.scribe.DatabindOptions;
+import eu.toolchain.scribe.Encoder;
+import eu.toolchain.scribe.JacksonAnnotationsModule;
+import eu.toolchain.scribe.LazyCodec;
+import eu.toolchain.scribe.NativeAnnotationsModule;
+import eu.toolchain.scribe.Option;
+import eu.toolchain.scribe.Scribe;
+import eu.toolchain.scribe.StringEncoding;
+import eu.toolchain.scribe.TypeReference;
+import lombok.Data;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public class JacksonLazyTest extends AbstractDatabindTest {
+  private final Scribe scribe = Scribe
+      .defaultBuilder()
+      .install(new JacksonAnnotationsModule())
+      .install(new NativeAnnotationsModule())
+      .option(DatabindOptions.LAZY_CODECS)
+      .build();
+
+  private JacksonMapper mapper = new JacksonMapper(scribe);
+
+  @Override
+  protected <S> StringEncoding<S> encodingFor(
+      final TypeReference<S> type, final Option... options
+  ) {
+    return mapper.withOptions(options).stringEncodingFor(type);
+  }
+
+  @Override
+  protected <S> StringEncoding<S> encodingFor(final Class<S> type, final Option... options) {
+    return mapper.withOptions(options).stringEncodingFor(type);
+  }
+
+  @Data
+  public static class Node {
+    private final String name;
+    private final Optional<Node> next;
+  }
+
+  @Test
+  public void testCircular() {
+    final StringEncoding<Node> encoding = encodingFor(Node.class);
+    final Node node = new Node("a", Optional.of(new Node("b", Optional.empty())));
+
+    assertThat(encoding.decode(encoding.encode(node)), is(node));
+  }
+
+  @Test
+  public void testMaterialize() {
+    final Encoder<JsonNode, Node> encoder =
+        mapper.getEncoderProvider().newEncoder(Node.class);
+
+    assertThat(((LazyCodec<?>) encoder).isMaterialized(), is(false));
+    LazyCodec.materialize(encoder);
+    assertThat(((LazyCodec<?>) encoder).isMaterialized(), is(true));
+  }
+  @Test
+  public void testDiscardedScribeIsCollected() throws Exception {
+    final WeakReference<Scribe> discarded = encodeWithDiscarded();
+
+    for (int i = 0; i < 50 && discarded.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+
+    assertThat(discarded.get(), is(nullValue()));
+  }
+
+  private WeakReference<Scribe> encodeWithDiscarded() {
+    final Scribe discarded = Scribe
+        .defaultBuilder()
+        .install(new NativeAnnotationsModule())
+        .option(DatabindOptions.LAZY_CODECS)
+        .build();
+
+    final StringEncoding<Node> encoding =
+        new JacksonMapper(discarded).stringEncodingFor(Node.class);
+    encoding.encode(new Node("a", Optional.of(new Node("b", Optional.empty()))));
+    return new WeakReference<>(discarded);
+  }
+}
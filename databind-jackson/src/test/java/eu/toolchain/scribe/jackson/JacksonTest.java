@@ -1,6 +1,11 @@
 package eu.toolchain.scribe.jackson;
 
+import com.google.common.collect.ImmutableMap;
 import eu.toolchain.scribe.AbstractDatabindTest;
+import eu.toolchain.scribe.ContextException;
+import eu.toolchain.scribe.ContextOptions;
+import eu.toolchain.scribe.DatabindOptions;
+import eu.toolchain.scribe.DecodeResult;
 import eu.toolchain.scribe.JacksonAnnotationsModule;
 import eu.toolchain.scribe.NativeAnnotationsModule;
 import eu.toolchain.scribe.Option;
@@ -14,9 +19,18 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 import static eu.toolchain.scribe.Matchers.contextException;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
 
 public class JacksonTest extends AbstractDatabindTest {
   @Rule
@@ -64,6 +78,150 @@ public class JacksonTest extends AbstractDatabindTest {
     encoding.decode("{\"field\": {\"field\": {}}}");
   }
 
+  @Data
+  public static class NestedContextError {
+    private final List<Map<String, Child>> children;
+
+    @Data
+    public static class Child {
+      private final int value;
+
+      public int getValue() {
+        if (value < 0) {
+          throw new IllegalStateException("negative");
+        }
+
+        return value;
+      }
+    }
+  }
+
+  @Test
+  public void testNestedContextErrorMessages() {
+    final StringEncoding<NestedContextError> encoding = encodingFor(NestedContextError.class);
+    final NestedContextError value = new NestedContextError(
+        singletonList(singletonMap("a", new NestedContextError.Child(-1))));
+
+    assertThat(messageOf(() -> encoding.decode("{\"children\": [{\"a\": {}}]}")),
+        is("children[0].a.value: missing required field"));
+    assertThat(messageOf(() -> encoding.decode("{\"children\": [{}, {\"b\": {}}]}")),
+        is("children[1].b.value: missing required field"));
+    assertThat(messageOf(() -> mapper.valueEncodingFor(NestedContextError.class).encode(value)),
+        is("children.children[0].a.value: negative"));
+    /* stream encoding errors are wrapped */
+    assertThat(messageOf(() -> encoding.encode(value)),
+        is("children.children[0].a.value: negative"));
+  }
+
+  @Test
+  public void testTryDecodeStackless() {
+    final StringEncoding<NestedContextError> encoding =
+        encodingFor(NestedContextError.class, ContextOptions.STACKLESS_ERRORS);
+
+    final DecodeResult<NestedContextError> failure =
+        encoding.tryDecode("{\"children\": [{\"a\": {}}]}");
+
+    assertThat(failure.isSuccess(), is(false));
+    assertThat(failure.handle(v -> "", e -> e.getMessage()),
+        is("children[0].a.value: missing required field"));
+    assertThat(failure.handle(v -> 0, e -> e.getStackTrace().length), is(0));
+
+    assertThat(encoding.tryDecode("{\"children\": [}").isSuccess(), is(false));
+    assertThat(encoding.tryDecode("null").handle(v -> "", e -> e.getMessage()),
+        is("<empty>: String decoded to nothing"));
+    assertThat(encoding.tryDecode("{\"children\": [{\"a\": {\"value\": 1}}]}").orElseThrow(),
+        is(new NestedContextError(
+            singletonList(singletonMap("a", new NestedContextError.Child(1))))));
+  }
+
+  @Test
+  public void testDecodeExceptions() {
+    final StringEncoding<NestedContextError> encoding = encodingFor(NestedContextError.class);
+
+    assertThat(thrown(() -> encoding.decode("null")).getClass(),
+        is((Object) IllegalArgumentException.class));
+    assertThat(thrown(() -> encoding.decode("{")).getClass(), is((Object) RuntimeException.class));
+
+    /* are failures when trying to decode */
+    assertThat(encoding.tryDecode("null").isSuccess(), is(false));
+    assertThat(encoding.tryDecode("{").handle(v -> "", e -> e.getMessage()),
+        is("<empty>: failed to generate node"));
+    assertThat(mapper
+        .valueEncodingFor(NestedContextError.class)
+        .tryDecode(JsonNode.NullJsonNode.get())
+        .isSuccess(), is(false));
+  }
+
+  private Throwable thrown(final Runnable runnable) {
+    try {
+      runnable.run();
+    } catch (final RuntimeException e) {
+      return e;
+    }
+
+    throw new AssertionError("expected exception");
+  }
+
+  private String messageOf(final Runnable runnable) {
+    try {
+      runnable.run();
+    } catch (final ContextException e) {
+      Throwable innermost = e;
+
+      while (innermost.getCause() instanceof ContextException) {
+        innermost = innermost.getCause();
+      }
+
+      return innermost.getMessage();
+    }
+
+    throw new AssertionError("expected exception");
+  }
+
+  @Data
+  public static class EmptyOptionals {
+    private final Optional<String> field;
+    private final List<Optional<String>> list;
+    private final Map<String, Optional<String>> map;
+  }
+
+  @Test
+  public void testEmptyOptionalsOmitted() {
+    final EmptyOptionals value = new EmptyOptionals(Optional.empty(),
+        singletonList(Optional.empty()), singletonMap("a", Optional.empty()));
+
+    assertThat(encodingFor(EmptyOptionals.class).encode(value),
+        is("{\"list\":[],\"map\":{}}"));
+    assertThat(mapper.valueEncodingFor(EmptyOptionals.class).encode(value),
+        is(new JsonNode.ObjectJsonNode(ImmutableMap.of(
+            "list", new JsonNode.ListJsonNode(emptyList()),
+            "map", new JsonNode.ObjectJsonNode(emptyMap())))));
+
+    final JsonNode nullNode = JsonNode.NullJsonNode.get();
+
+    assertThat(encodingFor(EmptyOptionals.class, DatabindOptions.OPTIONAL_EMPTY_AS_NULL).encode(
+        value), is("{\"field\":null,\"list\":[null],\"map\":{\"a\":null}}"));
+    assertThat(mapper
+        .withOptions(DatabindOptions.OPTIONAL_EMPTY_AS_NULL)
+        .valueEncodingFor(EmptyOptionals.class)
+        .encode(value), is(new JsonNode.ObjectJsonNode(ImmutableMap.of(
+            "field", nullNode,
+            "list", new JsonNode.ListJsonNode(singletonList(nullNode)),
+            "map", new JsonNode.ObjectJsonNode(singletonMap("a", nullNode))))));
+  }
+
+  @Test
+  public void testCodecsSharedByMappers() {
+    final Scribe scribe = Scribe.defaultBuilder().install(new JacksonAnnotationsModule()).build();
+
+    final JacksonMapper a = new JacksonMapper(scribe);
+    final JacksonMapper b = new JacksonMapper(scribe);
+
+    assertThat(b.getEncoderProvider().newEncoderForType(FieldAlias.class),
+        sameInstance(a.getEncoderProvider().newEncoderForType(FieldAlias.class)));
+    assertThat(scribe.codecCacheStats().getHits(), is(1L));
+  }
+
   @Data
   public static class FieldAlias {
     @Property("alias")
@@ -0,0 +1,167 @@
+package eu.toolchain.scribe.jackson;
+
+import eu.toolchain.scribe.JacksonAnnotationsModule;
+import eu.toolchain.scribe.Scribe;
+import eu.toolchain.scribe.WarmUp;
+import eu.toolchain.scribe.annotations.EntitySubTypes;
+import eu.toolchain.scribe.annotations.EntityTypeName;
+import eu.toolchain.scribe.jackson.warmup.Bad;
+import eu.toolchain.scribe.jackson.warmup.Good;
+import lombok.Data;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+public class WarmUpTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testScan() {
+    final List<Class<?>> classes =
+        WarmUp.scan("eu.toolchain.scribe.jackson.warmup", getClass().getClassLoader());
+
+    assertThat(classes, containsInAnyOrder(Good.class, Bad.class));
+  }
+
+  @Test
+  public void testScanDefaultPackage() throws Exception {
+    final File source = folder.newFile("Root.java");
+    Files.write(source.toPath(), "public class Root {}".getBytes(StandardCharsets.UTF_8));
+
+    final int status = ToolProvider
+        .getSystemJavaCompiler()
+        .run(null, null, null, "-d", folder.getRoot().getPath(), source.getPath());
+    assertThat(status, is(0));
+
+    try (final URLClassLoader loader = new URLClassLoader(
+        new URL[]{folder.getRoot().toURI().toURL()}, null)) {
+      final List<String> names =
+          WarmUp.scan("", loader).stream().map(Class::getName).collect(Collectors.toList());
+
+      assertThat(names, contains("Root"));
+    }
+  }
+
+  @Test
+  public void testWarmUp() {
+    final Scribe scribe = Scribe.defaultBuilder().install(new JacksonAnnotationsModule()).build();
+    final JacksonEncodingFactory factory = new JacksonEncodingFactory();
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    try {
+      final WarmUp.Report report = scribe
+          .warmUp()
+          .packagePrefix("eu.toolchain.scribe.jackson.warmup", getClass().getClassLoader(),
+              type -> true)
+          .encoders(factory)
+          .streamEncoders(factory)
+          .decoders(factory)
+          .executor(executor)
+          .run();
+
+      assertThat(report.getResults().size(), is(2));
+      assertThat(report
+          .getFailures()
+          .stream()
+          .map(WarmUp.Result::getType)
+          .collect(Collectors.toList()), contains(Bad.class));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @EntitySubTypes(
+      {@EntitySubTypes.Type(Shape.Circle.class), @EntitySubTypes.Type(Shape.Square.class)})
+  public interface Shape {
+    @Data
+    @EntityTypeName("circle")
+    class Circle implements Shape {
+      private final double radius;
+    }
+
+    @Data
+    @EntityTypeName("square")
+    class Square implements Shape {
+      private final Optional<String> label;
+    }
+  }
+
+  @Data
+  public static class Drawing {
+    private final List<Shape> shapes;
+    private final Optional<String> title;
+  }
+
+  @Test
+  public void testExercise() {
+    final Scribe scribe = Scribe.nativeBuilder().build();
+    final JacksonMapper mapper = new JacksonMapper(scribe);
+
+    final WarmUp.Report report = scribe
+        .warmUp()
+        .type(Drawing.class)
+        .exerciseValues(mapper)
+        .exerciseStrings(mapper)
+        .iterations(10)
+        .timeBudget(Duration.ofMinutes(1))
+        .run();
+
+    final WarmUp.Result result = report.getResults().get(0);
+    assertThat(result.getError(), is(Optional.empty()));
+    assertThat(result.getBranches(),
+        containsInAnyOrder("shapes[0]: sub-type circle", "shapes[0]: sub-type square",
+            "shapes[0].label: present", "shapes[0].label: absent", "title: present",
+            "title: absent"));
+    assertThat(result.getExercised() > 0, is(true));
+  }
+
+  @Data
+  public static class Uninitializable {
+    static {
+      if (Boolean.TRUE) {
+        throw new IllegalStateException("oops");
+      }
+    }
+
+    private final String value;
+  }
+
+  @Test
+  public void testLinkageError() {
+    final Scribe scribe = Scribe.nativeBuilder().build();
+    final JacksonMapper mapper = new JacksonMapper(scribe);
+
+    final WarmUp.Report report = scribe
+        .warmUp()
+        .type(Uninitializable.class)
+        .type(Drawing.class)
+        .exerciseValues(mapper)
+        .iterations(1)
+        .run();
+
+    assertThat(report.getResults().size(), is(2));
+    assertThat(report.getFailures().get(0).getType(), is(Uninitializable.class));
+    assertThat(report.getFailures().get(0).getError().get(),
+        instanceOf(ExceptionInInitializerError.class));
+  }
+}
@@ -0,0 +1,6 @@
+package eu.toolchain.scribe.jackson.warmup;
+
+public class Bad {
+  public Bad(final String name) {
+  }
+}
@@ -0,0 +1,8 @@
+package eu.toolchain.scribe.jackson.warmup;
+
+import lombok.Data;
+
+@Data
+public class Good {
+  private final String name;
+}
@@ -0,0 +1,8 @@
+package eu.toolchain.scribe.jackson.warmup;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Marker {
+}
@@ -0,0 +1,5 @@
+package eu.toolchain.scribe.jackson.warmup;
+
+public interface Named {
+  String getName();
+}
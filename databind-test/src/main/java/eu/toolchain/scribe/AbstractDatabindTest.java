@@ -18,6 +18,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.stream.IntStream;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -81,6 +84,25 @@ public abstract class AbstractDatabindTest {
     roundTrip(e, new OptionalField(Optional.of(E1)));
   }
 
+  @Data
+  public static class PrimitiveOptionalFields {
+    private final OptionalInt intField;
+    private final OptionalLong longField;
+    private final OptionalDouble doubleField;
+  }
+
+  @Test
+  public void testPrimitiveOptionalFields() {
+    final StringEncoding<PrimitiveOptionalFields> e =
+        encodingFor(PrimitiveOptionalFields.class);
+    roundTrip(e,
+        new PrimitiveOptionalFields(OptionalInt.empty(), OptionalLong.empty(),
+            OptionalDouble.empty()));
+    roundTrip(e,
+        new PrimitiveOptionalFields(OptionalInt.of(42), OptionalLong.of(Long.MAX_VALUE),
+            OptionalDouble.of(4.5)));
+  }
+
   @Data
   public static class StringField {
     private final String field;
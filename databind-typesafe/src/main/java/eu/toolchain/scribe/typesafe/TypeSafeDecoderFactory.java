@@ -15,6 +15,7 @@ import eu.toolchain.scribe.typesafe.encoding.ListDecoder;
 import eu.toolchain.scribe.typesafe.encoding.MapDecoder;
 import eu.toolchain.scribe.typesafe.encoding.NumberDecoder;
 import eu.toolchain.scribe.typesafe.encoding.StringDecoder;
+import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
@@ -26,6 +27,7 @@ import static eu.toolchain.scribe.TypeMatcher.isPrimitive;
 import static eu.toolchain.scribe.TypeMatcher.type;
 
 @RequiredArgsConstructor
+@EqualsAndHashCode
 public class TypeSafeDecoderFactory implements DecoderFactory<ConfigValue, ConfigObject> {
   private static final Registry<? super Decoder<ConfigValue, ?>, TypeSafeDecoderFactory> decoders =
       new Registry<>();
@@ -14,6 +14,7 @@ import eu.toolchain.scribe.typesafe.encoding.ListEncoder;
 import eu.toolchain.scribe.typesafe.encoding.MapEncoder;
 import eu.toolchain.scribe.typesafe.encoding.NumberEncoder;
 import eu.toolchain.scribe.typesafe.encoding.StringEncoder;
+import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
@@ -26,6 +27,7 @@ import static eu.toolchain.scribe.TypeMatcher.isPrimitive;
 import static eu.toolchain.scribe.TypeMatcher.type;
 
 @RequiredArgsConstructor
+@EqualsAndHashCode
 public class TypeSafeEncoderFactory implements EncoderFactory<ConfigValue, ConfigObject> {
   private static final Registry<? super Encoder<ConfigValue, ?>, TypeSafeEncoderFactory> encoders =
       new Registry<>();
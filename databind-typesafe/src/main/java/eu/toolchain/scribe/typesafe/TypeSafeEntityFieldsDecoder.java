@@ -19,4 +19,12 @@ public class TypeSafeEntityFieldsDecoder implements EntityFieldsDecoder<ConfigVa
   ) {
     return decoder.decodeOptionally(path, Decoded.ofNullable(value.get(decoder.getName())));
   }
+
+  @Override
+  public <Source> Object decodeFieldOrAbsent(
+      final EntityFieldDecoder<ConfigValue, Source> decoder, final Context path
+  ) {
+    final ConfigValue node = value.get(decoder.getName());
+    return decoder.decodeOptionallyOrAbsent(path, node == null ? Decoded.ABSENT_VALUE : node);
+  }
 }
@@ -4,6 +4,7 @@ import com.typesafe.config.ConfigFactory;
 import com.typesafe.config.ConfigObject;
 import com.typesafe.config.ConfigValue;
 import eu.toolchain.scribe.Context;
+import eu.toolchain.scribe.ContextException;
 import eu.toolchain.scribe.EntityFieldEncoder;
 import eu.toolchain.scribe.EntityFieldsEncoder;
 import lombok.RequiredArgsConstructor;
@@ -19,8 +20,13 @@ public class TypeSafeEntityFieldsEncoder implements EntityFieldsEncoder<ConfigVa
   public <Source> void encodeField(
       EntityFieldEncoder<ConfigValue, Source> field, Context path, Source value
   ) {
-    field.encodeOptionally(path.push(field.getName()), value,
-        target -> object.put(field.getName(), target));
+    try {
+      if (!field.isAbsent(value)) {
+        object.put(field.getName(), field.encode(path, value));
+      }
+    } catch (final ContextException e) {
+      throw e.pushed(path, field.getName());
+    }
   }
 
   @Override
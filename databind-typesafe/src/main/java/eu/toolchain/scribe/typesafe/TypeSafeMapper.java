@@ -4,8 +4,10 @@ import com.typesafe.config.ConfigFactory;
 import com.typesafe.config.ConfigObject;
 import com.typesafe.config.ConfigValue;
 import eu.toolchain.scribe.Context;
+import eu.toolchain.scribe.ContextException;
 import eu.toolchain.scribe.ConverterEncoding;
 import eu.toolchain.scribe.ConverterMapper;
+import eu.toolchain.scribe.DecodeResult;
 import eu.toolchain.scribe.Decoder;
 import eu.toolchain.scribe.Encoder;
 import eu.toolchain.scribe.EntityConverterMapper;
@@ -46,6 +48,7 @@ public class TypeSafeMapper
   public ConverterEncoding<Object, ConfigValue> valueEncodingForType(final Type type) {
     final Encoder<ConfigValue, Object> encoder = encoderProvider.newEncoderForType(type);
     final Decoder<ConfigValue, Object> decoder = decoderProvider.newDecoderForType(type);
+    final Context root = resolver.decodeContext();
 
     return new ConverterEncoding<Object, ConfigValue>() {
       @Override
@@ -56,9 +59,20 @@ public class TypeSafeMapper
       @Override
       public Object decode(final ConfigValue value) {
         return decoder
-            .decode(Context.ROOT, value)
+            .decode(root, value)
             .orElseThrow(() -> new IllegalArgumentException("Value decoded to nothing"));
       }
+
+      @Override
+      public DecodeResult<Object> tryDecode(final ConfigValue value) {
+        try {
+          return DecodeResult.success(decoder
+              .decode(root, value)
+              .orElseThrow(() -> root.error("Value decoded to nothing")));
+        } catch (final ContextException e) {
+          return DecodeResult.failure(e);
+        }
+      }
     };
   }
 
@@ -80,6 +94,7 @@ public class TypeSafeMapper
         (EntityEncoder<ConfigValue, ConfigObject, Object>) valueEncoder;
     final EntityDecoder<ConfigValue, ConfigObject, Object> decoder =
         (EntityDecoder<ConfigValue, ConfigObject, Object>) valueDecoder;
+    final Context root = resolver.decodeContext();
 
     return new ConverterEncoding<Object, ConfigObject>() {
       public ConfigObject encode(Object instance) {
@@ -87,7 +102,7 @@ public class TypeSafeMapper
       }
 
       public Object decode(ConfigObject instance) {
-        return decoder.decodeEntity(Context.ROOT, instance);
+        return decoder.decodeEntity(root, instance);
       }
     };
   }
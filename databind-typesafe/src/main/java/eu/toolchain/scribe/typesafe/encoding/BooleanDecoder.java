@@ -4,22 +4,22 @@ import com.typesafe.config.ConfigValue;
 import com.typesafe.config.ConfigValueType;
 import eu.toolchain.scribe.Context;
 import eu.toolchain.scribe.Decoded;
-import eu.toolchain.scribe.Decoder;
+import eu.toolchain.scribe.DirectDecoder;
 import lombok.Data;
 
 @Data
-public class BooleanDecoder implements Decoder<ConfigValue, Boolean> {
+public class BooleanDecoder implements DirectDecoder<ConfigValue, Boolean> {
   @Override
-  public Decoded<Boolean> decode(final Context path, final ConfigValue instance) {
+  public Object decodeOrAbsent(final Context path, final ConfigValue instance) {
     if (instance.valueType() == ConfigValueType.NULL) {
-      return Decoded.absent();
+      return Decoded.ABSENT_VALUE;
     }
 
     if (instance.valueType() != ConfigValueType.BOOLEAN) {
       throw new IllegalArgumentException("Expected boolean: " + instance);
     }
 
-    return Decoded.of((Boolean) instance.unwrapped());
+    return instance.unwrapped();
   }
 
   private static final BooleanDecoder INSTANCE = new BooleanDecoder();
@@ -3,21 +3,23 @@ package eu.toolchain.scribe.typesafe.encoding;
 import com.typesafe.config.ConfigList;
 import com.typesafe.config.ConfigValue;
 import eu.toolchain.scribe.Context;
+import eu.toolchain.scribe.ContextException;
 import eu.toolchain.scribe.Decoded;
 import eu.toolchain.scribe.Decoder;
+import eu.toolchain.scribe.DirectDecoder;
 import lombok.Data;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Data
-public class ListDecoder<ElementSource> implements Decoder<ConfigValue, List<ElementSource>> {
+public class ListDecoder<ElementSource>
+    implements DirectDecoder<ConfigValue, List<ElementSource>> {
   private final Decoder<ConfigValue, ElementSource> value;
 
+  @SuppressWarnings("unchecked")
   @Override
-  public Decoded<List<ElementSource>> decode(
-      final Context path, final ConfigValue instance
-  ) {
+  public Object decodeOrAbsent(final Context path, final ConfigValue instance) {
     final List<ConfigValue> values;
 
     switch (instance.valueType()) {
@@ -25,7 +27,7 @@ public class ListDecoder<ElementSource> implements Decoder<ConfigValue, List<Ele
         values = ((ConfigList) instance);
         break;
       case NULL:
-        return Decoded.absent();
+        return Decoded.ABSENT_VALUE;
       default:
         throw new IllegalArgumentException("Expected list: " + instance);
     }
@@ -35,10 +37,21 @@ public class ListDecoder<ElementSource> implements Decoder<ConfigValue, List<Ele
     int index = 0;
 
     for (final ConfigValue value : values) {
-      final Context p = path.push(index++);
-      this.value.decode(p, value).ifPresent(result::add);
+      final Object decoded;
+
+      try {
+        decoded = this.value.decodeOrAbsent(path, value);
+      } catch (final ContextException e) {
+        throw e.pushed(path, index);
+      }
+
+      if (decoded != Decoded.ABSENT_VALUE) {
+        result.add((ElementSource) decoded);
+      }
+
+      index++;
     }
 
-    return Decoded.of(result);
+    return result;
   }
 }
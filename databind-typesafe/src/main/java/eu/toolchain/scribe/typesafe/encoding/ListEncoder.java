@@ -3,6 +3,7 @@ package eu.toolchain.scribe.typesafe.encoding;
 import com.typesafe.config.ConfigValue;
 import com.typesafe.config.ConfigValueFactory;
 import eu.toolchain.scribe.Context;
+import eu.toolchain.scribe.ContextException;
 import eu.toolchain.scribe.Encoder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -22,8 +23,15 @@ public class ListEncoder<ElementSource> extends AbstractEncoder<List<ElementSour
     int index = 0;
 
     for (final ElementSource value : instance) {
-      final Context p = path.push(index++);
-      this.value.encodeOptionally(p, value, result::add);
+      try {
+        if (!this.value.isAbsent(value)) {
+          result.add(this.value.encode(path, value));
+        }
+      } catch (final ContextException e) {
+        throw e.pushed(path, index);
+      }
+
+      index++;
     }
 
     return ConfigValueFactory.fromIterable(result);
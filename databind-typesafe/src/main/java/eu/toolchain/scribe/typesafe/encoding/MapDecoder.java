@@ -3,8 +3,10 @@ package eu.toolchain.scribe.typesafe.encoding;
 import com.typesafe.config.ConfigObject;
 import com.typesafe.config.ConfigValue;
 import eu.toolchain.scribe.Context;
+import eu.toolchain.scribe.ContextException;
 import eu.toolchain.scribe.Decoded;
 import eu.toolchain.scribe.Decoder;
+import eu.toolchain.scribe.DirectDecoder;
 import lombok.Data;
 
 import java.util.Collections;
@@ -12,13 +14,13 @@ import java.util.HashMap;
 import java.util.Map;
 
 @Data
-public class MapDecoder<ValueSource> implements Decoder<ConfigValue, Map<String, ValueSource>> {
+public class MapDecoder<ValueSource>
+    implements DirectDecoder<ConfigValue, Map<String, ValueSource>> {
   private final Decoder<ConfigValue, ValueSource> value;
 
+  @SuppressWarnings("unchecked")
   @Override
-  public Decoded<Map<String, ValueSource>> decode(
-      final Context path, final ConfigValue instance
-  ) {
+  public Object decodeOrAbsent(final Context path, final ConfigValue instance) {
     final Map<String, ConfigValue> values;
 
     switch (instance.valueType()) {
@@ -26,7 +28,7 @@ public class MapDecoder<ValueSource> implements Decoder<ConfigValue, Map<String,
         values = ((ConfigObject) instance);
         break;
       case NULL:
-        return Decoded.absent();
+        return Decoded.ABSENT_VALUE;
       default:
         throw new IllegalArgumentException("Expected object: " + instance);
     }
@@ -34,13 +36,19 @@ public class MapDecoder<ValueSource> implements Decoder<ConfigValue, Map<String,
     final Map<String, ValueSource> result = new HashMap<>();
 
     for (final Map.Entry<String, ConfigValue> e : values.entrySet()) {
-      final Context p = path.push(e.getKey());
+      final Object decoded;
 
-      value.decode(p, e.getValue()).ifPresent(v -> {
-        result.put(e.getKey(), v);
-      });
+      try {
+        decoded = value.decodeOrAbsent(path, e.getValue());
+      } catch (final ContextException ex) {
+        throw ex.pushed(path, e.getKey());
+      }
+
+      if (decoded != Decoded.ABSENT_VALUE) {
+        result.put(e.getKey(), (ValueSource) decoded);
+      }
     }
 
-    return Decoded.of(Collections.unmodifiableMap(result));
+    return Collections.unmodifiableMap(result);
   }
 }
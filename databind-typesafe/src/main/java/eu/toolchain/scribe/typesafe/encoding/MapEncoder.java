@@ -3,6 +3,7 @@ package eu.toolchain.scribe.typesafe.encoding;
 import com.typesafe.config.ConfigValue;
 import com.typesafe.config.ConfigValueFactory;
 import eu.toolchain.scribe.Context;
+import eu.toolchain.scribe.ContextException;
 import eu.toolchain.scribe.Encoder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -20,11 +21,13 @@ public class MapEncoder<ValueSource> extends AbstractEncoder<Map<String, ValueSo
     final Map<String, ConfigValue> result = new HashMap<>();
 
     for (final Map.Entry<String, ValueSource> e : instance.entrySet()) {
-      final Context p = path.push(e.getKey());
-
-      value.encodeOptionally(p, e.getValue(), target -> {
-        result.put(e.getKey(), target);
-      });
+      try {
+        if (!value.isAbsent(e.getValue())) {
+          result.put(e.getKey(), value.encode(path, e.getValue()));
+        }
+      } catch (final ContextException ex) {
+        throw ex.pushed(path, e.getKey());
+      }
     }
 
     return ConfigValueFactory.fromMap(result);
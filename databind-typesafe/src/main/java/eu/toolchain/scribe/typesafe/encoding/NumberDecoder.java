@@ -4,26 +4,26 @@ import com.typesafe.config.ConfigValue;
 import com.typesafe.config.ConfigValueType;
 import eu.toolchain.scribe.Context;
 import eu.toolchain.scribe.Decoded;
-import eu.toolchain.scribe.Decoder;
+import eu.toolchain.scribe.DirectDecoder;
 import lombok.Data;
 
 import java.util.function.Function;
 
 @Data
-public class NumberDecoder<T extends Number> implements Decoder<ConfigValue, T> {
+public class NumberDecoder<T extends Number> implements DirectDecoder<ConfigValue, T> {
   private final Function<Number, T> converter;
 
   @Override
-  public Decoded<T> decode(final Context path, final ConfigValue instance) {
+  public Object decodeOrAbsent(final Context path, final ConfigValue instance) {
     if (instance.valueType() == ConfigValueType.NULL) {
-      return Decoded.absent();
+      return Decoded.ABSENT_VALUE;
     }
 
     if (instance.valueType() != ConfigValueType.NUMBER) {
       throw new IllegalArgumentException("Expected number: " + instance);
     }
 
-    return Decoded.of(converter.apply(((Number) instance.unwrapped())));
+    return converter.apply(((Number) instance.unwrapped()));
   }
 
   public static final NumberDecoder<Short> SHORT = new NumberDecoder<>(Number::shortValue);
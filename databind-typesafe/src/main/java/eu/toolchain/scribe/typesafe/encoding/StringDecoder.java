@@ -3,18 +3,18 @@ package eu.toolchain.scribe.typesafe.encoding;
 import com.typesafe.config.ConfigValue;
 import eu.toolchain.scribe.Context;
 import eu.toolchain.scribe.Decoded;
-import eu.toolchain.scribe.Decoder;
+import eu.toolchain.scribe.DirectDecoder;
 import lombok.Data;
 
 @Data
-public class StringDecoder implements Decoder<ConfigValue, String> {
+public class StringDecoder implements DirectDecoder<ConfigValue, String> {
   @Override
-  public Decoded<String> decode(final Context path, final ConfigValue instance) {
+  public Object decodeOrAbsent(final Context path, final ConfigValue instance) {
     switch (instance.valueType()) {
       case STRING:
-        return Decoded.of((String) instance.unwrapped());
+        return instance.unwrapped();
       case NULL:
-        return Decoded.absent();
+        return Decoded.ABSENT_VALUE;
       default:
         throw new IllegalArgumentException("Expected string: " + instance);
     }
@@ -1,14 +1,29 @@
 package eu.toolchain.scribe.typesafe;
 
+import com.typesafe.config.ConfigRenderOptions;
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueFactory;
 import eu.toolchain.scribe.AbstractDatabindTest;
+import eu.toolchain.scribe.ConverterEncoding;
+import eu.toolchain.scribe.DatabindOptions;
 import eu.toolchain.scribe.Scribe;
 import eu.toolchain.scribe.NativeAnnotationsModule;
 import eu.toolchain.scribe.Option;
 import eu.toolchain.scribe.StringEncoding;
 import eu.toolchain.scribe.TypeReference;
+import lombok.Data;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
 public class TypeSafeTest extends AbstractDatabindTest {
   private TypeSafeMapper mapper = new TypeSafeMapper(
       Scribe.defaultBuilder().install(new NativeAnnotationsModule()).build());
@@ -36,4 +51,46 @@ public class TypeSafeTest extends AbstractDatabindTest {
   @Override
   public void testValue() throws Exception {
   }
+
+  @Data
+  public static class EmptyOptionals {
+    private final Optional<String> field;
+    private final List<Optional<String>> list;
+    private final Map<String, Optional<String>> map;
+  }
+
+  @Test
+  public void testEmptyOptionalsOmitted() {
+    final EmptyOptionals value = new EmptyOptionals(Optional.empty(),
+        singletonList(Optional.empty()), singletonMap("a", Optional.empty()));
+
+    assertThat(render(mapper.valueEncodingFor(EmptyOptionals.class).encode(value)),
+        is("{\"list\":[],\"map\":{}}"));
+    assertThat(render(mapper
+            .withOptions(DatabindOptions.OPTIONAL_EMPTY_AS_NULL)
+            .valueEncodingFor(EmptyOptionals.class)
+            .encode(value)),
+        is("{\"field\":null,\"list\":[null],\"map\":{\"a\":null}}"));
+  }
+
+  private String render(final ConfigValue value) {
+    return value.render(ConfigRenderOptions.concise());
+  }
+
+  @Test
+  public void testDecodedToNothing() {
+    final ConverterEncoding<StringField, ConfigValue> encoding =
+        mapper.valueEncodingFor(StringField.class);
+    final ConfigValue nothing = ConfigValueFactory.fromAnyRef(null);
+
+    try {
+      encoding.decode(nothing);
+      throw new AssertionError("expected exception");
+    } catch (final IllegalArgumentException e) {
+      assertThat(e.getMessage(), is("Value decoded to nothing"));
+    }
+
+    assertThat(encoding.tryDecode(nothing).handle(v -> "", e -> e.getMessage()),
+        is("<empty>: Value decoded to nothing"));
+  }
 }
@@ -21,9 +21,19 @@ public class AbstractEntityDecoder<Target, EntityTarget, Source>
   public Source decodeEntity(
       final Context path, final EntityTarget entity, final EntityFieldsDecoder<Target> decoder
   ) {
-    final String type = decoder
-        .decodeField(typeDecoder, path.push(typeDecoder.getName()))
-        .orElseThrow(() -> path.error("No type information available"));
+    final Decoded<String> decoded;
+
+    try {
+      if (decoder instanceof SubTypeDecoder) {
+        decoded = ((SubTypeDecoder) decoder).decodeSubType(path, byName.keySet());
+      } else {
+        decoded = decoder.decodeField(typeDecoder, path);
+      }
+    } catch (final ContextException e) {
+      throw e.pushed(path, typeDecoder.getName());
+    }
+
+    final String type = decoded.orElseThrow(() -> path.error("No type information available"));
 
     final EntityDecoder<Target, EntityTarget, Source> sub = byName.get(type);
 
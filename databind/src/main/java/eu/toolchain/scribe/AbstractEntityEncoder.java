@@ -1,24 +1,43 @@
 package eu.toolchain.scribe;
 
 import eu.toolchain.scribe.reflection.JavaType;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 
 import java.util.Map;
 
 @Data
+@EqualsAndHashCode(exclude = "dispatch")
+@ToString(exclude = "dispatch")
 public class AbstractEntityEncoder<Target, EntityTarget, Source>
     implements EntityEncoder<Target, EntityTarget, Source> {
   private final Map<JavaType, TypeEntry<Target, EntityTarget, Source>> byType;
   private final EncoderFactory<Target, EntityTarget> factory;
   private final EntityFieldEncoder<Target, String> typeEncoder;
 
+  @Getter(AccessLevel.NONE)
+  private final SubTypeDispatch<TypeEntry<Target, EntityTarget, Source>> dispatch;
+
+  public AbstractEntityEncoder(
+      final Map<JavaType, TypeEntry<Target, EntityTarget, Source>> byType,
+      final EncoderFactory<Target, EntityTarget> factory,
+      final EntityFieldEncoder<Target, String> typeEncoder
+  ) {
+    this.byType = byType;
+    this.factory = factory;
+    this.typeEncoder = typeEncoder;
+    this.dispatch = new SubTypeDispatch<>(byType);
+  }
+
   @Override
   public EntityTarget encodeEntity(
       final EntityFieldsEncoder<Target, EntityTarget> encoder, final Context path,
       final Source instance, final Runnable callback
   ) {
-    final TypeEntry<Target, EntityTarget, Source> sub =
-        byType.get(JavaType.of(instance.getClass()));
+    final TypeEntry<Target, EntityTarget, Source> sub = dispatch.get(instance.getClass());
 
     if (sub == null) {
       throw path.error("Could not resolve subtype for (" + instance + ")");
@@ -26,7 +45,12 @@ public class AbstractEntityEncoder<Target, EntityTarget, Source>
 
     return sub.getEncoder().encodeEntity(encoder, path, instance, () -> {
       callback.run();
-      encoder.encodeField(typeEncoder, path.push(typeEncoder.getName()), sub.getType());
+
+      try {
+        encoder.encodeField(typeEncoder, path, sub.getType());
+      } catch (final ContextException e) {
+        throw e.pushed(path, typeEncoder.getName());
+      }
     });
   }
 
@@ -1,23 +1,43 @@
 package eu.toolchain.scribe;
 
 import eu.toolchain.scribe.reflection.JavaType;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 
 import java.util.Map;
 
 @Data
+@EqualsAndHashCode(exclude = "dispatch")
+@ToString(exclude = "dispatch")
 public class AbstractEntityStreamEncoder<Target, Source>
     implements EntityStreamEncoder<Target, Source> {
   private final Map<JavaType, EntityEncoderEntry<Target, Source>> byType;
   private final StreamEncoderFactory<Target> factory;
   private final EntityFieldStreamEncoder<Target, String> typeEncoder;
 
+  @Getter(AccessLevel.NONE)
+  private final SubTypeDispatch<EntityEncoderEntry<Target, Source>> dispatch;
+
+  public AbstractEntityStreamEncoder(
+      final Map<JavaType, EntityEncoderEntry<Target, Source>> byType,
+      final StreamEncoderFactory<Target> factory,
+      final EntityFieldStreamEncoder<Target, String> typeEncoder
+  ) {
+    this.byType = byType;
+    this.factory = factory;
+    this.typeEncoder = typeEncoder;
+    this.dispatch = new SubTypeDispatch<>(byType);
+  }
+
   @Override
   public void streamEncode(
       final EntityFieldsStreamEncoder<Target> encoder, final Context path, final Source instance,
       final Target target, final Runnable callback
   ) {
-    final EntityEncoderEntry<Target, Source> sub = byType.get(JavaType.of(instance.getClass()));
+    final EntityEncoderEntry<Target, Source> sub = dispatch.get(instance.getClass());
 
     if (sub == null) {
       throw path.error("Could not resolve subtype for instance (" + instance + ")");
@@ -25,7 +45,12 @@ public class AbstractEntityStreamEncoder<Target, Source>
 
     sub.getEncoder().streamEncode(encoder, path, instance, target, () -> {
       callback.run();
-      encoder.encodeField(typeEncoder, path.push(typeEncoder.getName()), sub.getType(), target);
+
+      try {
+        encoder.encodeField(typeEncoder, path, sub.getType(), target);
+      } catch (final ContextException e) {
+        throw e.pushed(path, typeEncoder.getName());
+      }
     });
   }
 
@@ -0,0 +1,36 @@
+package eu.toolchain.scribe;
+
+import eu.toolchain.scribe.reflection.Annotations;
+import eu.toolchain.scribe.reflection.JavaType;
+import lombok.Data;
+
+import java.util.function.Function;
+
+/**
+ * A field reader that reads fields through a plain function, typically generated at compile time.
+ */
+@Data
+public class AccessorFieldReader implements FieldReader {
+  private final Function<Object, Object> accessor;
+  private final Annotations annotations;
+  private final JavaType fieldType;
+
+  @Override
+  public Object read(final Context path, final Object instance) {
+    try {
+      return accessor.apply(instance);
+    } catch (final Exception e) {
+      throw path.error(e);
+    }
+  }
+
+  @Override
+  public Annotations annotations() {
+    return annotations;
+  }
+
+  @Override
+  public JavaType fieldType() {
+    return fieldType;
+  }
+}
@@ -43,7 +43,7 @@ public class AnnotatedFieldReader implements FieldReader {
         .filter(m -> annotationValue
             .apply(m.getAnnotation(annotation).findFirst().get())
             .equals(fieldName))
-        .map(m -> {
+        .<FieldReader>map(m -> {
           final JavaType fieldType = m.getReturnType();
 
           if (!knownType.equals(fieldType)) {
@@ -53,7 +53,9 @@ public class AnnotatedFieldReader implements FieldReader {
           }
 
           final Annotations annotations = Annotations.of(m.getAnnotationStream());
-          return new AnnotatedFieldReader(m, annotations, fieldType);
+          return BoundFieldReader
+              .bind(m, annotations, fieldType)
+              .orElseGet(() -> new AnnotatedFieldReader(m, annotations, fieldType));
         })
         .map(Match.withPriority(MatchPriority.HIGH));
   }
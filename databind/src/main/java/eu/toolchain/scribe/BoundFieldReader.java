@@ -0,0 +1,240 @@
+package eu.toolchain.scribe;
+
+import eu.toolchain.scribe.reflection.Annotations;
+import eu.toolchain.scribe.reflection.JavaType;
+import lombok.Data;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * A field reader that has its getter bound to a plain function call at resolution time.
+ * <p>
+ * Getters are spun into {@link java.util.function.Function} instances through
+ * {@link java.lang.invoke.LambdaMetafactory} when the involved types are visible to this class
+ * loader, and bound as a {@link java.lang.invoke.MethodHandle} otherwise.
+ * <p>
+ * Getters returning {@code int}, {@code long}, {@code double} or {@code boolean} are additionally
+ * spun into the matching primitive function, so that they can be read without boxing.
+ */
+@Data
+public class BoundFieldReader implements FieldReader {
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Function.class);
+  private static final MethodType APPLY_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  private final JavaType.Method getter;
+  private final Function<Object, Object> accessor;
+  /* primitive function matching the return type of the getter, or null */
+  private final Object primitiveAccessor;
+  private final Annotations annotations;
+  private final JavaType fieldType;
+
+  @Override
+  public Object read(final Context path, final Object instance) {
+    try {
+      return accessor.apply(instance);
+    } catch (final Exception e) {
+      throw path.error(e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public int readInt(final Context path, final Object instance) {
+    if (!(primitiveAccessor instanceof ToIntFunction)) {
+      return FieldReader.super.readInt(path, instance);
+    }
+
+    try {
+      return ((ToIntFunction<Object>) primitiveAccessor).applyAsInt(instance);
+    } catch (final Exception e) {
+      throw path.error(e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public long readLong(final Context path, final Object instance) {
+    if (!(primitiveAccessor instanceof ToLongFunction)) {
+      return FieldReader.super.readLong(path, instance);
+    }
+
+    try {
+      return ((ToLongFunction<Object>) primitiveAccessor).applyAsLong(instance);
+    } catch (final Exception e) {
+      throw path.error(e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public double readDouble(final Context path, final Object instance) {
+    if (!(primitiveAccessor instanceof ToDoubleFunction)) {
+      return FieldReader.super.readDouble(path, instance);
+    }
+
+    try {
+      return ((ToDoubleFunction<Object>) primitiveAccessor).applyAsDouble(instance);
+    } catch (final Exception e) {
+      throw path.error(e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public boolean readBoolean(final Context path, final Object instance) {
+    if (!(primitiveAccessor instanceof Predicate)) {
+      return FieldReader.super.readBoolean(path, instance);
+    }
+
+    try {
+      return ((Predicate<Object>) primitiveAccessor).test(instance);
+    } catch (final Exception e) {
+      throw path.error(e);
+    }
+  }
+
+  @Override
+  public Annotations annotations() {
+    return annotations;
+  }
+
+  @Override
+  public JavaType fieldType() {
+    return fieldType;
+  }
+
+  /**
+   * Attempt to bind the given getter.
+   *
+   * @param getter Getter to bind.
+   * @param annotations Annotations of the field.
+   * @param fieldType Type of the field.
+   * @return A bound field reader, or empty if the getter can not be bound and reflection should be
+   * used.
+   */
+  public static Optional<FieldReader> bind(
+      final JavaType.Method getter, final Annotations annotations, final JavaType fieldType
+  ) {
+    if (getter.isStatic() || !getter.getParameters().isEmpty()) {
+      return Optional.empty();
+    }
+
+    final MethodHandle handle;
+
+    try {
+      handle = getter.unreflect(LOOKUP);
+    } catch (final IllegalAccessException e) {
+      return Optional.empty();
+    }
+
+    return Optional.of(
+        new BoundFieldReader(getter, accessor(handle), primitiveAccessor(handle), annotations,
+            fieldType));
+  }
+
+  @SuppressWarnings("unchecked")
+  static Function<Object, Object> accessor(final MethodHandle handle) {
+    final MethodType type = handle.type();
+
+    if (isVisible(type.parameterType(0)) && isVisible(type.returnType())) {
+      try {
+        final CallSite site =
+            LambdaMetafactory.metafactory(LOOKUP, "apply", ACCESSOR_TYPE, APPLY_TYPE, handle,
+                type.wrap());
+        return (Function<Object, Object>) site.getTarget().invoke();
+      } catch (final VirtualMachineError e) {
+        throw e;
+      } catch (final Throwable e) {
+        /* fall through to a method handle accessor */
+      }
+    }
+
+    return new MethodHandleAccessor(handle.asType(APPLY_TYPE));
+  }
+
+  /**
+   * Spin a primitive function for getters returning a primitive, or null if there is none.
+   */
+  static Object primitiveAccessor(final MethodHandle handle) {
+    final MethodType type = handle.type();
+    final Class<?> returnType = type.returnType();
+
+    final Class<?> function;
+    final String name;
+
+    if (returnType == int.class) {
+      function = ToIntFunction.class;
+      name = "applyAsInt";
+    } else if (returnType == long.class) {
+      function = ToLongFunction.class;
+      name = "applyAsLong";
+    } else if (returnType == double.class) {
+      function = ToDoubleFunction.class;
+      name = "applyAsDouble";
+    } else if (returnType == boolean.class) {
+      function = Predicate.class;
+      name = "test";
+    } else {
+      return null;
+    }
+
+    if (!isVisible(type.parameterType(0))) {
+      return null;
+    }
+
+    try {
+      final CallSite site = LambdaMetafactory.metafactory(LOOKUP, name,
+          MethodType.methodType(function), MethodType.methodType(returnType, Object.class), handle,
+          type);
+      return site.getTarget().invoke();
+    } catch (final VirtualMachineError e) {
+      throw e;
+    } catch (final Throwable e) {
+      /* fall back to boxing through the accessor */
+      return null;
+    }
+  }
+
+  /**
+   * Check if the given type can be linked against from classes spun by this class.
+   */
+  private static boolean isVisible(final Class<?> type) {
+    if (type.isPrimitive()) {
+      return true;
+    }
+
+    try {
+      return Class.forName(type.getName(), false, BoundFieldReader.class.getClassLoader()) == type;
+    } catch (final ClassNotFoundException e) {
+      return false;
+    }
+  }
+
+  @Data
+  static class MethodHandleAccessor implements Function<Object, Object> {
+    private final MethodHandle handle;
+
+    @Override
+    public Object apply(final Object instance) {
+      try {
+        return (Object) handle.invokeExact(instance);
+      } catch (final RuntimeException | Error e) {
+        throw e;
+      } catch (final Throwable e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
@@ -41,6 +41,10 @@ public class BuilderClassEncoding<Source> implements ClassEncoding<Source> {
       fields.add(new ReadFieldsEntityEncoder.Field<>(fieldEncoder, field.getReader()));
     }
 
+    if (resolver.isOptionPresent(DatabindOptions.COMPILED_CODECS)) {
+      return CodecCompiler.entityEncoder(fields, factory);
+    }
+
     return new ReadFieldsEntityEncoder<>(Collections.unmodifiableList(fields), factory);
   }
 
@@ -59,6 +63,10 @@ public class BuilderClassEncoding<Source> implements ClassEncoding<Source> {
           new ReadFieldsEntityStreamEncoder.ReadFieldsEntityField<>(encoder, field.getReader()));
     }
 
+    if (resolver.isOptionPresent(DatabindOptions.COMPILED_CODECS)) {
+      return CodecCompiler.entityStreamEncoder(fields, factory);
+    }
+
     return new ReadFieldsEntityStreamEncoder<>(Collections.unmodifiableList(fields), factory);
   }
 
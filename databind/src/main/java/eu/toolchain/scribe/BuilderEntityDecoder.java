@@ -3,7 +3,6 @@ package eu.toolchain.scribe;
 import eu.toolchain.scribe.reflection.JavaType;
 import lombok.Data;
 
-import java.util.Collections;
 import java.util.List;
 
 @Data
@@ -30,18 +29,25 @@ public class BuilderEntityDecoder<Target, EntityTarget, Source>
   public Source decodeEntity(
       final Context path, final EntityTarget entity, final EntityFieldsDecoder<Target> decoder
   ) {
-    final Object builder = newBuilder.newInstance(path, Collections.emptyList());
+    final Object builder = newBuilder.newInstance(path, InstanceBuilder.NO_ARGUMENTS);
 
     for (final BuilderEntityFieldDecoder<Target, ?> m : fields) {
-      final Context p = path.push(m.getName());
+      final Object value;
 
-      final Object value =
-          decoder.decodeField(m, p).orElseThrow(() -> p.error("missing required field"));
+      try {
+        value = decoder.decodeFieldOrAbsent(m, path);
+
+        if (value == Decoded.ABSENT_VALUE) {
+          throw path.error("missing required field");
+        }
+      } catch (final ContextException e) {
+        throw e.pushed(path, m.getName());
+      }
 
       try {
         m.getSetter().invoke(builder, value);
       } catch (final Exception e) {
-        throw p.error(
+        throw path.push(m.getName()).error(
             "Failed to invoke builder method " + m.getName() + " with argument (" + value + ")", e);
       }
     }
@@ -23,4 +23,9 @@ class BuilderEntityFieldDecoder<Target, Source> implements EntityFieldDecoder<Ta
   ) {
     return parent.decodeOptionally(path, instance);
   }
+
+  @Override
+  public Object decodeOptionallyOrAbsent(final Context path, final Object instance) {
+    return parent.decodeOptionallyOrAbsent(path, instance);
+  }
 }
@@ -3,8 +3,6 @@ package eu.toolchain.scribe;
 import eu.toolchain.scribe.reflection.JavaType;
 import lombok.Data;
 
-import java.util.function.Consumer;
-
 @Data
 class BuilderEntityFieldEncoder<Target, Source> implements EntityFieldEncoder<Target, Source> {
   private final String name;
@@ -20,9 +18,7 @@ class BuilderEntityFieldEncoder<Target, Source> implements EntityFieldEncoder<Ta
   }
 
   @Override
-  public void encodeOptionally(
-      final Context path, final Source instance, final Consumer<Target> consumer
-  ) {
-    parent.encodeOptionally(path, instance, consumer);
+  public boolean isAbsent(final Source instance) {
+    return parent.isAbsent(instance);
   }
 }
@@ -0,0 +1,21 @@
+package eu.toolchain.scribe;
+
+import lombok.Data;
+
+/**
+ * Statistics for a cache of the resolver.
+ */
+@Data
+public class CacheStats {
+  private final long hits;
+  private final long misses;
+  /**
+   * Entries removed to keep the cache within its maximum size.
+   */
+  private final long evictions;
+  /**
+   * Entries released since the classes they refer to were unloaded.
+   */
+  private final long unloaded;
+  private final long size;
+}
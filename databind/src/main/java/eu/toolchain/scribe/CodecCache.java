@@ -0,0 +1,122 @@
+package eu.toolchain.scribe;
+
+import lombok.Data;
+
+import java.lang.reflect.Type;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of encoders and decoders built for root types.
+ * <p>
+ * Lookups of cached codecs are lock-free. Codecs are built outside of the cache, so two threads
+ * missing the same key at the same time might both build it, in which case the first one to be
+ * stored is used by both.
+ * <p>
+ * Cached codecs do not prevent the classes they are built for from being unloaded. When the cache
+ * is full, the codecs of the least recently added type are evicted to make room for new ones.
+ * <p>
+ * Codecs built with {@link DatabindOptions#LAZY_CODECS} refer to the resolver which builds their
+ * entities on first use, and through it to this cache. These are held by the cache instead, so that
+ * they are released together with the resolver, at the cost of keeping their types loaded while it
+ * is in use.
+ *
+ * @see WeakClassCache
+ */
+public class CodecCache {
+  public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+  private final WeakClassCache<Key, Object> codecs;
+  private final int maximumSize;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public CodecCache(final int maximumSize) {
+    if (maximumSize < 0) {
+      throw new IllegalArgumentException("Maximum size must not be negative: " + maximumSize);
+    }
+
+    this.maximumSize = maximumSize;
+    this.codecs = new WeakClassCache<>(maximumSize);
+  }
+
+  /**
+   * Get the cached codec for the given key, or build and cache it.
+   *
+   * @param kind Kind of codec.
+   * @param factory Factory that the codec is built with.
+   * @param type Type that the codec is built for.
+   * @param options Options of the resolver that the codec is built by.
+   * @param build Function building the codec.
+   * @param <T> Type of the codec.
+   * @return The cached, or built codec.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(
+      final Kind kind, final Object factory, final Type type, final Set<Option> options,
+      final Supplier<T> build
+  ) {
+    final Key key = new Key(kind, factory, type, options);
+    final Class<?> owner = owner(key);
+    final Object cached = codecs.get(owner, key);
+
+    if (cached != null) {
+      hits.increment();
+      return (T) cached;
+    }
+
+    misses.increment();
+
+    final T codec = build.get();
+
+    if (maximumSize == 0) {
+      return codec;
+    }
+
+    final Object existing = codecs.putIfAbsent(owner, key, codec);
+    return existing != null ? (T) existing : codec;
+  }
+
+  /**
+   * Get statistics for this cache.
+   *
+   * @return Statistics for this cache.
+   */
+  public CacheStats stats() {
+    return new CacheStats(hits.sum(), misses.sum(), codecs.evictions(), codecs.unloaded(),
+        codecs.size());
+  }
+
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  private static Class<?> owner(final Key key) {
+    if (key.options.contains(DatabindOptions.LAZY_CODECS)) {
+      return null;
+    }
+
+    Class<?> owner = WeakClassCache.ownerOf(key.type, null);
+    owner = WeakClassCache.moreSpecific(owner, key.factory.getClass());
+
+    for (final Option option : key.options) {
+      owner = WeakClassCache.moreSpecific(owner, option.getClass());
+    }
+
+    return WeakClassCache.owner(owner);
+  }
+
+  public enum Kind {
+    ENCODER, STREAM_ENCODER, DECODER
+  }
+
+  @Data
+  private static class Key {
+    private final Kind kind;
+    private final Object factory;
+    private final Type type;
+    private final Set<Option> options;
+  }
+}
@@ -0,0 +1,149 @@
+package eu.toolchain.scribe;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Compiles entity codecs into dedicated classes.
+ * <p>
+ * Every compiled entity codec is backed by private copies of the template classes, defined
+ * unmodified in a class loader of its own. This gives each entity type its own set of call sites,
+ * allowing the JIT to inline field reads and instance creation as if they were written out by hand.
+ * The fields of one entity share a copy.
+ *
+ * @see DatabindOptions#COMPILED_CODECS
+ */
+public final class CodecCompiler {
+  private static final ConcurrentMap<Class<?>, byte[]> TEMPLATES = new ConcurrentHashMap<>();
+
+  private CodecCompiler() {
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <Target, EntityTarget, Source> EntityEncoder<Target, EntityTarget, Source>
+  entityEncoder(
+      final List<? extends ReadFieldsEntityEncoder.Field<Target, Object>> fields,
+      final EncoderFactory<Target, EntityTarget> factory
+  ) {
+    final TemplateClassLoader loader = new TemplateClassLoader();
+    CompiledEncodeStep<Target, EntityTarget> next = CompiledEncodeStep.end();
+
+    for (int i = fields.size() - 1; i >= 0; i--) {
+      final ReadFieldsEntityEncoder.Field<Target, Object> field = fields.get(i);
+      next = instantiate(loader, CompiledEncodeField.class, field.getEncoder(),
+          field.getReader(), accessor(field.getReader()), next);
+    }
+
+    return instantiate(loader, CompiledEntityEncoder.class, next, factory);
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <Target, Source> EntityStreamEncoder<Target, Source> entityStreamEncoder(
+      final List<ReadFieldsEntityStreamEncoder.ReadFieldsEntityField<Target, Object>> fields,
+      final StreamEncoderFactory<Target> factory
+  ) {
+    final TemplateClassLoader loader = new TemplateClassLoader();
+    CompiledStreamEncodeStep<Target> next = CompiledStreamEncodeStep.end();
+
+    for (int i = fields.size() - 1; i >= 0; i--) {
+      final ReadFieldsEntityStreamEncoder.ReadFieldsEntityField<Target, Object> field =
+          fields.get(i);
+      next = instantiate(loader, CompiledStreamEncodeField.class, field.getEncoder(),
+          field.getReader(), accessor(field.getReader()), next);
+    }
+
+    return instantiate(loader, CompiledEntityStreamEncoder.class, next, factory);
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <Target, EntityTarget, Source> EntityDecoder<Target, EntityTarget, Source>
+  entityDecoder(
+      final List<EntityFieldDecoder<Target, Object>> fields,
+      final InstanceBuilder<Source> instanceBuilder,
+      final DecoderFactory<Target, EntityTarget> factory
+  ) {
+    final TemplateClassLoader loader = new TemplateClassLoader();
+    CompiledDecodeStep<Target> next = CompiledDecodeStep.end();
+
+    for (int i = fields.size() - 1; i >= 0; i--) {
+      next = instantiate(loader, CompiledDecodeField.class, fields.get(i), i, next);
+    }
+
+    return instantiate(loader, CompiledEntityDecoder.class, next, fields.size(),
+        instanceBuilder, factory);
+  }
+
+  private static Function<Object, Object> accessor(final FieldReader reader) {
+    if (reader instanceof BoundFieldReader) {
+      return ((BoundFieldReader) reader).getAccessor();
+    }
+
+    return null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T instantiate(
+      final TemplateClassLoader loader, final Class<?> template, final Object... arguments
+  ) {
+    final Class<?> copy = loader.copy(template);
+
+    try {
+      return (T) copy.getConstructors()[0].newInstance(arguments);
+    } catch (final InstantiationException | IllegalAccessException |
+        InvocationTargetException e) {
+      throw new IllegalStateException("Failed to instantiate compiled " + template, e);
+    }
+  }
+
+  private static byte[] readTemplate(final Class<?> template) {
+    final String resource = template.getName().replace('.', '/') + ".class";
+
+    try (final InputStream in = template.getClassLoader().getResourceAsStream(resource)) {
+      if (in == null) {
+        throw new IllegalStateException("No class file available for template " + template);
+      }
+
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      final byte[] buffer = new byte[4096];
+
+      int read;
+
+      while ((read = in.read(buffer)) != -1) {
+        out.write(buffer, 0, read);
+      }
+
+      return out.toByteArray();
+    } catch (final IOException e) {
+      throw new IllegalStateException("Failed to read template " + template, e);
+    }
+  }
+
+  /**
+   * Class loader for the template copies of a single compiled entity codec.
+   */
+  static class TemplateClassLoader extends ClassLoader {
+    TemplateClassLoader() {
+      super(CodecCompiler.class.getClassLoader());
+    }
+
+    /**
+     * Get the private copy of the given template class, defining it on first use.
+     */
+    synchronized Class<?> copy(final Class<?> template) {
+      final Class<?> existing = findLoadedClass(template.getName());
+
+      if (existing != null) {
+        return existing;
+      }
+
+      final byte[] bytes = TEMPLATES.computeIfAbsent(template, CodecCompiler::readTemplate);
+      return defineClass(template.getName(), bytes, 0, bytes.length);
+    }
+  }
+}
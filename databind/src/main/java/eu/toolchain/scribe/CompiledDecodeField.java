@@ -0,0 +1,35 @@
+package eu.toolchain.scribe;
+
+import lombok.Data;
+
+/**
+ * Template for decoding a single field, copied once for every compiled entity and shared by its
+ * fields.
+ * <p>
+ * Must only reference public types, since copies live in their own class loader.
+ */
+@Data
+public class CompiledDecodeField<Target> implements CompiledDecodeStep<Target> {
+  private final EntityFieldDecoder<Target, Object> field;
+  private final int index;
+  private final CompiledDecodeStep<Target> next;
+
+  @Override
+  public void decode(
+      final EntityFieldsDecoder<Target> decoder, final Context path, final Object[] arguments
+  ) {
+    try {
+      final Object value = decoder.decodeFieldOrAbsent(field, path);
+
+      if (value == Decoded.ABSENT_VALUE) {
+        throw path.error("missing required field");
+      }
+
+      arguments[index] = value;
+    } catch (final ContextException e) {
+      throw e.pushed(path, field.getName());
+    }
+
+    next.decode(decoder, path, arguments);
+  }
+}
@@ -0,0 +1,18 @@
+package eu.toolchain.scribe;
+
+/**
+ * A single step of a compiled entity decoder.
+ *
+ * @see CodecCompiler
+ */
+public interface CompiledDecodeStep<Target> {
+  CompiledDecodeStep<?> END = (decoder, path, arguments) -> {
+  };
+
+  void decode(EntityFieldsDecoder<Target> decoder, Context path, Object[] arguments);
+
+  @SuppressWarnings("unchecked")
+  static <Target> CompiledDecodeStep<Target> end() {
+    return (CompiledDecodeStep<Target>) END;
+  }
+}
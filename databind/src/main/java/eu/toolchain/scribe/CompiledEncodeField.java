@@ -0,0 +1,53 @@
+package eu.toolchain.scribe;
+
+import lombok.Data;
+
+import java.util.function.Function;
+
+/**
+ * Template for encoding a single field, copied once for every compiled entity and shared by its
+ * fields.
+ * <p>
+ * Must only reference public types, since copies live in their own class loader.
+ */
+@Data
+public class CompiledEncodeField<Target, EntityTarget>
+    implements CompiledEncodeStep<Target, EntityTarget> {
+  private final EntityFieldEncoder<Target, Object> encoder;
+  private final FieldReader reader;
+  /* bound accessor of the reader, or null if the reader is not bound */
+  private final Function<Object, Object> accessor;
+  private final CompiledEncodeStep<Target, EntityTarget> next;
+
+  @Override
+  public void encode(
+      final EntityFieldsEncoder<Target, EntityTarget> fields, final Context path,
+      final Object instance
+  ) {
+    try {
+      final Object value = read(path, instance);
+
+      if (value == null) {
+        throw path.error("Null value read from " + reader);
+      }
+
+      fields.encodeField(encoder, path, value);
+    } catch (final ContextException e) {
+      throw e.pushed(path, encoder.getName());
+    }
+
+    next.encode(fields, path, instance);
+  }
+
+  private Object read(final Context path, final Object instance) {
+    if (accessor == null) {
+      return reader.read(path, instance);
+    }
+
+    try {
+      return accessor.apply(instance);
+    } catch (final Exception e) {
+      throw path.error(e);
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package eu.toolchain.scribe;
+
+/**
+ * A single step of a compiled entity encoder.
+ *
+ * @see CodecCompiler
+ */
+public interface CompiledEncodeStep<Target, EntityTarget> {
+  CompiledEncodeStep<?, ?> END = (encoder, path, instance) -> {
+  };
+
+  void encode(EntityFieldsEncoder<Target, EntityTarget> encoder, Context path, Object instance);
+
+  @SuppressWarnings("unchecked")
+  static <Target, EntityTarget> CompiledEncodeStep<Target, EntityTarget> end() {
+    return (CompiledEncodeStep<Target, EntityTarget>) END;
+  }
+}
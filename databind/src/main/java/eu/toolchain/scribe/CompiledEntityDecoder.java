@@ -0,0 +1,36 @@
+package eu.toolchain.scribe;
+
+import lombok.Data;
+
+/**
+ * Template for a compiled entity decoder, copied once for every compiled entity.
+ * <p>
+ * Must only reference public types, since copies live in their own class loader.
+ */
+@Data
+public class CompiledEntityDecoder<Target, EntityTarget, Source>
+    implements EntityDecoder<Target, EntityTarget, Source> {
+  private final CompiledDecodeStep<Target> first;
+  private final int size;
+  private final InstanceBuilder<Source> instanceBuilder;
+  private final DecoderFactory<Target, EntityTarget> factory;
+
+  @Override
+  public Decoded<Source> decode(final Context path, final Target instance) {
+    return factory.valueAsEntity(instance).map(i -> decodeEntity(path, i));
+  }
+
+  @Override
+  public Source decodeEntity(final Context path, final EntityTarget entity) {
+    return decodeEntity(path, entity, factory.newEntityDecoder(entity));
+  }
+
+  @Override
+  public Source decodeEntity(
+      final Context path, final EntityTarget entity, final EntityFieldsDecoder<Target> decoder
+  ) {
+    final Object[] arguments = new Object[size];
+    first.decode(decoder, path, arguments);
+    return instanceBuilder.newInstance(path, arguments);
+  }
+}
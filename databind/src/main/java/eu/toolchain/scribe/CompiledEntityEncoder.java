@@ -0,0 +1,40 @@
+package eu.toolchain.scribe;
+
+import lombok.Data;
+
+/**
+ * Template for a compiled entity encoder, copied once for every compiled entity.
+ * <p>
+ * Must only reference public types, since copies live in their own class loader.
+ */
+@Data
+public class CompiledEntityEncoder<Target, EntityTarget, Source>
+    implements EntityEncoder<Target, EntityTarget, Source> {
+  private final CompiledEncodeStep<Target, EntityTarget> first;
+  private final EncoderFactory<Target, EntityTarget> factory;
+
+  @Override
+  public EntityTarget encodeEntity(
+      final EntityFieldsEncoder<Target, EntityTarget> encoder, final Context path,
+      final Source instance, final Runnable callback
+  ) {
+    callback.run();
+    first.encode(encoder, path, instance);
+    return encoder.build();
+  }
+
+  @Override
+  public EntityTarget encodeEntity(final Context path, final Source instance) {
+    return encodeEntity(factory.newEntityEncoder(), path, instance, EntityEncoder.EMPTY_CALLBACK);
+  }
+
+  @Override
+  public Target encode(final Context path, final Source instance) {
+    return factory.entityAsValue(encodeEntity(path, instance));
+  }
+
+  @Override
+  public Target encodeEmpty(final Context path) {
+    return factory.entityAsValue(factory.newEntityEncoder().buildEmpty(path));
+  }
+}
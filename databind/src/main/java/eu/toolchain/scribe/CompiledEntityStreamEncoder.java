@@ -0,0 +1,37 @@
+package eu.toolchain.scribe;
+
+import lombok.Data;
+
+/**
+ * Template for a compiled entity stream encoder, copied once for every compiled entity.
+ * <p>
+ * Must only reference public types, since copies live in their own class loader.
+ */
+@Data
+public class CompiledEntityStreamEncoder<Target, Source>
+    implements EntityStreamEncoder<Target, Source> {
+  private final CompiledStreamEncodeStep<Target> first;
+  private final StreamEncoderFactory<Target> factory;
+
+  @Override
+  public void streamEncode(
+      final EntityFieldsStreamEncoder<Target> encoder, final Context path, final Source instance,
+      final Target target, final Runnable callback
+  ) {
+    encoder.encodeStart(path, target);
+    callback.run();
+    first.streamEncode(encoder, path, instance, target);
+    encoder.encodeEnd(path, target);
+  }
+
+  @Override
+  public void streamEncode(final Context path, final Source instance, final Target target) {
+    streamEncode(factory.newEntityStreamEncoder(), path, instance, target,
+        EntityStreamEncoder.EMPTY_CALLBACK);
+  }
+
+  @Override
+  public void streamEncodeEmpty(final Context path, final Target target) {
+    factory.newEntityStreamEncoder().encodeEmpty(path, target);
+  }
+}
@@ -0,0 +1,52 @@
+package eu.toolchain.scribe;
+
+import lombok.Data;
+
+import java.util.function.Function;
+
+/**
+ * Template for stream encoding a single field, copied once for every compiled entity and shared
+ * by its fields.
+ * <p>
+ * Must only reference public types, since copies live in their own class loader.
+ */
+@Data
+public class CompiledStreamEncodeField<Target> implements CompiledStreamEncodeStep<Target> {
+  private final EntityFieldStreamEncoder<Target, Object> encoder;
+  private final FieldReader reader;
+  /* bound accessor of the reader, or null if the reader is not bound */
+  private final Function<Object, Object> accessor;
+  private final CompiledStreamEncodeStep<Target> next;
+
+  @Override
+  public void streamEncode(
+      final EntityFieldsStreamEncoder<Target> fields, final Context path, final Object instance,
+      final Target target
+  ) {
+    try {
+      final Object value = read(path, instance);
+
+      if (value == null) {
+        throw path.error("null value read");
+      }
+
+      fields.encodeField(encoder, path, value, target);
+    } catch (final ContextException e) {
+      throw e.pushed(path, encoder.getName());
+    }
+
+    next.streamEncode(fields, path, instance, target);
+  }
+
+  private Object read(final Context path, final Object instance) {
+    if (accessor == null) {
+      return reader.read(path, instance);
+    }
+
+    try {
+      return accessor.apply(instance);
+    } catch (final Exception e) {
+      throw path.error(e);
+    }
+  }
+}
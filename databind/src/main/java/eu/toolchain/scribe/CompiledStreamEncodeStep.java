@@ -0,0 +1,20 @@
+package eu.toolchain.scribe;
+
+/**
+ * A single step of a compiled entity stream encoder.
+ *
+ * @see CodecCompiler
+ */
+public interface CompiledStreamEncodeStep<Target> {
+  CompiledStreamEncodeStep<?> END = (encoder, path, instance, target) -> {
+  };
+
+  void streamEncode(
+      EntityFieldsStreamEncoder<Target> encoder, Context path, Object instance, Target target
+  );
+
+  @SuppressWarnings("unchecked")
+  static <Target> CompiledStreamEncodeStep<Target> end() {
+    return (CompiledStreamEncodeStep<Target>) END;
+  }
+}
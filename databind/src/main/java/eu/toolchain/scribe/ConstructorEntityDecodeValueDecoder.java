@@ -5,19 +5,22 @@ import lombok.Data;
 
 @Data
 public class ConstructorEntityDecodeValueDecoder<Target, Source>
-    implements Decoder<Target, Source> {
+    implements DirectDecoder<Target, Source> {
   private final JavaType.Constructor constructor;
   private final Decoder<Target, Source> parent;
 
-  @SuppressWarnings("unchecked")
   @Override
-  public Decoded<Source> decode(final Context path, final Target instance) {
-    return parent.decode(path, instance).map(value -> {
-      try {
-        return (Source) constructor.newInstance(value);
-      } catch (final Exception e) {
-        throw path.error("failed to get value", e);
-      }
-    });
+  public Object decodeOrAbsent(final Context path, final Target instance) {
+    final Object value = parent.decodeOrAbsent(path, instance);
+
+    if (value == Decoded.ABSENT_VALUE) {
+      return value;
+    }
+
+    try {
+      return constructor.newInstance(value);
+    } catch (final Exception e) {
+      throw path.error("failed to get value", e);
+    }
   }
 }
@@ -15,7 +15,7 @@ public class DatabindClassMapping<Source> implements ClassMapping<Source> {
   private final Optional<String> typeName;
 
   /* left uninitialized to allow for circular dependencies */
-  private ClassEncoding<Source> deferred;
+  private volatile ClassEncoding<Source> deferred;
 
   @Override
   public Optional<String> typeName() {
@@ -26,6 +26,11 @@ public class DatabindClassMapping<Source> implements ClassMapping<Source> {
   public <Target, EntityTarget> EntityEncoder<Target, EntityTarget, Source> newEntityTypeEncoder(
       final EntityResolver resolver, final EncoderFactory<Target, EntityTarget> factory
   ) {
+    if (resolver.isOptionPresent(DatabindOptions.LAZY_CODECS)) {
+      return new LazyCodec.LazyEntityEncoder<>(type, factory,
+          () -> deferred.newEntityEncoder(resolver, factory));
+    }
+
     return deferred.newEntityEncoder(resolver, factory);
   }
 
@@ -33,6 +38,11 @@ public class DatabindClassMapping<Source> implements ClassMapping<Source> {
   public <Target> EntityStreamEncoder<Target, Source> newEntityTypeStreamEncoder(
       final EntityResolver resolver, final StreamEncoderFactory<Target> factory
   ) {
+    if (resolver.isOptionPresent(DatabindOptions.LAZY_CODECS)) {
+      return new LazyCodec.LazyEntityStreamEncoder<>(type, factory,
+          () -> deferred.newEntityStreamEncoder(resolver, factory));
+    }
+
     return deferred.newEntityStreamEncoder(resolver, factory);
   }
 
@@ -40,9 +50,19 @@ public class DatabindClassMapping<Source> implements ClassMapping<Source> {
   public <Target, EntityTarget> EntityDecoder<Target, EntityTarget, Source> newEntityTypeDecoder(
       final EntityResolver resolver, final DecoderFactory<Target, EntityTarget> factory
   ) {
+    if (resolver.isOptionPresent(DatabindOptions.LAZY_CODECS)) {
+      return new LazyCodec.LazyEntityDecoder<>(type, factory,
+          () -> deferred.newEntityDecoder(resolver, factory));
+    }
+
     return deferred.newEntityDecoder(resolver, factory);
   }
 
+  /**
+   * Detect the encoding of this class, which is eager even with
+   * {@link DatabindOptions#LAZY_CODECS}, since this mapping is shared by resolvers with any
+   * options.
+   */
   @SuppressWarnings("unchecked")
   @Override
   public void postCacheInitialize(final EntityResolver resolver) {
@@ -4,6 +4,8 @@ import lombok.Data;
 
 public interface DatabindOptions {
   OptionalEmptyAsNull OPTIONAL_EMPTY_AS_NULL = new OptionalEmptyAsNull();
+  CompiledCodecs COMPILED_CODECS = new CompiledCodecs();
+  LazyCodecs LAZY_CODECS = new LazyCodecs();
 
   /**
    * Option to indicate that optional's empty state should be encoded as null.
@@ -14,6 +16,35 @@ public interface DatabindOptions {
   class OptionalEmptyAsNull implements Option {
   }
 
+  /**
+   * Option to indicate that entity encoders and decoders should be compiled into dedicated
+   * classes.
+   * <p>
+   * This trades a slower initial resolution for faster encoding and decoding.
+   *
+   * @see CodecCompiler
+   */
+  @Data
+  class CompiledCodecs implements Option {
+  }
+
+  /**
+   * Option to indicate that codecs for entities should only be built when they are first used.
+   * <p>
+   * This applies to the fields and sub-types of entities, which avoids building codecs for parts
+   * of a large model which are never used. Use {@link LazyCodec#materialize(Object)} to build
+   * every reachable codec up front.
+   * <p>
+   * Only building codecs is deferred. Mappings, including the detection of the fields of every
+   * reachable entity, are still resolved eagerly, since they are cached and shared by all
+   * resolvers regardless of their options.
+   *
+   * @see LazyCodec
+   */
+  @Data
+  class LazyCodecs implements Option {
+  }
+
   @Data
   class TypeFieldName implements Option {
     private final String name;
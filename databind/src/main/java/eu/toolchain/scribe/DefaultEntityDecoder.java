@@ -2,7 +2,6 @@ package eu.toolchain.scribe;
 
 import lombok.Data;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Data
@@ -29,13 +28,22 @@ public class DefaultEntityDecoder<Target, EntityTarget, Source>
   public Source decodeEntity(
       final Context path, final EntityTarget entity, final EntityFieldsDecoder<Target> decoder
   ) {
-    final List<Object> arguments = new ArrayList<>();
+    final Object[] arguments = new Object[fields.size()];
+
+    int index = 0;
 
     for (final EntityFieldDecoder<Target, Object> m : fields) {
-      final Context p = path.push(m.getName());
-      final Object value =
-          decoder.decodeField(m, p).orElseThrow(() -> p.error("missing required field"));
-      arguments.add(value);
+      try {
+        final Object value = decoder.decodeFieldOrAbsent(m, path);
+
+        if (value == Decoded.ABSENT_VALUE) {
+          throw path.error("missing required field");
+        }
+
+        arguments[index++] = value;
+      } catch (final ContextException e) {
+        throw e.pushed(path, m.getName());
+      }
     }
 
     return classInstanceBuilder.getInstanceBuilder().newInstance(path, arguments);
@@ -20,4 +20,9 @@ public class DefaultEntityFieldDecoder<Target, Source>
   ) {
     return parent.decodeOptionally(path, instance);
   }
+
+  @Override
+  public Object decodeOptionallyOrAbsent(final Context path, final Object instance) {
+    return parent.decodeOptionallyOrAbsent(path, instance);
+  }
 }
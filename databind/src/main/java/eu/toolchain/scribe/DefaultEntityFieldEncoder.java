@@ -2,8 +2,6 @@ package eu.toolchain.scribe;
 
 import lombok.Data;
 
-import java.util.function.Consumer;
-
 @Data
 public class DefaultEntityFieldEncoder<Target, Source>
     implements EntityFieldEncoder<Target, Source> {
@@ -18,9 +16,7 @@ public class DefaultEntityFieldEncoder<Target, Source>
   }
 
   @Override
-  public void encodeOptionally(
-      final Context path, final Source instance, final Consumer<Target> consumer
-  ) {
-    parent.encodeOptionally(path, instance, consumer);
+  public boolean isAbsent(final Source instance) {
+    return parent.isAbsent(instance);
   }
 }
@@ -2,8 +2,6 @@ package eu.toolchain.scribe;
 
 import lombok.Data;
 
-import java.util.function.Consumer;
-
 @Data
 public class DefaultEntityFieldStreamEncoder<Target, Source>
     implements EntityFieldStreamEncoder<Target, Source> {
@@ -17,10 +15,53 @@ public class DefaultEntityFieldStreamEncoder<Target, Source>
   }
 
   @Override
-  public void streamEncodeOptionally(
-      final Context path, final Source instance, final Target target,
-      final Consumer<Runnable> callback
+  public boolean isAbsent(final Source instance) {
+    return parent.isAbsent(instance);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public void streamEncodeInt(final Context path, final int instance, final Target target) {
+    if (parent instanceof PrimitiveStreamEncoder.OfInt) {
+      ((PrimitiveStreamEncoder.OfInt<Target>) parent).streamEncodeInt(path, instance, target);
+    } else {
+      EntityFieldStreamEncoder.super.streamEncodeInt(path, instance, target);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public void streamEncodeLong(final Context path, final long instance, final Target target) {
+    if (parent instanceof PrimitiveStreamEncoder.OfLong) {
+      ((PrimitiveStreamEncoder.OfLong<Target>) parent).streamEncodeLong(path, instance, target);
+    } else {
+      EntityFieldStreamEncoder.super.streamEncodeLong(path, instance, target);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public void streamEncodeDouble(
+      final Context path, final double instance, final Target target
+  ) {
+    if (parent instanceof PrimitiveStreamEncoder.OfDouble) {
+      ((PrimitiveStreamEncoder.OfDouble<Target>) parent).streamEncodeDouble(path, instance,
+          target);
+    } else {
+      EntityFieldStreamEncoder.super.streamEncodeDouble(path, instance, target);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public void streamEncodeBoolean(
+      final Context path, final boolean instance, final Target target
   ) {
-    parent.streamEncodeOptionally(path, instance, target, callback);
+    if (parent instanceof PrimitiveStreamEncoder.OfBoolean) {
+      ((PrimitiveStreamEncoder.OfBoolean<Target>) parent).streamEncodeBoolean(path, instance,
+          target);
+    } else {
+      EntityFieldStreamEncoder.super.streamEncodeBoolean(path, instance, target);
+    }
   }
 }
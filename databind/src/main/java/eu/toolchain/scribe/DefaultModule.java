@@ -5,6 +5,9 @@ import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import static eu.toolchain.scribe.SimpleTypeAlias.simpleAlias;
 import static eu.toolchain.scribe.TypeMatcher.any;
@@ -40,6 +43,14 @@ public class DefaultModule implements Module {
         OptionalMapping.forType(Optional.class, Optional::isPresent, Optional::get, Optional::of,
             Optional::empty));
 
+    b.mapping(OptionalMapping.forPrimitive(OptionalInt.class, int.class, OptionalInt::isPresent,
+        OptionalInt::getAsInt, OptionalInt::of, OptionalInt::empty));
+    b.mapping(OptionalMapping.forPrimitive(OptionalLong.class, long.class, OptionalLong::isPresent,
+        OptionalLong::getAsLong, OptionalLong::of, OptionalLong::empty));
+    b.mapping(
+        OptionalMapping.forPrimitive(OptionalDouble.class, double.class, OptionalDouble::isPresent,
+            OptionalDouble::getAsDouble, OptionalDouble::of, OptionalDouble::empty));
+
     b.mapping(matchMapping(type(String.class), EncodedMapping::new));
 
     b.mapping(matchMapping(isArray(), EncodedMapping::new));
@@ -0,0 +1,87 @@
+package eu.toolchain.scribe;
+
+import eu.toolchain.scribe.reflection.Annotations;
+import eu.toolchain.scribe.reflection.JavaType;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Assembles class encodings from code generated by the scribe processor.
+ * <p>
+ * This performs the same work as {@link MethodClassEncoding#detect(EntityResolver, JavaType)},
+ * but with fields, accessors and the creator already known, so no reflective detection is
+ * necessary.
+ */
+@RequiredArgsConstructor
+public class GeneratedClassEncoding {
+  private final EntityResolver resolver;
+  private final JavaType type;
+
+  private final List<EntityField> entityFields = new ArrayList<>();
+  private final List<DefaultEntityFieldMapping<Object>> fields = new ArrayList<>();
+
+  public static GeneratedClassEncoding builder(
+      final EntityResolver resolver, final JavaType type
+  ) {
+    return new GeneratedClassEncoding(resolver, type);
+  }
+
+  /**
+   * Add a field.
+   *
+   * @param name Name of the field, as declared by the creator.
+   * @param fieldType Type of the field.
+   * @param annotated If the declared field has annotations which should be looked up.
+   * @param accessor Accessor for the field.
+   * @return This builder.
+   */
+  public GeneratedClassEncoding field(
+      final String name, final JavaType fieldType, final boolean annotated,
+      final Function<Object, Object> accessor
+  ) {
+    final Annotations annotations;
+    final String serializedName;
+
+    if (annotated) {
+      annotations = resolver.detectImmediateAnnotations(type, name);
+      serializedName = resolver.detectFieldName(fieldType, annotations, fields.size()).orElse(name);
+    } else {
+      annotations = Annotations.empty();
+      serializedName = name;
+    }
+
+    final FieldReader reader = new AccessorFieldReader(accessor, annotations, fieldType);
+    final Mapping<Object> mapping = resolver.mapping(fieldType, annotations);
+    final Flags flags = resolver.detectFieldFlags(fieldType, annotations);
+
+    entityFields.add(new EntityField(fieldType, annotations, serializedName, name));
+    fields.add(new DefaultEntityFieldMapping<>(serializedName, mapping, reader, flags));
+    return this;
+  }
+
+  /**
+   * Build the class encoding.
+   *
+   * @param factory Factory creating new instances from an array of field values, in the order
+   * that they were added.
+   * @return A class encoding.
+   */
+  public ClassEncoding<Object> build(final Function<Object[], Object> factory) {
+    final InstanceBuilder<Object> instanceBuilder = InstanceBuilder.fromFactory(type, factory);
+
+    return new MethodClassEncoding<>(Collections.unmodifiableList(new ArrayList<>(fields)),
+        new Creator<>(Collections.unmodifiableList(new ArrayList<>(entityFields)),
+            instanceBuilder));
+  }
+
+  @Data
+  public static class Creator<Source> implements ClassInstanceBuilder<Source> {
+    private final List<EntityField> fields;
+    private final InstanceBuilder<Source> instanceBuilder;
+  }
+}
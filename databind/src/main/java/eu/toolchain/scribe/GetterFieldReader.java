@@ -45,7 +45,7 @@ public class GetterFieldReader implements FieldReader {
     return (type, fieldName, fieldType) -> {
       final String getterName = name.apply(fieldType, fieldName);
 
-      return type.getMethod(getterName).map(getter -> {
+      return type.getMethod(getterName).<FieldReader>map(getter -> {
         final JavaType returnType = getter.getReturnType();
         final Annotations annotations = Annotations.of(getter.getAnnotationStream());
 
@@ -55,7 +55,9 @@ public class GetterFieldReader implements FieldReader {
                   "), expected (" + fieldType + ")");
         }
 
-        return new GetterFieldReader(getter, annotations, returnType);
+        return BoundFieldReader
+            .bind(getter, annotations, returnType)
+            .orElseGet(() -> new GetterFieldReader(getter, annotations, returnType));
       }).map(Match.withPriority(MatchPriority.DEFAULT));
     };
   }
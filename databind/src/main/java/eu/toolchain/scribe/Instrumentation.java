@@ -0,0 +1,88 @@
+package eu.toolchain.scribe;
+
+import eu.toolchain.scribe.reflection.JavaType;
+
+import java.lang.reflect.Type;
+
+/**
+ * Receives events about the work done by a resolver.
+ * <p>
+ * Times are measured with {@link System#nanoTime()}, and include any nested resolution which was
+ * triggered. Implementations must be thread-safe, since resolvers are used concurrently.
+ *
+ * @see Scribe.Builder#instrumentation(Instrumentation)
+ * @see RecordingInstrumentation
+ */
+public interface Instrumentation {
+  /**
+   * Instrumentation which does nothing, resolvers skip measuring entirely when it's used.
+   */
+  Instrumentation NONE = new Instrumentation() {
+  };
+
+  /**
+   * A detector family has been consulted.
+   *
+   * @param detector Detector family that was consulted.
+   * @param type Type that was detected for.
+   * @param nanos Time spent detecting.
+   */
+  default void detected(final Detector detector, final JavaType type, final long nanos) {
+  }
+
+  /**
+   * A mapping was found in the cache.
+   *
+   * @param type Type of the mapping.
+   */
+  default void cacheHit(final JavaType type) {
+  }
+
+  /**
+   * A mapping was not found in the cache.
+   *
+   * @param type Type of the mapping.
+   */
+  default void cacheMiss(final JavaType type) {
+  }
+
+  /**
+   * A mapping is about to be resolved by the current thread.
+   * <p>
+   * Every call is followed by a call to {@link #resolved(JavaType, long)} on the same thread, once
+   * resolution has completed or failed. Mappings which are resolved while resolving this one were
+   * triggered by it.
+   *
+   * @param type Type of the mapping.
+   */
+  default void resolving(final JavaType type) {
+  }
+
+  /**
+   * Resolution of a mapping has completed or failed.
+   *
+   * @param type Type of the mapping.
+   * @param nanos Time spent resolving.
+   * @see #resolving(JavaType)
+   */
+  default void resolved(final JavaType type, final long nanos) {
+  }
+
+  /**
+   * A codec was built for a type, because it wasn't cached.
+   *
+   * @param kind Kind of codec.
+   * @param factory Factory that the codec was built with.
+   * @param type Type that the codec was built for.
+   * @param nanos Time spent building.
+   */
+  default void codecBuilt(
+      final CodecCache.Kind kind, final Object factory, final Type type, final long nanos
+  ) {
+  }
+
+  enum Detector {
+    TYPE_ALIAS, MAPPING, CLASS_ENCODING, INSTANCE_BUILDER, FIELDS, FIELD_READER, FIELD_NAME,
+    FIELD_FLAGS, SUB_TYPES, TYPE_NAME, ENCODE_VALUE, DECODE_VALUE
+  }
+}
@@ -0,0 +1,74 @@
+package eu.toolchain.scribe;
+
+import eu.toolchain.scribe.reflection.JavaType;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * A snapshot of the events recorded by {@link RecordingInstrumentation}.
+ */
+@Data
+public class InstrumentationSnapshot {
+  /**
+   * Time spent in each detector family.
+   */
+  private final Map<Instrumentation.Detector, Timing> detectors;
+  private final long cacheHits;
+  private final long cacheMisses;
+  /**
+   * Time spent building codecs, by kind and factory class.
+   */
+  private final Map<CodecKey, Timing> codecs;
+  /**
+   * All resolved mappings, in the order that they completed.
+   */
+  private final List<Resolution> resolutions;
+
+  /**
+   * Get the number of mappings which have been resolved.
+   *
+   * @return The number of resolved mappings.
+   */
+  public int getMappingsResolved() {
+    return resolutions.size();
+  }
+
+  /**
+   * Get the resolutions that were triggered by resolving the given type.
+   *
+   * @param parent Type to get triggered resolutions for.
+   * @return The triggered resolutions.
+   */
+  public List<Resolution> triggeredBy(final JavaType parent) {
+    return resolutions
+        .stream()
+        .filter(r -> r.getParent().map(parent::equals).orElse(false))
+        .collect(Collectors.toList());
+  }
+
+  @Data
+  public static class Timing {
+    private final long count;
+    private final long nanos;
+  }
+
+  @Data
+  public static class CodecKey {
+    private final CodecCache.Kind kind;
+    private final String factory;
+  }
+
+  @Data
+  public static class Resolution {
+    private final JavaType type;
+    /**
+     * The type whose resolution triggered this one, if any.
+     */
+    private final Optional<JavaType> parent;
+    private final long nanos;
+  }
+}
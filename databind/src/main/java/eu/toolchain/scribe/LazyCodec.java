@@ -0,0 +1,366 @@
+package eu.toolchain.scribe;
+
+import eu.toolchain.scribe.reflection.JavaType;
+import lombok.Data;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Supplier;
+
+/**
+ * An entity codec which is built on first use.
+ * <p>
+ * Built codecs are published without locking. Two threads using the same codec for the first time
+ * might both build it, in which case the first one to be published is used by both.
+ * <p>
+ * Lazy codecs created while building a root codec which is not lazy itself, like the codec of a
+ * list of entities, are recorded weakly against it, so that they can be found when materializing.
+ *
+ * @param <T> Type of the built codec.
+ * @see DatabindOptions#LAZY_CODECS
+ */
+public abstract class LazyCodec<T> {
+  @SuppressWarnings("rawtypes")
+  private static final AtomicReferenceFieldUpdater<LazyCodec, Built> BUILT =
+      AtomicReferenceFieldUpdater.newUpdater(LazyCodec.class, Built.class, "built");
+
+  /* lazy codecs created while building another one, on the current thread */
+  private static final ThreadLocal<List<LazyCodec<?>>> CREATED = new ThreadLocal<>();
+
+  /* root codecs which lazy codecs were created for */
+  private static final Set<Root> ROOTS = Collections.newSetFromMap(new IdentityHashMap<>());
+  private static final ReferenceQueue<Object> RELEASED_ROOTS = new ReferenceQueue<>();
+
+  private final JavaType type;
+  private final Object factory;
+
+  /* cleared once built, since it refers to the resolver */
+  private volatile Supplier<T> build;
+  private volatile Built<T> built;
+
+  LazyCodec(final JavaType type, final Object factory, final Supplier<T> build) {
+    this.type = type;
+    this.factory = factory;
+    this.build = build;
+
+    final List<LazyCodec<?>> created = CREATED.get();
+
+    if (created != null) {
+      created.add(this);
+    }
+  }
+
+  /**
+   * Build a root codec, recording the lazy codecs created while doing so against it.
+   *
+   * @param build Function building the root codec.
+   * @param <T> Type of the root codec.
+   * @return The built root codec.
+   */
+  static <T> T buildRoot(final Supplier<T> build) {
+    final List<LazyCodec<?>> previous = CREATED.get();
+    final List<LazyCodec<?>> created = new ArrayList<>();
+    CREATED.set(created);
+
+    final T codec;
+
+    try {
+      codec = build.get();
+    } finally {
+      restore(previous);
+    }
+
+    if (previous != null) {
+      /* built as part of another codec, which the created ones are recorded against */
+      previous.addAll(created);
+      return codec;
+    }
+
+    created.remove(codec);
+
+    if (!created.isEmpty()) {
+      synchronized (ROOTS) {
+        expungeRoots();
+        ROOTS.add(new Root(codec, created, RELEASED_ROOTS));
+      }
+    }
+
+    return codec;
+  }
+
+  /**
+   * Build every lazy codec which can be reached through the given codec.
+   * <p>
+   * This is intended for validating that all codecs can be built when starting up. The given codec
+   * might be lazy itself, or contain lazy codecs, like the codec of a list of entities. Lazy codecs
+   * for the same type and factory use the same built codec, so that circular types terminate.
+   *
+   * @param codec Codec to build.
+   */
+  public static void materialize(final Object codec) {
+    final Deque<LazyCodec<?>> queue = new ArrayDeque<>();
+
+    if (codec instanceof LazyCodec) {
+      queue.add((LazyCodec<?>) codec);
+    }
+
+    synchronized (ROOTS) {
+      expungeRoots();
+
+      for (final Root root : ROOTS) {
+        if (root.get() == codec) {
+          for (final WeakReference<LazyCodec<?>> created : root.created) {
+            final LazyCodec<?> c = created.get();
+
+            if (c != null) {
+              queue.add(c);
+            }
+          }
+        }
+      }
+    }
+
+    final Map<List<Object>, Built<?>> builtByKey = new HashMap<>();
+
+    while (!queue.isEmpty()) {
+      final LazyCodec<?> next = queue.poll();
+      final Built<?> existing = builtByKey.get(next.key());
+
+      if (existing != null) {
+        next.adopt(existing);
+        continue;
+      }
+
+      final Built<?> built = next.built();
+      builtByKey.put(next.key(), built);
+      queue.addAll(built.children);
+    }
+  }
+
+  /**
+   * Check if this codec has been built.
+   *
+   * @return {@code true} if this codec has been built.
+   */
+  public boolean isMaterialized() {
+    return built != null;
+  }
+
+  protected T delegate() {
+    return built().value;
+  }
+
+  private Built<T> built() {
+    final Built<T> current = built;
+    final Supplier<T> build = this.build;
+
+    if (current != null || build == null) {
+      return built;
+    }
+
+    final List<LazyCodec<?>> previous = CREATED.get();
+    final List<LazyCodec<?>> children = new ArrayList<>();
+    CREATED.set(children);
+
+    final T value;
+
+    try {
+      value = build.get();
+    } finally {
+      restore(previous);
+    }
+
+    publish(new Built<>(value, Collections.unmodifiableList(children)));
+    return built;
+  }
+
+  /**
+   * Use a codec which was built by another lazy codec with the same key.
+   */
+  @SuppressWarnings("unchecked")
+  private void adopt(final Built<?> other) {
+    publish((Built<T>) other);
+  }
+
+  private void publish(final Built<T> value) {
+    BUILT.compareAndSet(this, null, value);
+    this.build = null;
+  }
+
+  private List<Object> key() {
+    final List<Object> key = new ArrayList<>(3);
+    key.add(getClass());
+    key.add(type);
+    key.add(factory);
+    return key;
+  }
+
+  private static void restore(final List<LazyCodec<?>> previous) {
+    if (previous == null) {
+      CREATED.remove();
+    } else {
+      CREATED.set(previous);
+    }
+  }
+
+  private static void expungeRoots() {
+    Reference<?> reference;
+
+    while ((reference = RELEASED_ROOTS.poll()) != null) {
+      ROOTS.remove(reference);
+    }
+  }
+
+  /**
+   * A root codec, and the lazy codecs created while building it.
+   * <p>
+   * Both are weakly referenced, since the lazy codecs are reachable through the root codec.
+   */
+  private static class Root extends WeakReference<Object> {
+    private final List<WeakReference<LazyCodec<?>>> created;
+
+    Root(
+        final Object codec, final List<LazyCodec<?>> created, final ReferenceQueue<Object> queue
+    ) {
+      super(codec, queue);
+      this.created = new ArrayList<>(created.size());
+
+      for (final LazyCodec<?> c : created) {
+        this.created.add(new WeakReference<>(c));
+      }
+    }
+  }
+
+  @Data
+  private static class Built<T> {
+    private final T value;
+    private final List<LazyCodec<?>> children;
+  }
+
+  static class LazyEntityEncoder<Target, EntityTarget, Source>
+      extends LazyCodec<EntityEncoder<Target, EntityTarget, Source>>
+      implements EntityEncoder<Target, EntityTarget, Source> {
+    LazyEntityEncoder(
+        final JavaType type, final Object factory,
+        final Supplier<EntityEncoder<Target, EntityTarget, Source>> build
+    ) {
+      super(type, factory, build);
+    }
+
+    @Override
+    public EntityTarget encodeEntity(
+        final EntityFieldsEncoder<Target, EntityTarget> encoder, final Context path,
+        final Source instance, final Runnable callback
+    ) {
+      return delegate().encodeEntity(encoder, path, instance, callback);
+    }
+
+    @Override
+    public EntityTarget encodeEntity(final Context path, final Source instance) {
+      return delegate().encodeEntity(path, instance);
+    }
+
+    @Override
+    public Target encode(final Context path, final Source instance) {
+      return delegate().encode(path, instance);
+    }
+
+    @Override
+    public Target encodeEmpty(final Context path) {
+      return delegate().encodeEmpty(path);
+    }
+
+    @Override
+    public boolean isAbsent(final Source instance) {
+      return delegate().isAbsent(instance);
+    }
+  }
+
+  static class LazyEntityStreamEncoder<Target, Source>
+      extends LazyCodec<EntityStreamEncoder<Target, Source>>
+      implements EntityStreamEncoder<Target, Source> {
+    LazyEntityStreamEncoder(
+        final JavaType type, final Object factory,
+        final Supplier<EntityStreamEncoder<Target, Source>> build
+    ) {
+      super(type, factory, build);
+    }
+
+    @Override
+    public void streamEncode(
+        final EntityFieldsStreamEncoder<Target> encoder, final Context path,
+        final Source instance, final Target target, final Runnable callback
+    ) {
+      delegate().streamEncode(encoder, path, instance, target, callback);
+    }
+
+    @Override
+    public void streamEncode(final Context path, final Source instance, final Target target) {
+      delegate().streamEncode(path, instance, target);
+    }
+
+    @Override
+    public void streamEncodeEmpty(final Context path, final Target target) {
+      delegate().streamEncodeEmpty(path, target);
+    }
+
+    @Override
+    public boolean isAbsent(final Source instance) {
+      return delegate().isAbsent(instance);
+    }
+  }
+
+  static class LazyEntityDecoder<Target, EntityTarget, Source>
+      extends LazyCodec<EntityDecoder<Target, EntityTarget, Source>>
+      implements EntityDecoder<Target, EntityTarget, Source> {
+    LazyEntityDecoder(
+        final JavaType type, final Object factory,
+        final Supplier<EntityDecoder<Target, EntityTarget, Source>> build
+    ) {
+      super(type, factory, build);
+    }
+
+    @Override
+    public Source decodeEntity(
+        final Context path, final EntityTarget entity, final EntityFieldsDecoder<Target> decoder
+    ) {
+      return delegate().decodeEntity(path, entity, decoder);
+    }
+
+    @Override
+    public Source decodeEntity(final Context path, final EntityTarget entity) {
+      return delegate().decodeEntity(path, entity);
+    }
+
+    @Override
+    public Decoded<Source> decode(final Context path, final Target instance) {
+      return delegate().decode(path, instance);
+    }
+
+    @Override
+    public Decoded<Source> decodeOptionally(final Context path, final Decoded<Target> instance) {
+      return delegate().decodeOptionally(path, instance);
+    }
+
+    @Override
+    public Object decodeOrAbsent(final Context path, final Target instance) {
+      return delegate().decodeOrAbsent(path, instance);
+    }
+
+    @Override
+    public Object decodeOptionallyOrAbsent(final Context path, final Object instance) {
+      return delegate().decodeOptionallyOrAbsent(path, instance);
+    }
+  }
+}
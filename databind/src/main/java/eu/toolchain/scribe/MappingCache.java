@@ -0,0 +1,359 @@
+package eu.toolchain.scribe;
+
+import lombok.RequiredArgsConstructor;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Cache of resolved mappings, which permits independent mappings to be resolved concurrently.
+ * <p>
+ * Every thread resolves in a session, starting with the outermost call to
+ * {@link #mapping(Scribe.EntityKey, Function, EntityResolver, Instrumentation)}. Mappings created
+ * in a session are visible to the same thread immediately, which is what permits circular types to
+ * resolve, but they are only published to other threads once the outermost call has completed.
+ * Published mappings are therefore always fully initialized.
+ * <p>
+ * A thread that requires a mapping which is being resolved by another thread waits for it. If
+ * waiting would cause a deadlock, because the other thread is directly or indirectly waiting for
+ * this one, the mapping is instead resolved privately by the waiting thread.
+ * <p>
+ * If resolving a mapping fails, only the mappings of the session which depend on it, directly or
+ * through others, fail with it. The rest are published.
+ * <p>
+ * Published mappings do not prevent the classes they map from being unloaded.
+ *
+ * @see WeakClassCache
+ */
+class MappingCache {
+  private final WeakClassCache<Scribe.EntityKey, Mapping<Object>> cache;
+  private final long maximumSize;
+  private final ConcurrentMap<Scribe.EntityKey, Resolution> inFlight = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Thread, Resolution> waiting = new ConcurrentHashMap<>();
+  private final ThreadLocal<Session> sessions = new ThreadLocal<>();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Create a new cache.
+   *
+   * @param maximumSize Maximum number of published mappings, or {@link Long#MAX_VALUE} for
+   * unbounded.
+   */
+  MappingCache(final long maximumSize) {
+    this.cache = new WeakClassCache<>(maximumSize);
+    this.maximumSize = maximumSize;
+  }
+
+  /**
+   * Get or resolve the mapping for the given key.
+   *
+   * @param key Key to get mapping for.
+   * @param create Function creating the mapping, before it is initialized.
+   * @param resolver Resolver to initialize the mapping with.
+   * @param instrumentation Instrumentation to notify.
+   * @return The mapping for the given key.
+   */
+  public Mapping<Object> mapping(
+      final Scribe.EntityKey key, final Function<Scribe.EntityKey, Mapping<Object>> create,
+      final EntityResolver resolver, final Instrumentation instrumentation
+  ) {
+    final Mapping<Object> mapping = cache.get(owner(key), key);
+
+    if (mapping != null) {
+      hits.increment();
+      instrumentation.cacheHit(key.getType());
+      return mapping;
+    }
+
+    Session session = sessions.get();
+
+    if (session != null) {
+      final Mapping<Object> partial = session.partial.get(key);
+
+      if (partial != null) {
+        session.dependsOn(key);
+        return partial;
+      }
+    }
+
+    misses.increment();
+    instrumentation.cacheMiss(key.getType());
+    final boolean outermost = session == null;
+
+    if (outermost) {
+      session = new Session();
+      sessions.set(session);
+    }
+
+    try {
+      final Resolution resolution = new Resolution(Thread.currentThread());
+      final Resolution existing = inFlight.putIfAbsent(key, resolution);
+
+      if (existing != null) {
+        if (!wouldDeadlock(existing)) {
+          return await(existing);
+        }
+
+        return resolve(session, key, create, resolver, instrumentation);
+      }
+
+      /* mappings are published before they stop being in flight, so this can't miss one */
+      final Mapping<Object> published = cache.get(owner(key), key);
+
+      if (published != null) {
+        inFlight.remove(key, resolution);
+        resolution.future.complete(published);
+        return published;
+      }
+
+      final Mapping<Object> resolved;
+
+      try {
+        resolved = resolve(session, key, create, resolver, instrumentation);
+      } catch (final RuntimeException | Error e) {
+        inFlight.remove(key, resolution);
+        resolution.future.completeExceptionally(e);
+        throw e;
+      }
+
+      session.completed.put(key, resolution);
+      return resolved;
+    } finally {
+      if (outermost) {
+        sessions.remove();
+        publish(session);
+      }
+    }
+  }
+
+  /**
+   * Get all published mappings.
+   *
+   * @return A snapshot of all published mappings.
+   */
+  public Collection<Mapping<Object>> mappings() {
+    return Collections.unmodifiableList(cache.values());
+  }
+
+  public long getMaximumSize() {
+    return maximumSize;
+  }
+
+  public CacheStats stats() {
+    return new CacheStats(hits.sum(), misses.sum(), cache.evictions(), cache.unloaded(),
+        cache.size());
+  }
+
+  private static Class<?> owner(final Scribe.EntityKey key) {
+    Class<?> owner = WeakClassCache.ownerOf(key.getType(), null);
+
+    for (final Annotation a : key.getAnnotations().getAnnotations()) {
+      owner = WeakClassCache.moreSpecific(owner, a.annotationType());
+    }
+
+    return WeakClassCache.owner(owner);
+  }
+
+  private Mapping<Object> resolve(
+      final Session session, final Scribe.EntityKey key,
+      final Function<Scribe.EntityKey, Mapping<Object>> create, final EntityResolver resolver,
+      final Instrumentation instrumentation
+  ) {
+    if (instrumentation == Instrumentation.NONE) {
+      return resolve(session, key, create, resolver);
+    }
+
+    final long start = System.nanoTime();
+    instrumentation.resolving(key.getType());
+
+    try {
+      return resolve(session, key, create, resolver);
+    } finally {
+      instrumentation.resolved(key.getType(), System.nanoTime() - start);
+    }
+  }
+
+  private Mapping<Object> resolve(
+      final Session session, final Scribe.EntityKey key,
+      final Function<Scribe.EntityKey, Mapping<Object>> create, final EntityResolver resolver
+  ) {
+    /* a failed attempt might have been caught, in which case this is a retry */
+    session.dependencies.remove(key);
+    session.resolving.push(key);
+
+    final Mapping<Object> mapping;
+
+    try {
+      mapping = create.apply(key);
+      session.partial.put(key, mapping);
+      mapping.postCacheInitialize(resolver);
+    } catch (final RuntimeException | Error e) {
+      session.partial.remove(key);
+      session.failures.put(key, e);
+      throw e;
+    } finally {
+      session.resolving.pop();
+    }
+
+    session.failures.remove(key);
+    session.resolved.put(key, mapping);
+    session.dependsOn(key);
+    return mapping;
+  }
+
+  private void publish(final Session session) {
+    final Map<Scribe.EntityKey, Throwable> failures = session.failures();
+
+    for (final Map.Entry<Scribe.EntityKey, Resolution> e : session.completed.entrySet()) {
+      final Throwable failure = failures.get(e.getKey());
+
+      if (failure != null) {
+        /* refers to a mapping which failed */
+        inFlight.remove(e.getKey(), e.getValue());
+        e.getValue().future.completeExceptionally(failure);
+        continue;
+      }
+
+      final Mapping<Object> mapping = session.resolved.get(e.getKey());
+      final Mapping<Object> existing = cache.putIfAbsent(owner(e.getKey()), e.getKey(), mapping);
+      inFlight.remove(e.getKey(), e.getValue());
+      e.getValue().future.complete(existing != null ? existing : mapping);
+    }
+  }
+
+  /**
+   * Check if the current thread waiting for the given resolution would cause a deadlock.
+   * <p>
+   * The current thread is registered as waiting before checking, so out of two threads that
+   * start waiting for each other at the same time, at least one will observe the cycle.
+   */
+  private boolean wouldDeadlock(final Resolution resolution) {
+    final Thread current = Thread.currentThread();
+    waiting.put(current, resolution);
+
+    final List<Thread> seen = new ArrayList<>();
+    Thread owner = resolution.owner;
+
+    while (!seen.contains(owner)) {
+      if (owner == current) {
+        waiting.remove(current);
+        return true;
+      }
+
+      seen.add(owner);
+
+      final Resolution next = waiting.get(owner);
+
+      if (next == null) {
+        return false;
+      }
+
+      owner = next.owner;
+    }
+
+    return false;
+  }
+
+  private Mapping<Object> await(final Resolution resolution) {
+    try {
+      return resolution.future.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+
+      throw e;
+    } finally {
+      waiting.remove(Thread.currentThread());
+    }
+  }
+
+  @RequiredArgsConstructor
+  private static class Resolution {
+    private final Thread owner;
+    private final CompletableFuture<Mapping<Object>> future = new CompletableFuture<>();
+  }
+
+  private static class Session {
+    /* mappings which have been created, but might not be initialized */
+    private final Map<Scribe.EntityKey, Mapping<Object>> partial = new HashMap<>();
+    /* mappings which have been initialized */
+    private final Map<Scribe.EntityKey, Mapping<Object>> resolved = new HashMap<>();
+    /* resolutions owned by this session, to complete when it's published */
+    private final Map<Scribe.EntityKey, Resolution> completed = new HashMap<>();
+    /* mappings being resolved, innermost first */
+    private final Deque<Scribe.EntityKey> resolving = new ArrayDeque<>();
+    /* mappings that each mapping referred to while being resolved */
+    private final Map<Scribe.EntityKey, Set<Scribe.EntityKey>> dependencies = new HashMap<>();
+    /* mappings which failed to resolve */
+    private final Map<Scribe.EntityKey, Throwable> failures = new HashMap<>();
+
+    /**
+     * Record that the mapping being resolved, if any, depends on the given one.
+     */
+    void dependsOn(final Scribe.EntityKey key) {
+      final Scribe.EntityKey dependent = resolving.peek();
+
+      if (dependent != null) {
+        dependencies.computeIfAbsent(dependent, k -> new HashSet<>()).add(key);
+      }
+    }
+
+    /**
+     * Get the failures of this session, including every mapping which depends on a failed one.
+     */
+    Map<Scribe.EntityKey, Throwable> failures() {
+      final Map<Scribe.EntityKey, Throwable> result = new HashMap<>(failures);
+
+      if (result.isEmpty()) {
+        return result;
+      }
+
+      boolean changed = true;
+
+      while (changed) {
+        changed = false;
+
+        for (final Map.Entry<Scribe.EntityKey, Set<Scribe.EntityKey>> e :
+            dependencies.entrySet()) {
+          if (result.containsKey(e.getKey())) {
+            continue;
+          }
+
+          for (final Scribe.EntityKey dependency : e.getValue()) {
+            final Throwable failure = result.get(dependency);
+
+            if (failure != null) {
+              result.put(e.getKey(), failure);
+              changed = true;
+              break;
+            }
+          }
+        }
+      }
+
+      return result;
+    }
+  }
+}
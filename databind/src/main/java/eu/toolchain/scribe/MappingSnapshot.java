@@ -0,0 +1,625 @@
+package eu.toolchain.scribe;
+
+import eu.toolchain.scribe.reflection.Annotations;
+import eu.toolchain.scribe.reflection.JavaType;
+import lombok.Data;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * A snapshot of resolved class encodings, which can be persisted and used to skip detection when
+ * a resolver is built again.
+ * <p>
+ * The snapshot records creators, fields, readers and sub-types by member signature. When
+ * installed as a module, every class whose fingerprint still matches the snapshot gets its
+ * encoding rebuilt by direct member lookup. Classes that have changed, or that can't be loaded,
+ * fall back to regular detection.
+ * <p>
+ * Only encodings built from a reflective creator and getter based field readers, and abstract
+ * encodings with sub-types, are recorded.
+ * <p>
+ * The snapshot also records the configuration fingerprint of the resolver it was taken from. A
+ * resolver with a different configuration ignores the snapshot, since its detectors might have
+ * resolved the classes differently.
+ *
+ * @see Scribe#configurationFingerprint()
+ */
+@Data
+public class MappingSnapshot implements Module {
+  private static final int VERSION = 2;
+
+  private static final byte CREATOR = 0;
+  private static final byte ABSTRACT = 1;
+
+  private static final byte CONSTRUCTOR = 0;
+  private static final byte STATIC_METHOD = 1;
+
+  private final List<Entry> entries;
+  private final long configuration;
+  private final ClassLoader loader;
+
+  /**
+   * Snapshot all class encodings resolved by the given resolver so far.
+   *
+   * @param scribe Resolver to snapshot.
+   * @return A new snapshot.
+   */
+  public static MappingSnapshot of(final Scribe scribe) {
+    final Map<Class<?>, Entry> entries = new LinkedHashMap<>();
+
+    for (final Mapping<Object> mapping : scribe.resolvedMappings()) {
+      if (!(mapping instanceof DatabindClassMapping)) {
+        continue;
+      }
+
+      final DatabindClassMapping<Object> m = (DatabindClassMapping<Object>) mapping;
+      final JavaType type = m.getType();
+
+      if (!type.getTypeParameters().isEmpty() || entries.containsKey(type.getType())) {
+        continue;
+      }
+
+      entryOf(type, m.getDeferred()).ifPresent(e -> entries.put(type.getType(), e));
+    }
+
+    return new MappingSnapshot(Collections.unmodifiableList(new ArrayList<>(entries.values())),
+        scribe.configurationFingerprint(), MappingSnapshot.class.getClassLoader());
+  }
+
+  /**
+   * Read a snapshot.
+   *
+   * @param input Stream to read snapshot from.
+   * @param loader Class loader to load snapshot classes from.
+   * @return The read snapshot.
+   * @throws IOException If the snapshot could not be read.
+   */
+  public static MappingSnapshot read(final InputStream input, final ClassLoader loader)
+      throws IOException {
+    final DataInputStream in = new DataInputStream(input);
+
+    final int version = in.readInt();
+
+    if (version != VERSION) {
+      throw new IOException("Unsupported snapshot version: " + version);
+    }
+
+    final long configuration = in.readLong();
+    final int size = in.readInt();
+    final List<Entry> entries = new ArrayList<>(size);
+
+    for (int i = 0; i < size; i++) {
+      final String className = in.readUTF();
+      final long fingerprint = in.readLong();
+      final byte kind = in.readByte();
+
+      switch (kind) {
+        case CREATOR:
+          entries.add(CreatorEntry.read(className, fingerprint, in));
+          break;
+        case ABSTRACT:
+          entries.add(AbstractEntry.read(className, fingerprint, in));
+          break;
+        default:
+          throw new IOException("Unsupported entry kind: " + kind);
+      }
+    }
+
+    return new MappingSnapshot(Collections.unmodifiableList(entries), configuration, loader);
+  }
+
+  /**
+   * Write this snapshot.
+   *
+   * @param output Stream to write snapshot to.
+   * @throws IOException If the snapshot could not be written.
+   */
+  public void write(final OutputStream output) throws IOException {
+    final DataOutputStream out = new DataOutputStream(output);
+
+    out.writeInt(VERSION);
+    out.writeLong(configuration);
+    out.writeInt(entries.size());
+
+    for (final Entry entry : entries) {
+      out.writeUTF(entry.getClassName());
+      out.writeLong(entry.getFingerprint());
+      entry.write(out);
+    }
+
+    out.flush();
+  }
+
+  @Override
+  public void register(final ScribeBuilder b) {
+    for (final Entry entry : entries) {
+      final Class<?> type;
+      final long fingerprint;
+
+      try {
+        type = Class.forName(entry.getClassName(), false, loader);
+        fingerprint = fingerprint(type, entry);
+      } catch (final ClassNotFoundException | LinkageError e) {
+        continue;
+      }
+
+      if (fingerprint != entry.getFingerprint()) {
+        continue;
+      }
+
+      final JavaType javaType = JavaType.of(type);
+      b.classEncoding(javaType, resolver -> restore(resolver, entry, javaType));
+    }
+  }
+
+  private ClassEncoding<Object> restore(
+      final EntityResolver resolver, final Entry entry, final JavaType type
+  ) {
+    if (!(resolver instanceof Scribe) ||
+        ((Scribe) resolver).configurationFingerprint() != configuration) {
+      /* falls back to detection */
+      return null;
+    }
+
+    return entry.restore(resolver, type, loader);
+  }
+
+  private long fingerprint(final Class<?> type, final Entry entry)
+      throws ClassNotFoundException {
+    if (entry instanceof AbstractEntry) {
+      return AbstractEntry.fingerprint(type, ((AbstractEntry) entry).loadSubTypes(loader));
+    }
+
+    return fingerprint(type);
+  }
+
+  /**
+   * Compute the fingerprint of a class, which covers everything that detection is based on.
+   *
+   * @param type Class to compute fingerprint for.
+   * @return The fingerprint of the class.
+   */
+  public static long fingerprint(final Class<?> type) {
+    final List<String> members = new ArrayList<>();
+
+    for (final Field f : type.getDeclaredFields()) {
+      members.add(f.toGenericString() + Arrays.toString(f.getAnnotations()));
+    }
+
+    for (final Constructor<?> c : type.getDeclaredConstructors()) {
+      members.add(c.toGenericString() + Arrays.toString(c.getAnnotations()) +
+          Arrays.deepToString(c.getParameterAnnotations()) + Arrays.toString(c.getParameters()));
+    }
+
+    for (final Method m : type.getDeclaredMethods()) {
+      members.add(m.toGenericString() + Arrays.toString(m.getAnnotations()) +
+          Arrays.deepToString(m.getParameterAnnotations()) + Arrays.toString(m.getParameters()));
+    }
+
+    Collections.sort(members);
+
+    final List<String> values = new ArrayList<>();
+    values.add(type.getName());
+    values.add(String.valueOf(type.getModifiers()));
+    values.add(String.valueOf(type.getGenericSuperclass()));
+    values.add(Arrays.toString(type.getAnnotations()));
+    values.addAll(members);
+    return digest(values);
+  }
+
+  /**
+   * Compute a fingerprint of a sequence of values.
+   *
+   * @param values Values to compute fingerprint for.
+   * @return The fingerprint of the values.
+   */
+  static long digest(final List<String> values) {
+    final MessageDigest digest;
+
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+
+    values.forEach(v -> update(digest, v));
+
+    final byte[] hash = digest.digest();
+
+    long fingerprint = 0;
+
+    for (int i = 0; i < 8; i++) {
+      fingerprint = (fingerprint << 8) | (hash[i] & 0xff);
+    }
+
+    return fingerprint;
+  }
+
+  private static void update(final MessageDigest digest, final String value) {
+    digest.update(value.getBytes(StandardCharsets.UTF_8));
+    digest.update((byte) 0);
+  }
+
+  private static Optional<Entry> entryOf(final JavaType type, final ClassEncoding<Object> e) {
+    if (e instanceof MethodClassEncoding) {
+      return CreatorEntry.of(type, fingerprint(type.getType()), (MethodClassEncoding<Object>) e);
+    }
+
+    if (e instanceof AbstractClassEncoding) {
+      return AbstractEntry.of(type, (AbstractClassEncoding<Object>) e);
+    }
+
+    return Optional.empty();
+  }
+
+  private static List<String> parameterTypes(final List<JavaType.Parameter> parameters) {
+    return parameters
+        .stream()
+        .map(p -> p.getParameterType().getType().getName())
+        .collect(Collectors.toList());
+  }
+
+  private static void writeStrings(final DataOutput out, final List<String> values)
+      throws IOException {
+    out.writeInt(values.size());
+
+    for (final String value : values) {
+      out.writeUTF(value);
+    }
+  }
+
+  private static List<String> readStrings(final DataInput in) throws IOException {
+    final int size = in.readInt();
+    final List<String> values = new ArrayList<>(size);
+
+    for (int i = 0; i < size; i++) {
+      values.add(in.readUTF());
+    }
+
+    return Collections.unmodifiableList(values);
+  }
+
+  public interface Entry {
+    String getClassName();
+
+    long getFingerprint();
+
+    void write(DataOutput out) throws IOException;
+
+    ClassEncoding<Object> restore(EntityResolver resolver, JavaType type, ClassLoader loader);
+  }
+
+  /**
+   * An entity created through a constructor or a static method.
+   */
+  @Data
+  public static class CreatorEntry implements Entry {
+    private final String className;
+    private final long fingerprint;
+    private final boolean constructor;
+    private final String methodName;
+    private final List<String> parameterTypes;
+    private final List<FieldEntry> fields;
+
+    @Override
+    public void write(final DataOutput out) throws IOException {
+      out.writeByte(CREATOR);
+      out.writeByte(constructor ? CONSTRUCTOR : STATIC_METHOD);
+      out.writeUTF(methodName);
+      writeStrings(out, parameterTypes);
+      out.writeInt(fields.size());
+
+      for (final FieldEntry field : fields) {
+        out.writeUTF(field.getFieldName());
+        out.writeUTF(field.getSerializedName());
+        out.writeUTF(field.getGetter());
+      }
+    }
+
+    @Override
+    public ClassEncoding<Object> restore(
+        final EntityResolver resolver, final JavaType type, final ClassLoader loader
+    ) {
+      final ExecutableType executable;
+      final InstanceBuilder<Object> instanceBuilder;
+
+      if (constructor) {
+        final JavaType.Constructor c = type
+            .getConstructors()
+            .filter(m -> parameterTypes(m.getParameters()).equals(parameterTypes))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException(
+                "Constructor missing from snapshot type (" + type + ")"));
+
+        executable = c;
+        instanceBuilder = InstanceBuilder.fromConstructor(c);
+      } else {
+        final JavaType.Method m = type
+            .getMethod(methodName)
+            .filter(method -> parameterTypes(method.getParameters()).equals(parameterTypes))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException(
+                "Method (" + methodName + ") missing from snapshot type (" + type + ")"));
+
+        executable = m;
+        instanceBuilder = InstanceBuilder.fromStaticMethod(m);
+      }
+
+      final Annotations executableAnnotations = Annotations.of(executable.getAnnotationStream());
+
+      final List<EntityField> entityFields = new ArrayList<>();
+      final List<DefaultEntityFieldMapping<Object>> mappings = new ArrayList<>();
+
+      int index = 0;
+
+      for (final FieldEntry field : fields) {
+        final JavaType.Parameter p = executable.getParameters().get(index++);
+        final JavaType fieldType = p.getParameterType();
+
+        final Annotations annotations = executableAnnotations
+            .merge(Annotations.of(p.getAnnotationStream()))
+            .merge(resolver.detectImmediateAnnotations(type, field.getFieldName()));
+
+        final JavaType.Method getter = type
+            .getMethod(field.getGetter())
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException(
+                "Getter (" + field.getGetter() + ") missing from snapshot type (" + type + ")"));
+
+        final Annotations getterAnnotations = Annotations.of(getter.getAnnotationStream());
+
+        final FieldReader reader = BoundFieldReader
+            .bind(getter, getterAnnotations, getter.getReturnType())
+            .orElseGet(() -> new GetterFieldReader(getter, getterAnnotations,
+                getter.getReturnType()));
+
+        final Annotations merged = annotations.merge(reader.annotations());
+        final Mapping<Object> m = resolver.mapping(reader.fieldType(), merged);
+        final Flags flags = resolver.detectFieldFlags(reader.fieldType(), merged);
+
+        entityFields.add(
+            new EntityField(fieldType, annotations, field.getSerializedName(),
+                field.getFieldName()));
+        mappings.add(new DefaultEntityFieldMapping<>(field.getSerializedName(), m, reader, flags));
+      }
+
+      return new MethodClassEncoding<>(Collections.unmodifiableList(mappings),
+          new GeneratedClassEncoding.Creator<>(Collections.unmodifiableList(entityFields),
+              instanceBuilder));
+    }
+
+    static Optional<Entry> of(
+        final JavaType type, final long fingerprint, final MethodClassEncoding<Object> encoding
+    ) {
+      final InstanceBuilder<Object> builder =
+          encoding.getClassInstanceBuilder().getInstanceBuilder();
+
+      final boolean constructor;
+      final String methodName;
+      final List<String> parameterTypes;
+
+      if (builder instanceof InstanceBuilder.Constructor) {
+        final JavaType.Constructor c = ((InstanceBuilder.Constructor<Object>) builder)
+            .getConstructor();
+        constructor = true;
+        methodName = "<init>";
+        parameterTypes = parameterTypes(c.getParameters());
+      } else if (builder instanceof InstanceBuilder.StaticMethod) {
+        final JavaType.Method m = ((InstanceBuilder.StaticMethod<Object>) builder).getMethod();
+        constructor = false;
+        methodName = m.getName();
+        parameterTypes = parameterTypes(m.getParameters());
+      } else {
+        return Optional.empty();
+      }
+
+      final List<EntityField> entityFields = encoding.getClassInstanceBuilder().getFields();
+
+      if (entityFields.size() != parameterTypes.size()) {
+        return Optional.empty();
+      }
+
+      final List<FieldEntry> fields = new ArrayList<>();
+
+      int index = 0;
+
+      for (final DefaultEntityFieldMapping<Object> field : encoding.getFields()) {
+        final Optional<JavaType.Method> getter = getterOf(field.getReader());
+
+        if (!getter.isPresent()) {
+          return Optional.empty();
+        }
+
+        final EntityField entityField = entityFields.get(index++);
+
+        fields.add(new FieldEntry(entityField.getFieldName(), entityField.getSerializedName(),
+            getter.get().getName()));
+      }
+
+      return Optional.of(new CreatorEntry(type.getType().getName(), fingerprint, constructor,
+          methodName, parameterTypes, Collections.unmodifiableList(fields)));
+    }
+
+    static CreatorEntry read(final String className, final long fingerprint, final DataInput in)
+        throws IOException {
+      final boolean constructor = in.readByte() == CONSTRUCTOR;
+      final String methodName = in.readUTF();
+      final List<String> parameterTypes = readStrings(in);
+
+      final int size = in.readInt();
+      final List<FieldEntry> fields = new ArrayList<>(size);
+
+      for (int i = 0; i < size; i++) {
+        fields.add(new FieldEntry(in.readUTF(), in.readUTF(), in.readUTF()));
+      }
+
+      return new CreatorEntry(className, fingerprint, constructor, methodName, parameterTypes,
+          Collections.unmodifiableList(fields));
+    }
+
+    private static Optional<JavaType.Method> getterOf(final FieldReader reader) {
+      if (reader instanceof BoundFieldReader) {
+        return Optional.of(((BoundFieldReader) reader).getGetter());
+      }
+
+      if (reader instanceof GetterFieldReader) {
+        return Optional.of(((GetterFieldReader) reader).getGetter());
+      }
+
+      if (reader instanceof AnnotatedFieldReader) {
+        return Optional.of(((AnnotatedFieldReader) reader).getGetter());
+      }
+
+      return Optional.empty();
+    }
+  }
+
+  @Data
+  public static class FieldEntry {
+    private final String fieldName;
+    private final String serializedName;
+    private final String getter;
+  }
+
+  /**
+   * An abstract type, with a set of sub-types.
+   * <p>
+   * Sub-types contribute their names, so the fingerprint of the entry covers them too.
+   */
+  @Data
+  public static class AbstractEntry implements Entry {
+    private final String className;
+    private final long fingerprint;
+    private final List<String> subTypes;
+    private final List<Optional<String>> names;
+
+    @Override
+    public void write(final DataOutput out) throws IOException {
+      out.writeByte(ABSTRACT);
+      out.writeInt(subTypes.size());
+
+      for (int i = 0; i < subTypes.size(); i++) {
+        out.writeUTF(subTypes.get(i));
+        out.writeBoolean(names.get(i).isPresent());
+
+        if (names.get(i).isPresent()) {
+          out.writeUTF(names.get(i).get());
+        }
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public ClassEncoding<Object> restore(
+        final EntityResolver resolver, final JavaType type, final ClassLoader loader
+    ) {
+      final List<Class<?>> classes;
+
+      try {
+        classes = loadSubTypes(loader);
+      } catch (final ClassNotFoundException e) {
+        throw new IllegalStateException("Sub-type missing for snapshot type (" + type + ")", e);
+      }
+
+      final List<SubType<Object>> subTypes = new ArrayList<>();
+
+      for (int i = 0; i < classes.size(); i++) {
+        final Mapping<Object> m = resolver.mapping(JavaType.of(classes.get(i)));
+        subTypes.add(new SubType<>((ClassMapping<Object>) m, names.get(i)));
+      }
+
+      return new AbstractClassEncoding<>(type, Collections.unmodifiableList(subTypes),
+          Optional.empty());
+    }
+
+    List<Class<?>> loadSubTypes(final ClassLoader loader) throws ClassNotFoundException {
+      final List<Class<?>> classes = new ArrayList<>(subTypes.size());
+
+      for (final String subType : subTypes) {
+        classes.add(Class.forName(subType, false, loader));
+      }
+
+      return classes;
+    }
+
+    /**
+     * Compute the fingerprint of an abstract type together with its sub-types.
+     *
+     * @param type Abstract type to compute fingerprint for.
+     * @param subTypes Sub-types of the abstract type.
+     * @return The fingerprint of the abstract type.
+     */
+    static long fingerprint(final Class<?> type, final List<Class<?>> subTypes) {
+      final List<String> values = new ArrayList<>();
+      values.add(Long.toString(MappingSnapshot.fingerprint(type)));
+
+      for (final Class<?> subType : subTypes) {
+        values.add(Long.toString(MappingSnapshot.fingerprint(subType)));
+      }
+
+      return digest(values);
+    }
+
+    static Optional<Entry> of(final JavaType type, final AbstractClassEncoding<Object> encoding) {
+      if (encoding.getTypeField().isPresent()) {
+        return Optional.empty();
+      }
+
+      final List<String> subTypes = new ArrayList<>();
+      final List<Class<?>> classes = new ArrayList<>();
+      final List<Optional<String>> names = new ArrayList<>();
+
+      for (final SubType<Object> subType : encoding.getSubTypes()) {
+        final JavaType t = subType.getMapping().getType();
+
+        if (!t.getTypeParameters().isEmpty()) {
+          return Optional.empty();
+        }
+
+        subTypes.add(t.getType().getName());
+        classes.add(t.getType());
+        names.add(subType.getName());
+      }
+
+      final long fingerprint = fingerprint(type.getType(), classes);
+
+      return Optional.of(new AbstractEntry(type.getType().getName(), fingerprint,
+          Collections.unmodifiableList(subTypes), Collections.unmodifiableList(names)));
+    }
+
+    static AbstractEntry read(final String className, final long fingerprint, final DataInput in)
+        throws IOException {
+      final int size = in.readInt();
+      final List<String> subTypes = new ArrayList<>(size);
+      final List<Optional<String>> names = new ArrayList<>(size);
+
+      for (int i = 0; i < size; i++) {
+        subTypes.add(in.readUTF());
+        names.add(in.readBoolean() ? Optional.of(in.readUTF()) : Optional.empty());
+      }
+
+      return new AbstractEntry(className, fingerprint, Collections.unmodifiableList(subTypes),
+          Collections.unmodifiableList(names));
+    }
+  }
+}
@@ -31,6 +31,10 @@ public class MethodClassEncoding<Source> implements ClassEncoding<Source> {
       fields.add(new ReadFieldsEntityEncoder.Field<>(fieldEncoder, field.getReader()));
     }
 
+    if (resolver.isOptionPresent(DatabindOptions.COMPILED_CODECS)) {
+      return CodecCompiler.entityEncoder(fields, factory);
+    }
+
     return new ReadFieldsEntityEncoder<>(Collections.unmodifiableList(fields), factory);
   }
 
@@ -49,6 +53,10 @@ public class MethodClassEncoding<Source> implements ClassEncoding<Source> {
           new ReadFieldsEntityStreamEncoder.ReadFieldsEntityField<>(encoder, field.getReader()));
     }
 
+    if (resolver.isOptionPresent(DatabindOptions.COMPILED_CODECS)) {
+      return CodecCompiler.entityStreamEncoder(fields, factory);
+    }
+
     return new ReadFieldsEntityStreamEncoder<>(Collections.unmodifiableList(fields), factory);
   }
 
@@ -62,6 +70,11 @@ public class MethodClassEncoding<Source> implements ClassEncoding<Source> {
       fields.add(streamRequireOne(field.newEntityFieldDecoder(resolver, factory)));
     }
 
+    if (resolver.isOptionPresent(DatabindOptions.COMPILED_CODECS)) {
+      return CodecCompiler.entityDecoder(fields, classInstanceBuilder.getInstanceBuilder(),
+          factory);
+    }
+
     return new DefaultEntityDecoder<>(Collections.unmodifiableList(fields), classInstanceBuilder,
         factory);
   }
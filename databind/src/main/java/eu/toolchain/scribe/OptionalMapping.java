@@ -5,9 +5,7 @@ import eu.toolchain.scribe.detector.Match;
 import eu.toolchain.scribe.detector.MatchPriority;
 import eu.toolchain.scribe.reflection.JavaType;
 import lombok.Data;
-import lombok.RequiredArgsConstructor;
 
-import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -32,11 +30,7 @@ public class OptionalMapping<OptionalType, Source> implements Mapping<OptionalTy
   ) {
     final TypeMatcher matcher = type(optionalType, any());
 
-    return (resolver, type) -> {
-      if (!matcher.matches(type)) {
-        return Stream.empty();
-      }
-
+    return MappingDetector.matching(matcher, (resolver, type) -> {
       final Mapping<Source> component =
           (Mapping<Source>) type.getTypeParameter(0).map(resolver::mapping).get();
 
@@ -45,7 +39,30 @@ public class OptionalMapping<OptionalType, Source> implements Mapping<OptionalTy
 
       /* detector is expected to return an anonymous mapping */
       return Stream.of((Mapping<Object>) m).map(Match.withPriority(MatchPriority.HIGH));
-    };
+    });
+  }
+
+  /**
+   * Detect a primitive optional, like {@link java.util.OptionalInt}, which has no type parameter
+   * and always wraps the given primitive type.
+   */
+  @SuppressWarnings("unchecked")
+  public static <OptionalType, Source> MappingDetector forPrimitive(
+      final Class<OptionalType> optionalType, final Class<?> primitiveType,
+      final Function<OptionalType, Boolean> isPresent, final Function<OptionalType, Source> get,
+      final Function<Source, OptionalType> of, final Supplier<OptionalType> empty
+  ) {
+    final TypeMatcher matcher = type(optionalType);
+
+    return MappingDetector.matching(matcher, (resolver, type) -> {
+      final Mapping<Source> component =
+          (Mapping<Source>) resolver.mapping(JavaType.of(primitiveType));
+
+      final OptionalMapping<OptionalType, Source> m =
+          new OptionalMapping<>(component, isPresent, get, of, empty);
+
+      return Stream.of((Mapping<Object>) m).map(Match.withPriority(MatchPriority.HIGH));
+    });
   }
 
   @Override
@@ -58,66 +75,22 @@ public class OptionalMapping<OptionalType, Source> implements Mapping<OptionalTy
       final EntityResolver resolver, final EncoderFactory<Target, EntityTarget> factory,
       final Flags flags
   ) {
-    final Function<Encoder<Target, Source>, OptionalEncoder<Target>> encoder;
-
-    if (resolver.isOptionPresent(DatabindOptions.OPTIONAL_EMPTY_AS_NULL)) {
-      encoder = p -> new OptionalEncoder<Target>(p) {
-        @Override
-        public void encodeOptionally(
-            final Context path, final OptionalType instance, final Consumer<Target> callback
-        ) {
-          callback.accept(encode(path, instance));
-        }
-      };
-    } else {
-      encoder = p -> new OptionalEncoder<Target>(p) {
-        @SuppressWarnings("unchecked")
-        @Override
-        public void encodeOptionally(
-            final Context path, final OptionalType instance, final Consumer<Target> callback
-        ) {
-          if (isPresent.apply(instance)) {
-            callback.accept(parent.encode(path, get.apply(instance)));
-          }
-        }
-      };
-    }
+    final boolean emptyAsNull = resolver.isOptionPresent(DatabindOptions.OPTIONAL_EMPTY_AS_NULL);
 
-    return component.newEncoder(resolver, factory, flags).map(encoder);
+    return component
+        .newEncoder(resolver, factory, flags)
+        .map(p -> new OptionalEncoder<>(p, emptyAsNull));
   }
 
   @Override
   public <Target> Stream<StreamEncoder<Target, OptionalType>> newStreamEncoder(
       final EntityResolver resolver, final StreamEncoderFactory<Target> factory, final Flags flags
   ) {
-    final Function<StreamEncoder<Target, Source>, OptionalStreamEncoder<Target>> encoder;
-
-    if (resolver.isOptionPresent(DatabindOptions.OPTIONAL_EMPTY_AS_NULL)) {
-      encoder = p -> new OptionalStreamEncoder<Target>(p) {
-        @Override
-        public void streamEncodeOptionally(
-            final Context path, final OptionalType instance, final Target target,
-            final Consumer<Runnable> callback
-        ) {
-          callback.accept(() -> streamEncode(path, instance, target));
-        }
-      };
-    } else {
-      encoder = p -> new OptionalStreamEncoder<Target>(p) {
-        @SuppressWarnings("unchecked")
-        @Override
-        public void streamEncodeOptionally(
-            final Context path, final OptionalType instance, final Target target,
-            final Consumer<Runnable> callback
-        ) {
-          if (isPresent.apply(instance)) {
-            callback.accept(() -> parent.streamEncode(path, get.apply(instance), target));
-          }
-        }
-      };
-    }
+    final boolean emptyAsNull = resolver.isOptionPresent(DatabindOptions.OPTIONAL_EMPTY_AS_NULL);
 
-    return component.newStreamEncoder(resolver, factory, flags).map(encoder);
+    return component
+        .newStreamEncoder(resolver, factory, flags)
+        .map(p -> new OptionalStreamEncoder<>(p, emptyAsNull));
   }
 
   @SuppressWarnings("unchecked")
@@ -129,11 +102,12 @@ public class OptionalMapping<OptionalType, Source> implements Mapping<OptionalTy
     return component.newDecoder(resolver, factory, flags).map(OptionalDecoder::new);
   }
 
-  @RequiredArgsConstructor
-  abstract class OptionalEncoder<Target> implements Encoder<Target, OptionalType> {
-    protected final Encoder<Target, Source> parent;
+  @Data
+  class OptionalEncoder<Target> implements Encoder<Target, OptionalType> {
+    private final Encoder<Target, Source> parent;
+    /* empty values are encoded as empty, instead of being omitted */
+    private final boolean emptyAsNull;
 
-    @SuppressWarnings("unchecked")
     @Override
     public Target encode(final Context path, final OptionalType instance) {
       if (isPresent.apply(instance)) {
@@ -147,13 +121,19 @@ public class OptionalMapping<OptionalType, Source> implements Mapping<OptionalTy
     public Target encodeEmpty(final Context path) {
       return parent.encodeEmpty(path);
     }
+
+    @Override
+    public boolean isAbsent(final OptionalType instance) {
+      return !emptyAsNull && !isPresent.apply(instance);
+    }
   }
 
-  @RequiredArgsConstructor
-  abstract class OptionalStreamEncoder<Target> implements StreamEncoder<Target, OptionalType> {
-    protected final StreamEncoder<Target, Source> parent;
+  @Data
+  class OptionalStreamEncoder<Target> implements StreamEncoder<Target, OptionalType> {
+    private final StreamEncoder<Target, Source> parent;
+    /* empty values are encoded as empty, instead of being omitted */
+    private final boolean emptyAsNull;
 
-    @SuppressWarnings("unchecked")
     @Override
     public void streamEncode(
         final Context path, final OptionalType instance, final Target target
@@ -169,22 +149,37 @@ public class OptionalMapping<OptionalType, Source> implements Mapping<OptionalTy
     public void streamEncodeEmpty(final Context path, final Target target) {
       parent.streamEncodeEmpty(path, target);
     }
+
+    @Override
+    public boolean isAbsent(final OptionalType instance) {
+      return !emptyAsNull && !isPresent.apply(instance);
+    }
   }
 
   @Data
-  class OptionalDecoder<Target> implements Decoder<Target, OptionalType> {
+  class OptionalDecoder<Target> implements DirectDecoder<Target, OptionalType> {
     private final Decoder<Target, Source> parent;
 
+    @SuppressWarnings("unchecked")
     @Override
-    public Decoded<OptionalType> decode(final Context path, final Target instance) {
-      return parent.decode(path, instance).handle(of, empty);
+    public Object decodeOrAbsent(final Context path, final Target instance) {
+      final Object value = parent.decodeOrAbsent(path, instance);
+
+      if (value == Decoded.ABSENT_VALUE) {
+        return empty.get();
+      }
+
+      return of.apply((Source) value);
     }
 
+    @SuppressWarnings("unchecked")
     @Override
-    public Decoded<OptionalType> decodeOptionally(
-        final Context path, final Decoded<Target> instance
-    ) {
-      return instance.flatMap(v -> parent.decode(path, v).map(of)).handleAbsent(empty);
+    public Object decodeOptionallyOrAbsent(final Context path, final Object instance) {
+      if (instance == Decoded.ABSENT_VALUE) {
+        return empty.get();
+      }
+
+      return decodeOrAbsent(path, (Target) instance);
     }
   }
 }
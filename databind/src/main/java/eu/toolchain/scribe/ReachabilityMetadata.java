@@ -0,0 +1,173 @@
+package eu.toolchain.scribe;
+
+import eu.toolchain.scribe.reflection.JavaType;
+import lombok.Data;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reflection metadata for the classes used by resolved mappings, in the format expected by
+ * GraalVM native-image ({@code reflect-config.json}).
+ * <p>
+ * Entities are detected and accessed reflectively, which native images only permit for classes
+ * that are registered ahead of time. Resolving all root types when building, and writing the
+ * metadata to {@code META-INF/native-image/<group>/<artifact>/reflect-config.json}, registers
+ * every entity, sub-type and builder class that they use.
+ * <p>
+ * Classes from the platform class loader, like {@link String} and {@link List}, are never
+ * included.
+ */
+@Data
+public class ReachabilityMetadata {
+  private static final String[] ALL_MEMBERS =
+      {"allDeclaredConstructors", "allPublicConstructors", "allDeclaredMethods", "allPublicMethods",
+          "allDeclaredFields", "allPublicFields"};
+
+  private final List<Class<?>> classes;
+
+  /**
+   * Collect metadata for all mappings resolved by the given resolver so far.
+   *
+   * @param scribe Resolver to collect metadata from.
+   * @return Metadata for the resolved mappings.
+   */
+  public static ReachabilityMetadata of(final Scribe scribe) {
+    final Set<Class<?>> classes = new LinkedHashSet<>();
+
+    for (final Mapping<Object> mapping : scribe.resolvedMappings()) {
+      add(classes, mapping.getType());
+
+      if (!(mapping instanceof DatabindClassMapping)) {
+        continue;
+      }
+
+      final ClassEncoding<Object> e = ((DatabindClassMapping<Object>) mapping).getDeferred();
+
+      /* builders are instantiated reflectively, and might be looked up by name */
+      if (e instanceof BuilderClassEncoding) {
+        add(classes, ((BuilderClassEncoding<Object>) e).getNewInstance().getInstanceType());
+      }
+    }
+
+    final List<Class<?>> sorted = new ArrayList<>(classes);
+    sorted.sort(Comparator.comparing(Class::getName));
+    return new ReachabilityMetadata(Collections.unmodifiableList(sorted));
+  }
+
+  /**
+   * Resolve the given root types, and collect metadata for everything that they use.
+   * <p>
+   * Type parameters, like the elements of lists, are only resolved when codecs are built. They
+   * are resolved here as well, so that the result does not depend on any particular format.
+   *
+   * @param scribe Resolver to resolve types with.
+   * @param roots Root types to resolve.
+   * @return Metadata for the resolved mappings.
+   */
+  public static ReachabilityMetadata forTypes(final Scribe scribe, final List<Class<?>> roots) {
+    for (final Class<?> root : roots) {
+      scribe.mapping(root);
+    }
+
+    int size;
+
+    do {
+      final Collection<Mapping<Object>> mappings = scribe.resolvedMappings();
+      size = mappings.size();
+
+      for (final Mapping<Object> mapping : mappings) {
+        for (final JavaType parameter : mapping.getType().getTypeParameters()) {
+          scribe.mapping(parameter);
+        }
+      }
+    } while (scribe.resolvedMappings().size() != size);
+
+    return of(scribe);
+  }
+
+  /**
+   * Write the metadata as {@code reflect-config.json}.
+   *
+   * @param output Writer to write to.
+   * @throws IOException If the metadata could not be written.
+   */
+  public void write(final Writer output) throws IOException {
+    output.write("[");
+
+    for (int i = 0; i < classes.size(); i++) {
+      output.write(i == 0 ? "\n" : ",\n");
+      output.write("  {\"name\": \"" + classes.get(i).getName() + "\"");
+
+      for (final String members : ALL_MEMBERS) {
+        output.write(", \"" + members + "\": true");
+      }
+
+      output.write("}");
+    }
+
+    output.write("\n]\n");
+  }
+
+  /**
+   * Write metadata for a set of root types, intended to be run as a build step.
+   * <p>
+   * Arguments are the file to write to, followed by the names of root types. Arguments prefixed
+   * with {@code --module=} name modules to install, which must have an empty constructor. The
+   * resolver is otherwise built with {@link Scribe#nativeBuilder()}.
+   *
+   * @param args Arguments.
+   * @throws Exception If the metadata could not be written.
+   */
+  public static void main(final String[] args) throws Exception {
+    if (args.length < 1) {
+      throw new IllegalArgumentException(
+          "Usage: ReachabilityMetadata <output> [--module=<class>]... <root>...");
+    }
+
+    final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+    final Scribe.Builder builder = Scribe.nativeBuilder();
+    final List<Class<?>> roots = new ArrayList<>();
+
+    for (int i = 1; i < args.length; i++) {
+      if (args[i].startsWith("--module=")) {
+        final String name = args[i].substring("--module=".length());
+        builder.install((Module) Class.forName(name, true, loader).newInstance());
+        continue;
+      }
+
+      roots.add(Class.forName(args[i], false, loader));
+    }
+
+    final Path output = Paths.get(args[0]);
+
+    if (output.getParent() != null) {
+      Files.createDirectories(output.getParent());
+    }
+
+    try (final Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+      forTypes(builder.build(), roots).write(writer);
+    }
+  }
+
+  private static void add(final Set<Class<?>> classes, final JavaType type) {
+    final Class<?> raw = type.getType();
+
+    if (raw.isPrimitive() || raw.isArray() || raw.getClassLoader() == null) {
+      return;
+    }
+
+    classes.add(raw);
+  }
+}
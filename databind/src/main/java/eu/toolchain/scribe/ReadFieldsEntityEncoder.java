@@ -21,15 +21,17 @@ public class ReadFieldsEntityEncoder<Target, EntityTarget, Source>
       final EntityFieldEncoder<Target, Object> fieldEncoder = m.getEncoder();
       final FieldReader reader = m.getReader();
 
-      final Context p = path.push(fieldEncoder.getName());
+      try {
+        final Object value = reader.read(path, instance);
 
-      final Object value = reader.read(p, instance);
+        if (value == null) {
+          throw path.error("Null value read from " + reader);
+        }
 
-      if (value == null) {
-        throw p.error("Null value read from " + reader);
+        encoder.encodeField(fieldEncoder, path, value);
+      } catch (final ContextException e) {
+        throw e.pushed(path, fieldEncoder.getName());
       }
-
-      encoder.encodeField(fieldEncoder, p, value);
     }
 
     return encoder.build();
@@ -1,5 +1,7 @@
 package eu.toolchain.scribe;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Data;
 
 import java.util.List;
@@ -23,15 +25,35 @@ public class ReadFieldsEntityStreamEncoder<Target, Source>
       final EntityFieldStreamEncoder<Target, Object> fieldEncoder = m.getEncoder();
       final FieldReader reader = m.getReader();
 
-      final Context p = path.push(fieldEncoder.getName());
+      try {
+        switch (m.getPrimitive()) {
+          case INT:
+            encoder.encodeIntField(fieldEncoder, path, reader.readInt(path, instance), target);
+            break;
+          case LONG:
+            encoder.encodeLongField(fieldEncoder, path, reader.readLong(path, instance), target);
+            break;
+          case DOUBLE:
+            encoder.encodeDoubleField(fieldEncoder, path, reader.readDouble(path, instance),
+                target);
+            break;
+          case BOOLEAN:
+            encoder.encodeBooleanField(fieldEncoder, path, reader.readBoolean(path, instance),
+                target);
+            break;
+          default:
+            final Object value = reader.read(path, instance);
 
-      final Object value = reader.read(p, instance);
+            if (value == null) {
+              throw path.error("null value read");
+            }
 
-      if (value == null) {
-        throw p.error("null value read");
+            encoder.encodeField(fieldEncoder, path, value, target);
+            break;
+        }
+      } catch (final ContextException e) {
+        throw e.pushed(path, fieldEncoder.getName());
       }
-
-      encoder.encodeField(fieldEncoder, p, value, target);
     }
 
     encoder.encodeEnd(path, target);
@@ -49,8 +71,53 @@ public class ReadFieldsEntityStreamEncoder<Target, Source>
   }
 
   @Data
+  @AllArgsConstructor(access = AccessLevel.PRIVATE)
   public static class ReadFieldsEntityField<Target, Source> {
     private final EntityFieldStreamEncoder<Target, Source> encoder;
     private final FieldReader reader;
+    /* how the field is read and encoded, primitives are never boxed if supported */
+    private final Primitive primitive;
+
+    public ReadFieldsEntityField(
+        final EntityFieldStreamEncoder<Target, Source> encoder, final FieldReader reader
+    ) {
+      this(encoder, reader, Primitive.of(encoder, reader));
+    }
+  }
+
+  public enum Primitive {
+    NONE, INT, LONG, DOUBLE, BOOLEAN;
+
+    static Primitive of(final EntityFieldStreamEncoder<?, ?> encoder, final FieldReader reader) {
+      final StreamEncoder<?, ?> parent;
+
+      if (encoder instanceof DefaultEntityFieldStreamEncoder) {
+        parent = ((DefaultEntityFieldStreamEncoder<?, ?>) encoder).getParent();
+      } else if (encoder instanceof BuilderEntityFieldStreamEncoder) {
+        parent = ((BuilderEntityFieldStreamEncoder<?, ?>) encoder).getParent();
+      } else {
+        return NONE;
+      }
+
+      final Class<?> type = reader.fieldType().getType();
+
+      if (type == int.class && parent instanceof PrimitiveStreamEncoder.OfInt) {
+        return INT;
+      }
+
+      if (type == long.class && parent instanceof PrimitiveStreamEncoder.OfLong) {
+        return LONG;
+      }
+
+      if (type == double.class && parent instanceof PrimitiveStreamEncoder.OfDouble) {
+        return DOUBLE;
+      }
+
+      if (type == boolean.class && parent instanceof PrimitiveStreamEncoder.OfBoolean) {
+        return BOOLEAN;
+      }
+
+      return NONE;
+    }
   }
 }
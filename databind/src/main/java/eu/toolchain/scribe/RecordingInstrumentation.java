@@ -0,0 +1,109 @@
+package eu.toolchain.scribe;
+
+import eu.toolchain.scribe.reflection.JavaType;
+
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Instrumentation which records everything it receives, to be inspected through a
+ * {@link #snapshot()}.
+ */
+public class RecordingInstrumentation implements Instrumentation {
+  private final ConcurrentMap<Detector, Counter> detectors = new ConcurrentHashMap<>();
+  private final ConcurrentMap<InstrumentationSnapshot.CodecKey, Counter> codecs =
+      new ConcurrentHashMap<>();
+  private final LongAdder cacheHits = new LongAdder();
+  private final LongAdder cacheMisses = new LongAdder();
+  private final ConcurrentLinkedQueue<InstrumentationSnapshot.Resolution> resolutions =
+      new ConcurrentLinkedQueue<>();
+
+  /* types currently being resolved by each thread, innermost last */
+  private final ThreadLocal<Deque<JavaType>> resolving = ThreadLocal.withInitial(ArrayDeque::new);
+
+  @Override
+  public void detected(final Detector detector, final JavaType type, final long nanos) {
+    detectors.computeIfAbsent(detector, d -> new Counter()).add(nanos);
+  }
+
+  @Override
+  public void cacheHit(final JavaType type) {
+    cacheHits.increment();
+  }
+
+  @Override
+  public void cacheMiss(final JavaType type) {
+    cacheMisses.increment();
+  }
+
+  @Override
+  public void resolving(final JavaType type) {
+    resolving.get().addLast(type);
+  }
+
+  @Override
+  public void resolved(final JavaType type, final long nanos) {
+    final Deque<JavaType> stack = resolving.get();
+    stack.pollLast();
+
+    resolutions.add(
+        new InstrumentationSnapshot.Resolution(type, Optional.ofNullable(stack.peekLast()), nanos));
+
+    if (stack.isEmpty()) {
+      resolving.remove();
+    }
+  }
+
+  @Override
+  public void codecBuilt(
+      final CodecCache.Kind kind, final Object factory, final Type type, final long nanos
+  ) {
+    codecs
+        .computeIfAbsent(new InstrumentationSnapshot.CodecKey(kind, factory.getClass().getName()),
+            k -> new Counter())
+        .add(nanos);
+  }
+
+  /**
+   * Take a snapshot of everything recorded so far.
+   *
+   * @return A snapshot.
+   */
+  public InstrumentationSnapshot snapshot() {
+    final Map<Detector, InstrumentationSnapshot.Timing> detectors = new EnumMap<>(Detector.class);
+    this.detectors.forEach((k, v) -> detectors.put(k, v.timing()));
+
+    final Map<InstrumentationSnapshot.CodecKey, InstrumentationSnapshot.Timing> codecs =
+        new HashMap<>();
+    this.codecs.forEach((k, v) -> codecs.put(k, v.timing()));
+
+    return new InstrumentationSnapshot(Collections.unmodifiableMap(detectors),
+        cacheHits.sum(), cacheMisses.sum(), Collections.unmodifiableMap(codecs),
+        Collections.unmodifiableList(new ArrayList<>(resolutions)));
+  }
+
+  private static class Counter {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    void add(final long nanos) {
+      this.count.increment();
+      this.nanos.add(nanos);
+    }
+
+    InstrumentationSnapshot.Timing timing() {
+      return new InstrumentationSnapshot.Timing(count.sum(), nanos.sum());
+    }
+  }
+}
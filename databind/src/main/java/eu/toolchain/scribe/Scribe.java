@@ -20,19 +20,22 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.StringJoiner;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -45,6 +48,7 @@ public class Scribe implements EntityResolver {
   private final List<FieldReaderDetector> fieldReaderDetectors;
   private final List<InstanceBuilderDetector> instanceBuilderDetectors;
   private final List<ClassEncodingDetector> classEncodingDetectors;
+  private final Map<JavaType, Function<EntityResolver, ClassEncoding<Object>>> classEncodings;
   private final List<SubTypesDetector> subTypesDetectors;
   private final List<EncodeValueDetector> encodeValueDetectors;
   private final List<DecodeValueDetector> decodeValueDetectors;
@@ -53,9 +57,30 @@ public class Scribe implements EntityResolver {
   private final List<TypeNameDetector> typeNameDetectors;
   private final List<FieldsDetector> fieldsDetectors;
   private final Map<Class<? extends Option>, Option> options;
-
-  private final ConcurrentMap<EntityKey, Mapping<Object>> cache = new ConcurrentHashMap<>();
-  private final Object resolverLock = new Object();
+  /* versions declared by installed modules */
+  private final List<String> versions;
+  private final CodecCache codecs;
+  /* shared by resolvers derived through withOptions, options only affect codecs */
+  private final MappingCache cache;
+  private final Instrumentation instrumentation;
+  /* fingerprint of the configuration which resolved mappings depend on, shared like the cache */
+  private final long configuration;
+
+  /* detectors indexed by raw type, built lazily since they are derived from the above */
+  private volatile RawTypeIndex<TypeAliasDetector<Object, Object>> typeAliasIndex;
+  private volatile RawTypeIndex<MappingDetector> mappingIndex;
+  /* annotation types which could influence any type alias detector */
+  private final ClassValue<Boolean> relevantAnnotations = new ClassValue<Boolean>() {
+    @SuppressWarnings("unchecked")
+    @Override
+    protected Boolean computeValue(final Class<?> annotation) {
+      return typeAliasDetectors
+          .stream()
+          .anyMatch(d -> d.isAnnotationRelevant((Class<? extends Annotation>) annotation));
+    }
+  };
+  /* options as a set, which is part of the key for cached codecs */
+  private volatile Set<Option> optionSet;
 
   /**
    * {@inheritDoc}
@@ -67,9 +92,12 @@ public class Scribe implements EntityResolver {
     return new TypeStreamEncoderProvider<Target>() {
       @Override
       public StreamEncoder<Target, Object> newStreamEncoder(Type type) {
-        return streamRequireOne(mapping(JavaType.of(type)).newStreamEncoder(Scribe.this, factory),
-            values -> new IllegalArgumentException(
-                "Expected one stream encoder for type (" + type + ") but got (" + values + ")"));
+        return codecs.get(CodecCache.Kind.STREAM_ENCODER, factory, type, optionSet(),
+            built(CodecCache.Kind.STREAM_ENCODER, factory, type, () -> streamRequireOne(
+                mapping(JavaType.of(type)).newStreamEncoder(Scribe.this, factory),
+                values -> new IllegalArgumentException(
+                    "Expected one stream encoder for type (" + type + ") but got (" + values +
+                        ")"))));
       }
 
       @SuppressWarnings("unchecked")
@@ -98,9 +126,11 @@ public class Scribe implements EntityResolver {
     return new TypeEncoderProvider<Target>() {
       @Override
       public Encoder<Target, Object> newEncoderForType(Type type) {
-        return streamRequireOne(mapping(JavaType.of(type)).newEncoder(Scribe.this, factory),
-            values -> new IllegalArgumentException(
-                "Expected one encoder for type (" + type + ") but got (" + values + ")"));
+        return codecs.get(CodecCache.Kind.ENCODER, factory, type, optionSet(),
+            built(CodecCache.Kind.ENCODER, factory, type,
+                () -> streamRequireOne(mapping(JavaType.of(type)).newEncoder(Scribe.this, factory),
+                    values -> new IllegalArgumentException(
+                        "Expected one encoder for type (" + type + ") but got (" + values + ")"))));
       }
 
       @SuppressWarnings("unchecked")
@@ -127,9 +157,11 @@ public class Scribe implements EntityResolver {
     return new TypeDecoderProvider<Target>() {
       @Override
       public Decoder<Target, Object> newDecoderForType(Type type) {
-        return streamRequireOne(mapping(JavaType.of(type)).newDecoder(Scribe.this, factory),
-            values -> new IllegalArgumentException(
-                "Expected one decoder for type (" + type + ") but got (" + values + ")"));
+        return codecs.get(CodecCache.Kind.DECODER, factory, type, optionSet(),
+            built(CodecCache.Kind.DECODER, factory, type,
+                () -> streamRequireOne(mapping(JavaType.of(type)).newDecoder(Scribe.this, factory),
+                    values -> new IllegalArgumentException(
+                        "Expected one decoder for type (" + type + ") but got (" + values + ")"))));
       }
 
       @SuppressWarnings("unchecked")
@@ -151,27 +183,8 @@ public class Scribe implements EntityResolver {
    */
   @Override
   public Mapping<Object> mapping(final JavaType type, final Annotations annotations) {
-    final EntityKey key = new EntityKey(type, annotations);
-
-    final Mapping<Object> mapping = cache.get(key);
-
-    if (mapping != null) {
-      return mapping;
-    }
-
-    synchronized (resolverLock) {
-      final Mapping<Object> candidate = cache.get(key);
-
-      if (candidate != null) {
-        return candidate;
-      }
-
-      final Mapping<Object> newMapping = resolveAliasing(type, annotations);
-
-      cache.put(key, newMapping);
-      newMapping.postCacheInitialize(this);
-      return newMapping;
-    }
+    return cache.mapping(new EntityKey(type, relevantAnnotations(annotations)),
+        key -> resolveAliasing(key.getType(), key.getAnnotations()), this, instrumentation);
   }
 
   /**
@@ -187,7 +200,11 @@ public class Scribe implements EntityResolver {
    */
   @Override
   public Optional<ClassInstanceBuilder<Object>> detectInstanceBuilder(JavaType type) {
-    return Match.bestUniqueMatch(instanceBuilderDetectors.stream(), c -> c.detect(this, type));
+    final long start = start();
+    final Optional<ClassInstanceBuilder<Object>> result =
+        Match.bestUniqueMatch(instanceBuilderDetectors.stream(), c -> c.detect(this, type));
+    detected(Instrumentation.Detector.INSTANCE_BUILDER, type, start);
+    return result;
   }
 
   /**
@@ -197,8 +214,11 @@ public class Scribe implements EntityResolver {
   public Optional<FieldReader> detectFieldReader(
       final JavaType type, final String fieldName, final JavaType fieldType
   ) {
-    return Match.bestUniqueMatch(fieldReaderDetectors.stream(),
+    final long start = start();
+    final Optional<FieldReader> result = Match.bestUniqueMatch(fieldReaderDetectors.stream(),
         c -> c.detect(type, fieldName, fieldType));
+    detected(Instrumentation.Detector.FIELD_READER, type, start);
+    return result;
   }
 
   /**
@@ -206,14 +226,31 @@ public class Scribe implements EntityResolver {
    */
   @Override
   public Optional<ClassEncoding<Object>> detectClassEncoding(JavaType type) {
-    return Match.bestUniqueMatch(classEncodingDetectors.stream(), d -> d.detect(this, type));
+    final Function<EntityResolver, ClassEncoding<Object>> encoding = classEncodings.get(type);
+
+    if (encoding != null) {
+      final ClassEncoding<Object> installed = encoding.apply(this);
+
+      if (installed != null) {
+        return Optional.of(installed);
+      }
+    }
+
+    final long start = start();
+    final Optional<ClassEncoding<Object>> result =
+        Match.bestUniqueMatch(classEncodingDetectors.stream(), d -> d.detect(this, type));
+    detected(Instrumentation.Detector.CLASS_ENCODING, type, start);
+    return result;
   }
 
   @Override
   public List<SubType<Object>> detectSubTypes(final JavaType type) {
-    return Match
+    final long start = start();
+    final List<SubType<Object>> result = Match
         .bestUniqueMatch(subTypesDetectors.stream(), d -> d.detect(this, type))
         .orElseGet(Collections::emptyList);
+    detected(Instrumentation.Detector.SUB_TYPES, type, start);
+    return result;
   }
 
   /**
@@ -221,7 +258,11 @@ public class Scribe implements EntityResolver {
    */
   @Override
   public Optional<EncodeValue<Object>> detectEncodeValue(final JavaType type) {
-    return Match.bestUniqueMatch(encodeValueDetectors.stream(), d -> d.detect(this, type));
+    final long start = start();
+    final Optional<EncodeValue<Object>> result =
+        Match.bestUniqueMatch(encodeValueDetectors.stream(), d -> d.detect(this, type));
+    detected(Instrumentation.Detector.ENCODE_VALUE, type, start);
+    return result;
   }
 
   /**
@@ -231,8 +272,11 @@ public class Scribe implements EntityResolver {
   public Optional<DecodeValue<Object>> detectDecodeValue(
       final JavaType type, final JavaType fieldType
   ) {
-    return Match.bestUniqueMatch(decodeValueDetectors.stream(),
-        d -> d.detect(this, type, fieldType));
+    final long start = start();
+    final Optional<DecodeValue<Object>> result = Match.bestUniqueMatch(
+        decodeValueDetectors.stream(), d -> d.detect(this, type, fieldType));
+    detected(Instrumentation.Detector.DECODE_VALUE, type, start);
+    return result;
   }
 
   /**
@@ -240,8 +284,11 @@ public class Scribe implements EntityResolver {
    */
   @Override
   public Optional<String> detectFieldName(JavaType type, Annotations annotations, int index) {
-    return Match.bestUniqueMatch(fieldNameDetectors.stream(),
+    final long start = start();
+    final Optional<String> result = Match.bestUniqueMatch(fieldNameDetectors.stream(),
         d -> d.detect(this, type, annotations, index));
+    detected(Instrumentation.Detector.FIELD_NAME, type, start);
+    return result;
   }
 
   /**
@@ -249,15 +296,22 @@ public class Scribe implements EntityResolver {
    */
   @Override
   public Optional<String> detectTypeName(JavaType type) {
-    return Match.bestUniqueMatch(typeNameDetectors.stream(), d -> d.detect(this, type));
+    final long start = start();
+    final Optional<String> result =
+        Match.bestUniqueMatch(typeNameDetectors.stream(), d -> d.detect(this, type));
+    detected(Instrumentation.Detector.TYPE_NAME, type, start);
+    return result;
   }
 
   @Override
   public List<EntityField> detectFields(JavaType type) {
-    return Match
+    final long start = start();
+    final List<EntityField> result = Match
         .bestUniqueMatch(fieldsDetectors.stream(), d -> d.detect(this, type))
         .orElseThrow(
             () -> new IllegalArgumentException("Cannot detect fields for type (" + type + ")"));
+    detected(Instrumentation.Detector.FIELDS, type, start);
+    return result;
   }
 
   /**
@@ -300,10 +354,13 @@ public class Scribe implements EntityResolver {
 
   @Override
   public Flags detectFieldFlags(final JavaType type, final Annotations annotations) {
-    return Flags.copyOf(flagDetectors
+    final long start = start();
+    final Flags result = Flags.copyOf(flagDetectors
         .stream()
         .flatMap(d -> d.detect(this, type, annotations))
         .collect(Collectors.toList()));
+    detected(Instrumentation.Detector.FIELD_FLAGS, type, start);
+    return result;
   }
 
   /**
@@ -320,7 +377,7 @@ public class Scribe implements EntityResolver {
    */
   @Override
   public <O extends Option> boolean isOptionPresent(final O option) {
-    return options.values().contains(option);
+    return optionSet().contains(option);
   }
 
   /**
@@ -334,9 +391,71 @@ public class Scribe implements EntityResolver {
 
     final Builder builder = toBuilder();
     Arrays.stream(options).forEach(builder::option);
+    /* detectors are the same, so resolved mappings and codecs can be shared */
+    builder.cache = cache;
+    builder.codecs = codecs;
+    builder.configuration = configuration;
     return builder.build();
   }
 
+  /**
+   * Get statistics for the cache of encoders and decoders built by this resolver.
+   * <p>
+   * The cache is shared with all resolvers derived through {@link #withOptions(Option...)}.
+   *
+   * @return Statistics for the codec cache.
+   */
+  public CacheStats codecCacheStats() {
+    return codecs.stats();
+  }
+
+  /**
+   * Get statistics for the cache of mappings resolved by this resolver.
+   * <p>
+   * The cache is shared with all resolvers derived through {@link #withOptions(Option...)}.
+   *
+   * @return Statistics for the mapping cache.
+   */
+  public CacheStats mappingCacheStats() {
+    return cache.stats();
+  }
+
+  /**
+   * Get a fingerprint of the configuration which resolving mappings depends on, which is the
+   * classes of the installed detectors, the options, and the versions declared by installed
+   * modules.
+   * <p>
+   * Class encodings installed for specific types are not part of it. Resolvers derived through
+   * {@link #withOptions(Option...)} share resolved mappings, and with them the fingerprint of the
+   * resolver they were derived from.
+   *
+   * @return The configuration fingerprint of this resolver.
+   */
+  public long configurationFingerprint() {
+    return configuration;
+  }
+
+  /**
+   * Get all mappings which have been resolved by this resolver.
+   * <p>
+   * This includes mappings resolved by resolvers derived through
+   * {@link #withOptions(Option...)}, since they share resolved mappings.
+   *
+   * @return A view of all resolved mappings.
+   */
+  public Collection<Mapping<Object>> resolvedMappings() {
+    return cache.mappings();
+  }
+
+  /**
+   * Warm up this resolver by resolving mappings and building codecs for a set of types.
+   *
+   * @return A builder for the warm up.
+   */
+  public WarmUp.Builder warmUp() {
+    return new WarmUp.Builder(this);
+  }
+
   @Override
   public Annotations detectImmediateAnnotations(final JavaType type, final String fieldName) {
     return type
@@ -370,9 +489,12 @@ public class Scribe implements EntityResolver {
   }
 
   private Mapping<Object> resolveTypeMapping(final JavaType sourceType) {
-    return Match
-        .bestUniqueMatch(mappingDetectors.stream(), m -> m.detect(this, sourceType))
-        .orElseGet(() -> resolveBean(sourceType));
+    final long start = start();
+    final Optional<Mapping<Object>> mapping = Match.bestUniqueMatch(
+        mappingIndex().get(sourceType.getType()).stream(), m -> m.detect(this, sourceType));
+    detected(Instrumentation.Detector.MAPPING, sourceType, start);
+
+    return mapping.orElseGet(() -> resolveBean(sourceType));
   }
 
   private List<TypeAlias<Object, Object>> resolveTypeAliases(
@@ -387,8 +509,10 @@ public class Scribe implements EntityResolver {
 
     while (true) {
       final JavaType t = current;
+      final long start = start();
       final Optional<TypeAlias<Object, Object>> m =
-          firstMatch(typeAliasDetectors.stream(), a -> a.detect(t, annotations));
+          firstMatch(typeAliasIndex().get(t.getType()).stream(), a -> a.detect(t, annotations));
+      detected(Instrumentation.Detector.TYPE_ALIAS, t, start);
 
       if (!m.isPresent()) {
         break;
@@ -414,6 +538,100 @@ public class Scribe implements EntityResolver {
     return aliasing;
   }
 
+  private long start() {
+    return instrumentation != Instrumentation.NONE ? System.nanoTime() : 0L;
+  }
+
+  private void detected(
+      final Instrumentation.Detector detector, final JavaType type, final long start
+  ) {
+    if (instrumentation != Instrumentation.NONE) {
+      instrumentation.detected(detector, type, System.nanoTime() - start);
+    }
+  }
+
+  private <T> Supplier<T> built(
+      final CodecCache.Kind kind, final Object factory, final Type type, final Supplier<T> build
+  ) {
+    final Supplier<T> root = isOptionPresent(DatabindOptions.LAZY_CODECS)
+        ? () -> LazyCodec.buildRoot(build) : build;
+
+    if (instrumentation == Instrumentation.NONE) {
+      return root;
+    }
+
+    return () -> {
+      final long start = System.nanoTime();
+      final T codec = root.get();
+      instrumentation.codecBuilt(kind, factory, type, System.nanoTime() - start);
+      return codec;
+    };
+  }
+
+  /**
+   * Only keep the annotations that could influence resolution, so that they are not needlessly
+   * part of the key of cached mappings.
+   */
+  private Annotations relevantAnnotations(final Annotations annotations) {
+    final List<Annotation> all = annotations.getAnnotations();
+    List<Annotation> relevant = null;
+
+    for (int i = 0; i < all.size(); i++) {
+      final Annotation a = all.get(i);
+
+      if (relevantAnnotations.get(a.annotationType())) {
+        if (relevant != null) {
+          relevant.add(a);
+        }
+
+        continue;
+      }
+
+      if (relevant == null) {
+        relevant = new ArrayList<>(all.subList(0, i));
+      }
+    }
+
+    if (relevant == null) {
+      return annotations;
+    }
+
+    return relevant.isEmpty() ? Annotations.empty() : new Annotations(relevant);
+  }
+
+  private Set<Option> optionSet() {
+    Set<Option> set = optionSet;
+
+    if (set == null) {
+      set = Collections.unmodifiableSet(new HashSet<>(options.values()));
+      optionSet = set;
+    }
+
+    return set;
+  }
+
+  private RawTypeIndex<MappingDetector> mappingIndex() {
+    RawTypeIndex<MappingDetector> index = mappingIndex;
+
+    if (index == null) {
+      index = new RawTypeIndex<>(mappingDetectors, MappingDetector::mayDetect);
+      mappingIndex = index;
+    }
+
+    return index;
+  }
+
+  private RawTypeIndex<TypeAliasDetector<Object, Object>> typeAliasIndex() {
+    RawTypeIndex<TypeAliasDetector<Object, Object>> index = typeAliasIndex;
+
+    if (index == null) {
+      index = new RawTypeIndex<>(typeAliasDetectors, TypeAliasDetector::mayDetect);
+      typeAliasIndex = index;
+    }
+
+    return index;
+  }
+
   private <Target, Source> Optional<Source> firstMatch(
       Stream<Target> alternatives, Function<Target, Stream<Source>> map
   ) {
@@ -458,11 +676,13 @@ public class Scribe implements EntityResolver {
   public Builder toBuilder() {
     return new Builder(new ArrayList<>(typeAliasDetectors), new ArrayList<>(mappingDetectors),
         new ArrayList<>(fieldReaderDetectors), new ArrayList<>(instanceBuilderDetectors),
-        new ArrayList<>(classEncodingDetectors), new ArrayList<>(subTypesDetectors),
+        new ArrayList<>(classEncodingDetectors), new HashMap<>(classEncodings),
+        new ArrayList<>(subTypesDetectors),
         new ArrayList<>(encodeValueDetectors), new ArrayList<>(decodeValueDetectors),
         new ArrayList<>(fieldNameDetectors), new ArrayList<>(flagDetectors),
         new ArrayList<>(typeNameDetectors), new ArrayList<>(fieldsDetectors),
-        new HashSet<>(options.values()));
+        new HashSet<>(options.values()), new ArrayList<>(versions), codecs.getMaximumSize(),
+        cache.getMaximumSize(), instrumentation, null, null, null);
   }
 
   public static Builder builder() {
@@ -484,6 +704,8 @@ public class Scribe implements EntityResolver {
     private final ArrayList<FieldReaderDetector> fieldReaderDetectors;
     private final ArrayList<InstanceBuilderDetector> instanceBuilderDetectors;
     private final ArrayList<ClassEncodingDetector> classEncodingDetectors;
+    private final HashMap<JavaType, Function<EntityResolver, ClassEncoding<Object>>>
+        classEncodings;
     private final ArrayList<SubTypesDetector> subTypesDetectors;
     private final ArrayList<EncodeValueDetector> encodeValueDetectors;
     private final ArrayList<DecodeValueDetector> decodeValueDetectors;
@@ -492,6 +714,14 @@ public class Scribe implements EntityResolver {
     private final ArrayList<TypeNameDetector> typeNameDetectors;
     private final ArrayList<FieldsDetector> fieldsDetectors;
     private final HashSet<Option> options;
+    private final ArrayList<String> versions;
+    private int codecCacheSize;
+    private long mappingCacheSize;
+    private Instrumentation instrumentation;
+    /* caches to share, only set when deriving a resolver with the same detectors */
+    private CodecCache codecs;
+    private MappingCache cache;
+    private Long configuration;
 
     public Builder() {
       typeAliasDetectors = new ArrayList<>();
@@ -499,6 +729,7 @@ public class Scribe implements EntityResolver {
       fieldReaderDetectors = new ArrayList<>();
       instanceBuilderDetectors = new ArrayList<>();
       classEncodingDetectors = new ArrayList<>();
+      classEncodings = new HashMap<>();
       subTypesDetectors = new ArrayList<>();
       encodeValueDetectors = new ArrayList<>();
       decodeValueDetectors = new ArrayList<>();
@@ -507,6 +738,10 @@ public class Scribe implements EntityResolver {
       typeNameDetectors = new ArrayList<>();
       fieldsDetectors = new ArrayList<>();
       options = new HashSet<>();
+      versions = new ArrayList<>();
+      codecCacheSize = CodecCache.DEFAULT_MAXIMUM_SIZE;
+      mappingCacheSize = Long.MAX_VALUE;
+      instrumentation = Instrumentation.NONE;
     }
 
     @SuppressWarnings("unchecked")
@@ -540,6 +775,14 @@ public class Scribe implements EntityResolver {
       return this;
     }
 
+    @Override
+    public Builder classEncoding(
+        final JavaType type, final Function<EntityResolver, ClassEncoding<Object>> encoding
+    ) {
+      this.classEncodings.put(type, encoding);
+      return this;
+    }
+
     public Builder subTypes(SubTypesDetector detector) {
       this.subTypesDetectors.add(detector);
       return this;
@@ -587,9 +830,61 @@ public class Scribe implements EntityResolver {
       return this;
     }
 
+    /**
+     * Set the maximum number of encoders and decoders to cache.
+     * <p>
+     * Defaults to {@link CodecCache#DEFAULT_MAXIMUM_SIZE}, a size of zero disables caching.
+     *
+     * @param codecCacheSize Maximum number of encoders and decoders to cache.
+     * @return This builder.
+     */
+    public Builder codecCacheSize(final int codecCacheSize) {
+      this.codecCacheSize = codecCacheSize;
+      return this;
+    }
+
+    /**
+     * Set the maximum number of resolved mappings to cache.
+     * <p>
+     * Defaults to unbounded. Evicted mappings are resolved again when they are next used.
+     *
+     * @param mappingCacheSize Maximum number of mappings to cache.
+     * @return This builder.
+     */
+    public Builder mappingCacheSize(final long mappingCacheSize) {
+      if (mappingCacheSize < 0) {
+        throw new IllegalArgumentException(
+            "Mapping cache size must not be negative: " + mappingCacheSize);
+      }
+
+      this.mappingCacheSize = mappingCacheSize;
+      return this;
+    }
+
+    /**
+     * Set the instrumentation to notify about resolution.
+     * <p>
+     * Defaults to {@link Instrumentation#NONE}, which is not measured at all.
+     *
+     * @param instrumentation Instrumentation to notify.
+     * @return This builder.
+     * @see RecordingInstrumentation
+     */
+    public Builder instrumentation(final Instrumentation instrumentation) {
+      this.instrumentation = instrumentation;
+      return this;
+    }
+
     @Override
     public Builder install(final Module module) {
       module.register(this);
+
+      final String version = module.version();
+
+      if (!version.isEmpty()) {
+        versions.add(detectorName(module.getClass()) + ":" + version);
+      }
+
       return this;
     }
 
@@ -602,6 +897,7 @@ public class Scribe implements EntityResolver {
           Collections.unmodifiableList(new ArrayList<>(fieldReaderDetectors)),
           Collections.unmodifiableList(new ArrayList<>(instanceBuilderDetectors)),
           Collections.unmodifiableList(new ArrayList<>(classEncodingDetectors)),
+          Collections.unmodifiableMap(new HashMap<>(classEncodings)),
           Collections.unmodifiableList(new ArrayList<>(subTypesDetectors)),
           Collections.unmodifiableList(new ArrayList<>(encodeValueDetectors)),
           Collections.unmodifiableList(new ArrayList<>(decodeValueDetectors)),
@@ -609,7 +905,39 @@ public class Scribe implements EntityResolver {
           Collections.unmodifiableList(new ArrayList<>(flagDetectors)),
           Collections.unmodifiableList(new ArrayList<>(typeNameDetectors)),
           Collections.unmodifiableList(new ArrayList<>(fieldsDetectors)),
-          Collections.unmodifiableMap(options));
+          Collections.unmodifiableMap(options),
+          Collections.unmodifiableList(new ArrayList<>(versions)),
+          codecs != null ? codecs : new CodecCache(codecCacheSize),
+          cache != null ? cache : new MappingCache(mappingCacheSize), instrumentation,
+          configuration != null ? configuration : configuration());
+    }
+
+    private long configuration() {
+      final List<String> values = new ArrayList<>();
+
+      for (final List<?> detectors : Arrays.asList(typeAliasDetectors, mappingDetectors,
+          fieldReaderDetectors, instanceBuilderDetectors, classEncodingDetectors,
+          subTypesDetectors, encodeValueDetectors, decodeValueDetectors, fieldNameDetectors,
+          flagDetectors, typeNameDetectors, fieldsDetectors)) {
+        values.add(detectors
+            .stream()
+            .map(d -> detectorName(d.getClass()))
+            .collect(Collectors.joining(",")));
+      }
+
+      options.stream().map(Option::toString).sorted().forEach(values::add);
+      values.addAll(versions);
+      return MappingSnapshot.digest(values);
+    }
+
+    /**
+     * Name of a detector class, which is stable across runs. Lambdas are named by the class
+     * declaring them, so changes to them are only seen through the versions of their modules.
+     */
+    private static String detectorName(final Class<?> type) {
+      final String name = type.getName();
+      final int lambda = name.indexOf("$$Lambda$");
+      return lambda < 0 ? name : name.substring(0, lambda + "$$Lambda".length());
     }
   }
 }
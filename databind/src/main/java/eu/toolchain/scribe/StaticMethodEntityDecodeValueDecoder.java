@@ -5,19 +5,22 @@ import lombok.Data;
 
 @Data
 public class StaticMethodEntityDecodeValueDecoder<Target, Source>
-    implements Decoder<Target, Source> {
+    implements DirectDecoder<Target, Source> {
   private final Decoder<Target, Source> parent;
   private final JavaType.Method method;
 
-  @SuppressWarnings("unchecked")
   @Override
-  public Decoded<Source> decode(final Context path, final Target instance) {
-    return parent.decode(path, instance).map(value -> {
-      try {
-        return (Source) method.invoke(null, value);
-      } catch (Exception e) {
-        throw path.error("failed to get value", e);
-      }
-    });
+  public Object decodeOrAbsent(final Context path, final Target instance) {
+    final Object value = parent.decodeOrAbsent(path, instance);
+
+    if (value == Decoded.ABSENT_VALUE) {
+      return value;
+    }
+
+    try {
+      return method.invoke(null, value);
+    } catch (Exception e) {
+      throw path.error("failed to get value", e);
+    }
   }
 }
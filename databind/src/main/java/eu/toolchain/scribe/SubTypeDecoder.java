@@ -0,0 +1,19 @@
+package eu.toolchain.scribe;
+
+import java.util.Collection;
+
+/**
+ * Fields decoders which select the sub-type of an entity themselves, instead of decoding it from
+ * the type field.
+ *
+ * @see Synthesizer
+ */
+interface SubTypeDecoder {
+  /**
+   * Decode the name of the sub-type that an entity should be decoded as.
+   *
+   * @param names Names of all available sub-types.
+   * @return The decoded name, or absent if there is no type information.
+   */
+  Decoded<String> decodeSubType(Context path, Collection<String> names);
+}
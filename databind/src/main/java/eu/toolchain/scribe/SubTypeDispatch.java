@@ -0,0 +1,200 @@
+package eu.toolchain.scribe;
+
+import eu.toolchain.scribe.reflection.JavaType;
+import lombok.Data;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dispatches runtime classes to the entry of their registered sub-type.
+ * <p>
+ * The first two classes seen are kept in inline slots, which covers monomorphic and bimorphic
+ * call sites without any hashing. Other classes are resolved through a {@link ClassValue}, where
+ * subclasses of registered sub-types are resolved to the nearest registered type once.
+ * <p>
+ * The {@link ClassValue} is shared by all dispatchers, and only records the index of the resolved
+ * entry for weakly referenced dispatchers. Entries refer to encoders, which refer back to their
+ * dispatcher, so storing them with the class would keep the dispatcher for as long as the class
+ * is loaded.
+ *
+ * @param <E> Type of the dispatched entries.
+ */
+class SubTypeDispatch<E> {
+  private static final int NONE = -1;
+  private static final int UNRESOLVED = -2;
+
+  private static final ClassValue<Resolved> RESOLVED = new ClassValue<Resolved>() {
+    @Override
+    protected Resolved computeValue(final Class<?> type) {
+      return new Resolved();
+    }
+  };
+
+  private final List<E> entries;
+  private final Map<Class<?>, Integer> registered;
+
+  /* inline slots, only ever written when empty */
+  private Slot<E> first;
+  private Slot<E> second;
+
+  SubTypeDispatch(final Map<JavaType, E> byType) {
+    final List<E> entries = new ArrayList<>();
+    final Map<Class<?>, Integer> registered = new HashMap<>();
+
+    for (final Map.Entry<JavaType, E> e : byType.entrySet()) {
+      registered.put(e.getKey().getType(), entries.size());
+      entries.add(e.getValue());
+    }
+
+    this.entries = entries;
+    this.registered = registered;
+  }
+
+  /**
+   * Get the entry for the given runtime class.
+   *
+   * @param type Runtime class to get entry for.
+   * @return The entry for the given class, or {@code null} if none is registered.
+   */
+  public E get(final Class<?> type) {
+    final Slot<E> first = this.first;
+
+    if (first != null && first.type == type) {
+      return first.entry;
+    }
+
+    final Slot<E> second = this.second;
+
+    if (second != null && second.type == type) {
+      return second.entry;
+    }
+
+    final Resolved resolved = RESOLVED.get(type);
+    int index = resolved.get(this);
+
+    if (index == UNRESOLVED) {
+      index = resolved.add(this, resolve(type));
+    }
+
+    if (index == NONE) {
+      return null;
+    }
+
+    final E entry = entries.get(index);
+
+    if (first == null) {
+      this.first = new Slot<>(type, entry);
+    } else if (second == null) {
+      this.second = new Slot<>(type, entry);
+    }
+
+    return entry;
+  }
+
+  private int resolve(final Class<?> type) {
+    Class<?> current = type;
+
+    while (current != null) {
+      final Integer index = registered.get(current);
+
+      if (index != null) {
+        return index;
+      }
+
+      current = current.getSuperclass();
+    }
+
+    int candidate = NONE;
+
+    for (final Map.Entry<Class<?>, Integer> e : registered.entrySet()) {
+      if (e.getKey().isAssignableFrom(type)) {
+        if (candidate != NONE) {
+          return NONE;
+        }
+
+        candidate = e.getValue();
+      }
+    }
+
+    return candidate;
+  }
+
+  @Data
+  private static class Slot<E> {
+    private final Class<?> type;
+    private final E entry;
+  }
+
+  /**
+   * Resolved indexes of one class, for every dispatcher which has seen it.
+   * <p>
+   * Dispatchers seeing the same class are few, so they are kept in an array which is copied when
+   * modified, and scanned when read. Slots of released dispatchers are expunged when seen.
+   */
+  private static class Resolved {
+    private volatile Resolution[] resolutions = new Resolution[0];
+
+    int get(final SubTypeDispatch<?> dispatch) {
+      int result = UNRESOLVED;
+      boolean released = false;
+
+      for (final Resolution resolution : resolutions) {
+        final SubTypeDispatch<?> d = resolution.get();
+
+        if (d == null) {
+          released = true;
+        } else if (d == dispatch) {
+          result = resolution.index;
+        }
+      }
+
+      if (released) {
+        expunge();
+      }
+
+      return result;
+    }
+
+    synchronized int add(final SubTypeDispatch<?> dispatch, final int index) {
+      final int existing = get(dispatch);
+
+      if (existing != UNRESOLVED) {
+        return existing;
+      }
+
+      final List<Resolution> next = live();
+      next.add(new Resolution(dispatch, index));
+      resolutions = next.toArray(new Resolution[0]);
+      return index;
+    }
+
+    private synchronized void expunge() {
+      resolutions = live().toArray(new Resolution[0]);
+    }
+
+    private List<Resolution> live() {
+      final List<Resolution> live = new ArrayList<>();
+
+      for (final Resolution resolution : resolutions) {
+        if (resolution.get() != null) {
+          live.add(resolution);
+        }
+      }
+
+      return live;
+    }
+  }
+
+  private static class Resolution extends WeakReference<SubTypeDispatch<?>> {
+    private final int index;
+
+    Resolution(final SubTypeDispatch<?> dispatch, final int index) {
+      super(dispatch);
+      this.index = index;
+    }
+  }
+}
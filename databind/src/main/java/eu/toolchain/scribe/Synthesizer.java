@@ -0,0 +1,333 @@
+package eu.toolchain.scribe;
+
+import eu.toolchain.scribe.reflection.JavaType;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static eu.toolchain.scribe.Streams.streamRequireOne;
+import static eu.toolchain.scribe.TypeMatcher.any;
+import static eu.toolchain.scribe.TypeMatcher.isPrimitive;
+import static eu.toolchain.scribe.TypeMatcher.type;
+
+/**
+ * Generates synthetic instances of mapped types.
+ * <p>
+ * Instances are built by decoding synthetic values, so they are created the same way that
+ * decoders create them. Several variants of instances are generated, which together cover every
+ * sub-type and both the present and absent branch of every optional field which is reachable.
+ * Collections contain a single element, and the nesting of optional fields and collections is
+ * limited so that circular types can be synthesized.
+ * <p>
+ * Values of types which can not be synthesized are left absent, and variants which require them
+ * are skipped.
+ *
+ * @see WarmUp.Builder#exerciseValues(ConverterMapper)
+ */
+@RequiredArgsConstructor
+public class Synthesizer {
+  public static final int DEFAULT_MAXIMUM_VARIANTS = 64;
+
+  /* depth at which optional fields are absent and collections are empty */
+  private static final int MAXIMUM_DEPTH = 8;
+  /* depth at which required fields are considered circular */
+  private static final int RECURSION_LIMIT = 32;
+  /* valid base64, which permits it to be decoded as bytes by aliases */
+  private static final String STRING = "AAAA";
+  private static final String KEY = "key";
+
+  private static final Factory FACTORY = new Factory();
+
+  private final EntityResolver resolver;
+  private final int maximumVariants;
+
+  public Synthesizer(final EntityResolver resolver) {
+    this(resolver, DEFAULT_MAXIMUM_VARIANTS);
+  }
+
+  /**
+   * Synthesize instances of the given type.
+   *
+   * @param type Type to synthesize instances of.
+   * @return The synthesized instances, and the branches they cover. Empty if every instance
+   * requires values which can not be synthesized.
+   * @throws IllegalArgumentException If the type can not be decoded.
+   */
+  public Synthesized synthesize(final Type type) {
+    /* lazy codecs permit decoders for circular types to be built */
+    final EntityResolver lazy = resolver.withOptions(DatabindOptions.LAZY_CODECS);
+
+    final Decoder<Value, Object> decoder = streamRequireOne(
+        lazy.mapping(JavaType.of(type)).newDecoder(lazy, FACTORY),
+        values -> new IllegalArgumentException(
+            "Cannot synthesize type (" + type + "), expected one decoder but got (" + values +
+                ")"));
+
+    final List<Object> instances = new ArrayList<>();
+    final Set<String> branches = new LinkedHashSet<>();
+
+    int widest = 1;
+    int idle = 0;
+
+    /* keep going until every choice has gone through a full cycle without covering anything */
+    for (int variant = 0; variant < maximumVariants && idle < 2 * widest; variant++) {
+      final Session session = new Session(variant);
+
+      final Object instance = decode(type, decoder, session);
+
+      widest = Math.max(widest, session.widest);
+
+      if (instance == null) {
+        idle++;
+      } else if (branches.addAll(session.branches) || instances.isEmpty()) {
+        instances.add(instance);
+        idle = 0;
+      } else {
+        idle++;
+      }
+    }
+
+    return new Synthesized(Collections.unmodifiableList(instances),
+        Collections.unmodifiableSet(branches));
+  }
+
+  /**
+   * Decode one variant.
+   *
+   * @return The decoded instance, or {@code null} if it requires values which can not be
+   * synthesized.
+   */
+  private Object decode(
+      final Type type, final Decoder<Value, Object> decoder, final Session session
+  ) {
+    final Object instance;
+
+    try {
+      instance = decoder.decodeOrAbsent(Context.ROOT, new Value(session, 0, Context.ROOT));
+    } catch (final ContextException e) {
+      /* required fields which could not be synthesized */
+      if (session.unsupported) {
+        return null;
+      }
+
+      throw e;
+    }
+
+    if (instance != Decoded.ABSENT_VALUE) {
+      return instance;
+    }
+
+    if (session.unsupported) {
+      return null;
+    }
+
+    throw new IllegalArgumentException("Cannot synthesize type (" + type + "), decoded to nothing");
+  }
+
+  @Data
+  public static class Synthesized {
+    private final List<Object> instances;
+    /**
+     * Descriptions of the sub-types and optional branches covered by the instances.
+     */
+    private final Set<String> branches;
+  }
+
+  /**
+   * Choices made while synthesizing one variant.
+   */
+  @RequiredArgsConstructor
+  static class Session {
+    private final int variant;
+    private final Set<String> branches = new LinkedHashSet<>();
+    private int widest = 1;
+    /* if a value was left absent since it could not be synthesized */
+    private boolean unsupported;
+  }
+
+  /**
+   * A synthetic value, standing in for both values and entities.
+   * <p>
+   * Keeps track of its own path, since encoders and decoders only push fields when reporting
+   * errors.
+   */
+  @RequiredArgsConstructor
+  static class Value {
+    private final Session session;
+    private final int depth;
+    private final Context path;
+
+    Value child(final Context path) {
+      return new Value(session, depth + 1, path);
+    }
+
+    boolean isExhausted() {
+      return depth >= MAXIMUM_DEPTH;
+    }
+  }
+
+  @RequiredArgsConstructor
+  static class FieldsDecoder implements EntityFieldsDecoder<Value>, SubTypeDecoder {
+    private final Value value;
+
+    @Override
+    public <Source> Decoded<Source> decodeField(
+        final EntityFieldDecoder<Value, Source> decoder, final Context path
+    ) {
+      if (value.depth >= RECURSION_LIMIT) {
+        throw path.error("Cannot synthesize, required fields are circular");
+      }
+
+      final Context field = value.path.push(decoder.getName());
+
+      /* only optional fields decode to something when absent */
+      final Decoded<Source> absent = decoder.decodeOptionally(path, Decoded.absent());
+
+      if (!(absent instanceof Decoded.Present)) {
+        return decoder.decode(path, value.child(field));
+      }
+
+      if (value.isExhausted() || (value.session.variant + value.depth) % 2 == 1) {
+        value.session.branches.add(field.path() + ": absent");
+        return absent;
+      }
+
+      value.session.branches.add(field.path() + ": present");
+      return decoder.decode(path, value.child(field));
+    }
+
+    /**
+     * Select which sub-type to synthesize.
+     */
+    @Override
+    public Decoded<String> decodeSubType(final Context path, final Collection<String> names) {
+      final List<String> sorted = new ArrayList<>(names);
+      Collections.sort(sorted);
+
+      final Session session = value.session;
+      session.widest = Math.max(session.widest, sorted.size());
+
+      final String name = sorted.get((session.variant / 2 + value.depth) % sorted.size());
+      session.branches.add(value.path.path() + ": sub-type " + name);
+      return Decoded.of(name);
+    }
+  }
+
+  static class Factory implements DecoderFactory<Value, Value> {
+    private static final Registry<Decoder<Value, ?>, Factory> decoders = new Registry<>();
+
+    static {
+      decoders.setup(type(Map.class, any(), any()), (resolver, type, factory) -> {
+        final JavaType first = type.getTypeParameter(0).get();
+        final JavaType second = type.getTypeParameter(1).get();
+
+        return resolver
+            .mapping(first)
+            .newDecoder(resolver, factory)
+            .flatMap(key -> resolver
+                .mapping(second)
+                .newDecoder(resolver, factory)
+                .map(value -> singletonMap(key, value)));
+      });
+
+      decoders.setup(type(List.class, any()), (resolver, type, factory) -> {
+        final JavaType first = type.getTypeParameter(0).get();
+
+        return resolver
+            .mapping(first)
+            .newDecoder(resolver, factory)
+            .map(Factory::singletonList);
+      });
+
+      decoders.constant(type(String.class), (path, instance) -> Decoded.of(STRING));
+      decoders.constant(isPrimitive(Boolean.class),
+          (path, instance) -> Decoded.of(instance.session.variant % 2 == 0));
+      decoders.constant(isPrimitive(Short.class),
+          (path, instance) -> Decoded.of((short) instance.session.variant));
+      decoders.constant(isPrimitive(Integer.class),
+          (path, instance) -> Decoded.of(instance.session.variant));
+      decoders.constant(isPrimitive(Long.class),
+          (path, instance) -> Decoded.of((long) instance.session.variant));
+      decoders.constant(isPrimitive(Float.class),
+          (path, instance) -> Decoded.of((float) instance.session.variant));
+      decoders.constant(isPrimitive(Double.class),
+          (path, instance) -> Decoded.of((double) instance.session.variant));
+    }
+
+    /**
+     * Decode maps with a single entry, or no entries if the key or value is absent.
+     */
+    private static Decoder<Value, Map<Object, Object>> singletonMap(
+        final Decoder<Value, Object> key, final Decoder<Value, Object> value
+    ) {
+      return (path, instance) -> {
+        if (instance.isExhausted()) {
+          return Decoded.of(Collections.emptyMap());
+        }
+
+        final Context p = path.push(KEY);
+        final Value child = instance.child(instance.path.push(KEY));
+
+        return key
+            .decode(p, child)
+            .flatMap(k -> value.decode(p, child).map(v -> Collections.singletonMap(k, v)))
+            .handleAbsent(Collections::emptyMap);
+      };
+    }
+
+    /**
+     * Decode lists with a single element, or no elements if the element is absent.
+     */
+    private static Decoder<Value, List<Object>> singletonList(final Decoder<Value, Object> value) {
+      return (path, instance) -> {
+        if (instance.isExhausted()) {
+          return Decoded.of(Collections.emptyList());
+        }
+
+        return value
+            .decode(path.push(0), instance.child(instance.path.push(0)))
+            .map(Collections::singletonList)
+            .handleAbsent(Collections::emptyList);
+      };
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <Source> Stream<Decoder<Value, Source>> newDecoder(
+        final EntityResolver resolver, final JavaType type, final Flags flags
+    ) {
+      final List<Decoder<Value, ?>> found =
+          decoders.newInstance(resolver, type, this).collect(Collectors.toList());
+
+      if (found.isEmpty()) {
+        /* leave values which can not be synthesized absent */
+        return Stream.of((path, instance) -> {
+          instance.session.unsupported = true;
+          return Decoded.absent();
+        });
+      }
+
+      return found.stream().map(d -> (Decoder<Value, Source>) d);
+    }
+
+    @Override
+    public EntityFieldsDecoder<Value> newEntityDecoder(final Value instance) {
+      return new FieldsDecoder(instance);
+    }
+
+    @Override
+    public Decoded<Value> valueAsEntity(final Value instance) {
+      return Decoded.of(instance);
+    }
+  }
+}
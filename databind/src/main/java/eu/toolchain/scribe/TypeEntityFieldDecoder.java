@@ -26,4 +26,9 @@ public class TypeEntityFieldDecoder<Target> implements EntityFieldDecoder<Target
   public Decoded<String> decodeOptionally(final Context path, final Decoded<Target> instance) {
     return decoder.decodeOptionally(path, instance);
   }
+
+  @Override
+  public Object decodeOptionallyOrAbsent(final Context path, final Object instance) {
+    return decoder.decodeOptionallyOrAbsent(path, instance);
+  }
 }
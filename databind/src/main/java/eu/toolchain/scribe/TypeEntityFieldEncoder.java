@@ -2,8 +2,6 @@ package eu.toolchain.scribe;
 
 import lombok.Data;
 
-import java.util.function.Consumer;
-
 @Data
 public class TypeEntityFieldEncoder<Target> implements EntityFieldEncoder<Target, String> {
   private final String name;
@@ -25,9 +23,7 @@ public class TypeEntityFieldEncoder<Target> implements EntityFieldEncoder<Target
   }
 
   @Override
-  public void encodeOptionally(
-      final Context path, final String instance, final Consumer<Target> consumer
-  ) {
-    encoder.encodeOptionally(path, instance, consumer);
+  public boolean isAbsent(final String instance) {
+    return encoder.isAbsent(instance);
   }
 }
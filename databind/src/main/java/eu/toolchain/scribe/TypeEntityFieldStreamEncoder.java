@@ -2,8 +2,6 @@ package eu.toolchain.scribe;
 
 import lombok.Data;
 
-import java.util.function.Consumer;
-
 @Data
 public class TypeEntityFieldStreamEncoder<Target>
     implements EntityFieldStreamEncoder<Target, String> {
@@ -21,10 +19,7 @@ public class TypeEntityFieldStreamEncoder<Target>
   }
 
   @Override
-  public void streamEncodeOptionally(
-      final Context path, final String instance, final Target target,
-      final Consumer<Runnable> callback
-  ) {
-    encoder.streamEncodeOptionally(path, instance, target, callback);
+  public boolean isAbsent(final String instance) {
+    return encoder.isAbsent(instance);
   }
 }
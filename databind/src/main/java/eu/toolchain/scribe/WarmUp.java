@@ -0,0 +1,412 @@
+package eu.toolchain.scribe;
+
+import eu.toolchain.scribe.reflection.JavaType;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Resolves mappings, and builds codecs for a set of types ahead of time.
+ * <p>
+ * Since resolved mappings are cached by the resolver, this moves the cost of resolving them out
+ * of the first request which uses them. Codecs which are built lazily are materialized.
+ * <p>
+ * Mappers can also be exercised, by encoding and decoding synthetic instances of every type
+ * repeatedly, so that the code paths they use are compiled before serving traffic.
+ *
+ * @see Scribe#warmUp()
+ */
+public class WarmUp {
+  private static final String CLASS_SUFFIX = ".class";
+
+  /**
+   * Scan the class path for classes in the given package, or any of its sub-packages.
+   * <p>
+   * Only classes which can be mapped without further type information are included, which
+   * excludes interfaces, enums, annotations, anonymous, local, inner (non-static), synthetic and
+   * generic classes.
+   *
+   * @param packagePrefix Package to scan, like {@code com.example.model}, or an empty string for
+   * the default package.
+   * @param loader Class loader to scan, and to load classes with.
+   * @return The classes in the given package.
+   */
+  public static List<Class<?>> scan(final String packagePrefix, final ClassLoader loader) {
+    final String path = packagePrefix.replace('.', '/');
+    final Set<String> names = new LinkedHashSet<>();
+
+    try {
+      final Enumeration<URL> urls = loader.getResources(path);
+
+      while (urls.hasMoreElements()) {
+        final URL url = urls.nextElement();
+
+        switch (url.getProtocol()) {
+          case "file":
+            scanDirectory(Paths.get(url.toURI()), packagePrefix, names);
+            break;
+          case "jar":
+            scanJar(((JarURLConnection) url.openConnection()).getJarFile(), path, names);
+            break;
+          default:
+            throw new IllegalArgumentException("Unsupported class path entry: " + url);
+        }
+      }
+    } catch (final IOException | URISyntaxException e) {
+      throw new IllegalArgumentException("Failed to scan package: " + packagePrefix, e);
+    }
+
+    final List<Class<?>> classes = new ArrayList<>();
+
+    for (final String name : names) {
+      final Class<?> type;
+
+      try {
+        type = Class.forName(name, false, loader);
+      } catch (final ClassNotFoundException | LinkageError e) {
+        continue;
+      }
+
+      if (isMappable(type)) {
+        classes.add(type);
+      }
+    }
+
+    return classes;
+  }
+
+  private static void scanDirectory(
+      final Path directory, final String packagePrefix, final Set<String> names
+  ) throws IOException {
+    try (final Stream<Path> files = Files.walk(directory)) {
+      for (final Path file : files.collect(Collectors.toList())) {
+        final String relative = directory.relativize(file).toString();
+
+        if (!relative.endsWith(CLASS_SUFFIX)) {
+          continue;
+        }
+
+        final String name = relative
+            .substring(0, relative.length() - CLASS_SUFFIX.length())
+            .replace(file.getFileSystem().getSeparator(), ".");
+
+        names.add(packagePrefix.isEmpty() ? name : packagePrefix + "." + name);
+      }
+    }
+  }
+
+  private static void scanJar(final JarFile jar, final String path, final Set<String> names) {
+    final Enumeration<JarEntry> entries = jar.entries();
+
+    while (entries.hasMoreElements()) {
+      final String name = entries.nextElement().getName();
+
+      if (!(path.isEmpty() || name.startsWith(path + "/")) || !name.endsWith(CLASS_SUFFIX)) {
+        continue;
+      }
+
+      names.add(name.substring(0, name.length() - CLASS_SUFFIX.length()).replace('/', '.'));
+    }
+  }
+
+  private static boolean isMappable(final Class<?> type) {
+    if (type.isInterface() || type.isEnum() || type.isAnonymousClass() || type.isLocalClass() ||
+        type.isSynthetic() || type.getSimpleName().equals("package-info")) {
+      return false;
+    }
+
+    if (type.isMemberClass() && !Modifier.isStatic(type.getModifiers())) {
+      return false;
+    }
+
+    return type.getTypeParameters().length == 0;
+  }
+
+  @RequiredArgsConstructor
+  public static class Builder {
+    private final Scribe scribe;
+
+    private final List<Type> types = new ArrayList<>();
+    private final List<EncoderFactory<?, ?>> encoderFactories = new ArrayList<>();
+    private final List<StreamEncoderFactory<?>> streamEncoderFactories = new ArrayList<>();
+    private final List<DecoderFactory<?, ?>> decoderFactories = new ArrayList<>();
+    private final List<ConverterMapper<?>> valueMappers = new ArrayList<>();
+    private final List<StringMapper> stringMappers = new ArrayList<>();
+    private int iterations = 1;
+    private Optional<Duration> timeBudget = Optional.empty();
+    private Executor executor = Runnable::run;
+
+    /**
+     * Add the given type to warm up.
+     *
+     * @param type Type to warm up.
+     * @return This builder.
+     */
+    public Builder type(final Type type) {
+      this.types.add(type);
+      return this;
+    }
+
+    /**
+     * Add the given types to warm up.
+     *
+     * @param types Types to warm up.
+     * @return This builder.
+     */
+    public Builder types(final Collection<? extends Type> types) {
+      this.types.addAll(types);
+      return this;
+    }
+
+    /**
+     * Add all classes found in the given package, or its sub-packages.
+     *
+     * @param packagePrefix Package to scan.
+     * @param loader Class loader to scan.
+     * @param filter Filter selecting which of the scanned classes to warm up.
+     * @return This builder.
+     * @see WarmUp#scan(String, ClassLoader)
+     */
+    public Builder packagePrefix(
+        final String packagePrefix, final ClassLoader loader, final Predicate<Class<?>> filter
+    ) {
+      scan(packagePrefix, loader).stream().filter(filter).forEach(types::add);
+      return this;
+    }
+
+    /**
+     * Build encoders with the given factory.
+     *
+     * @param factory Factory to build encoders with.
+     * @return This builder.
+     */
+    public Builder encoders(final EncoderFactory<?, ?> factory) {
+      this.encoderFactories.add(factory);
+      return this;
+    }
+
+    /**
+     * Build stream encoders with the given factory.
+     *
+     * @param factory Factory to build stream encoders with.
+     * @return This builder.
+     */
+    public Builder streamEncoders(final StreamEncoderFactory<?> factory) {
+      this.streamEncoderFactories.add(factory);
+      return this;
+    }
+
+    /**
+     * Build decoders with the given factory.
+     *
+     * @param factory Factory to build decoders with.
+     * @return This builder.
+     */
+    public Builder decoders(final DecoderFactory<?, ?> factory) {
+      this.decoderFactories.add(factory);
+      return this;
+    }
+
+    /**
+     * Exercise the given mapper, by encoding synthetic instances to values and decoding them back.
+     *
+     * @param mapper Mapper to exercise.
+     * @return This builder.
+     * @see Synthesizer
+     */
+    public Builder exerciseValues(final ConverterMapper<?> mapper) {
+      this.valueMappers.add(mapper);
+      return this;
+    }
+
+    /**
+     * Exercise the given mapper, by encoding synthetic instances to strings and decoding them
+     * back.
+     *
+     * @param mapper Mapper to exercise.
+     * @return This builder.
+     * @see Synthesizer
+     */
+    public Builder exerciseStrings(final StringMapper mapper) {
+      this.stringMappers.add(mapper);
+      return this;
+    }
+
+    /**
+     * Number of times to exercise every synthetic instance with each mapper, defaults to one.
+     *
+     * @param iterations Number of iterations.
+     * @return This builder.
+     */
+    public Builder iterations(final int iterations) {
+      this.iterations = iterations;
+      return this;
+    }
+
+    /**
+     * Stop exercising mappers once the given time has passed since the warm up started, even if
+     * not all iterations have completed.
+     *
+     * @param timeBudget Time to spend exercising mappers.
+     * @return This builder.
+     */
+    public Builder timeBudget(final Duration timeBudget) {
+      this.timeBudget = Optional.of(timeBudget);
+      return this;
+    }
+
+    /**
+     * Executor to warm up types on, defaults to the calling thread.
+     *
+     * @param executor Executor to warm up types on.
+     * @return This builder.
+     */
+    public Builder executor(final Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Warm up all types, and wait for it to complete.
+     *
+     * @return A report of the warm up.
+     */
+    public Report run() {
+      final long deadline = timeBudget
+          .map(budget -> System.nanoTime() + budget.toNanos())
+          .orElse(Long.MAX_VALUE);
+      final Synthesizer synthesizer = new Synthesizer(scribe);
+
+      final List<CompletableFuture<Result>> futures = new ArrayList<>();
+
+      for (final Type type : types) {
+        futures.add(
+            CompletableFuture.supplyAsync(() -> warmUp(type, synthesizer, deadline), executor));
+      }
+
+      final List<Result> results = new ArrayList<>();
+
+      for (final CompletableFuture<Result> future : futures) {
+        results.add(future.join());
+      }
+
+      return new Report(Collections.unmodifiableList(results));
+    }
+
+    private Result warmUp(final Type type, final Synthesizer synthesizer, final long deadline) {
+      final long start = System.nanoTime();
+      long exercised = 0;
+      Set<String> branches = Collections.emptySet();
+
+      try {
+        scribe.mapping(JavaType.of(type));
+
+        for (final EncoderFactory<?, ?> factory : encoderFactories) {
+          LazyCodec.materialize(scribe.encoderFor(factory).newEncoderForType(type));
+        }
+
+        for (final StreamEncoderFactory<?> factory : streamEncoderFactories) {
+          LazyCodec.materialize(scribe.streamEncoderFor(factory).newStreamEncoder(type));
+        }
+
+        for (final DecoderFactory<?, ?> factory : decoderFactories) {
+          LazyCodec.materialize(scribe.decoderFor(factory).newDecoderForType(type));
+        }
+
+        final List<ConverterEncoding<Object, Object>> encodings = encodings(type);
+
+        if (!encodings.isEmpty()) {
+          final Synthesizer.Synthesized synthesized = synthesizer.synthesize(type);
+          branches = synthesized.getBranches();
+
+          for (int i = 0; i < iterations && System.nanoTime() - deadline < 0; i++) {
+            for (final ConverterEncoding<Object, Object> encoding : encodings) {
+              for (final Object instance : synthesized.getInstances()) {
+                encoding.decode(encoding.encode(instance));
+                exercised++;
+              }
+            }
+          }
+        }
+      } catch (final Exception | LinkageError e) {
+        /* linkage errors are typical for types which are scanned, but are not meant to be used */
+        return new Result(type, System.nanoTime() - start, Optional.of(e), exercised, branches);
+      }
+
+      return new Result(type, System.nanoTime() - start, Optional.empty(), exercised, branches);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ConverterEncoding<Object, Object>> encodings(final Type type) {
+      final List<ConverterEncoding<Object, Object>> encodings = new ArrayList<>();
+
+      for (final ConverterMapper<?> mapper : valueMappers) {
+        encodings.add((ConverterEncoding<Object, Object>) mapper.valueEncodingForType(type));
+      }
+
+      for (final StringMapper mapper : stringMappers) {
+        final ConverterEncoding<?, ?> encoding = mapper.stringEncodingForType(type);
+        encodings.add((ConverterEncoding<Object, Object>) encoding);
+      }
+
+      return encodings;
+    }
+  }
+
+  @Data
+  public static class Report {
+    private final List<Result> results;
+
+    /**
+     * Get all results for types which failed to warm up.
+     *
+     * @return Results of failed types.
+     */
+    public List<Result> getFailures() {
+      return results.stream().filter(r -> r.getError().isPresent()).collect(Collectors.toList());
+    }
+  }
+
+  @Data
+  public static class Result {
+    private final Type type;
+    /**
+     * Time spent warming up the type, in nanoseconds.
+     */
+    private final long nanos;
+    private final Optional<Throwable> error;
+    /**
+     * Number of times that a synthetic instance was encoded and decoded.
+     */
+    private final long exercised;
+    /**
+     * Sub-types and optional branches covered by the synthetic instances.
+     */
+    private final Set<String> branches;
+  }
+}
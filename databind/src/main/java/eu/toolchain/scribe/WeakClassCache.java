@@ -0,0 +1,468 @@
+package eu.toolchain.scribe;
+
+import eu.toolchain.scribe.reflection.JavaType;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent cache which does not prevent the classes of its keys from being unloaded.
+ * <p>
+ * Every key has an owner, which is the class it refers to with the most specific class loader.
+ * Entries are stored with their owner, in a single {@link ClassValue} shared by all caches and
+ * weakly keyed on the cache, so they are released together with either of them. Keys which only
+ * refer to classes of loaders above the one of this library, like {@code String}, are owned by
+ * this class instead, since values refer to classes of this library.
+ * <p>
+ * Values stored with a class must not refer back to the cache, since the cache would then never be
+ * released. Keys of values which might, are given a {@code null} owner, and are held by the cache
+ * itself instead.
+ * <p>
+ * Lookups are a {@link ClassValue} read, followed by a scan of the few caches using the same
+ * owner, and a {@link ConcurrentHashMap} read.
+ * <p>
+ * The cache can be bounded, in which case all entries of the least recently added owner are
+ * evicted until it fits.
+ *
+ * @param <K> Type of keys.
+ * @param <V> Type of values.
+ */
+class WeakClassCache<K, V> {
+  private static final ClassValue<Caches> CACHES = new ClassValue<Caches>() {
+    @Override
+    protected Caches computeValue(final Class<?> type) {
+      return new Caches();
+    }
+  };
+
+  private final long maximumSize;
+
+  /* entries without an owner class */
+  private final Owned<K, V> retained = new Owned<>();
+  private final AtomicBoolean retainedRegistered = new AtomicBoolean();
+
+  /* owners in the order they were added, weakly referenced */
+  private final ConcurrentLinkedQueue<OwnerReference> owners = new ConcurrentLinkedQueue<>();
+  private final ReferenceQueue<Class<?>> unloadedOwners = new ReferenceQueue<>();
+
+  private final AtomicLong size = new AtomicLong();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder unloaded = new LongAdder();
+
+  /**
+   * Create a new cache.
+   *
+   * @param maximumSize Maximum number of entries, or {@link Long#MAX_VALUE} for unbounded.
+   */
+  WeakClassCache(final long maximumSize) {
+    this.maximumSize = maximumSize;
+  }
+
+  /**
+   * Get the value of the given key.
+   *
+   * @param owner Owner of the key, as determined by {@link #owner(Class)}, or {@code null} for
+   * keys whose values must be held by the cache itself.
+   * @param key Key to get value for.
+   * @return The value, or {@code null} if absent.
+   */
+  @SuppressWarnings("unchecked")
+  public V get(final Class<?> owner, final K key) {
+    if (owner == null) {
+      return retained.entries.get(key);
+    }
+
+    final Owned<K, V> o = (Owned<K, V>) CACHES.get(owner).get(this);
+    return o != null ? o.entries.get(key) : null;
+  }
+
+  /**
+   * Put the given value unless a value is already present.
+   *
+   * @param owner Owner of the key, as for {@link #get(Class, Object)}.
+   * @return The existing value, or {@code null} if the given value was put.
+   */
+  public V putIfAbsent(final Class<?> owner, final K key, final V value) {
+    expungeUnloaded();
+
+    while (true) {
+      final Owned<K, V> o = owned(owner);
+      final V existing = o.entries.putIfAbsent(key, value);
+
+      if (existing != null) {
+        return existing;
+      }
+
+      o.count.incrementAndGet();
+
+      if (size.incrementAndGet() > maximumSize) {
+        evict();
+      }
+
+      /* the owner might have been evicted before the value was put, leaving it unreachable, in
+       * which case it is put again unless the eviction already removed it */
+      if (registered(owner) == o || !o.entries.remove(key, value)) {
+        return null;
+      }
+
+      o.count.decrementAndGet();
+      size.decrementAndGet();
+    }
+  }
+
+  /**
+   * Get a snapshot of all values.
+   */
+  public List<V> values() {
+    final List<V> values = new ArrayList<>();
+    final Set<Owned<K, V>> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    for (final OwnerReference reference : owners) {
+      final Owned<K, V> o = registered(reference);
+
+      if (o != null && seen.add(o)) {
+        values.addAll(o.entries.values());
+      }
+    }
+
+    return values;
+  }
+
+  public long size() {
+    return size.get();
+  }
+
+  public long evictions() {
+    return evictions.sum();
+  }
+
+  public long unloaded() {
+    return unloaded.sum();
+  }
+
+  private void evict() {
+    while (size.get() > maximumSize) {
+      final OwnerReference reference = owners.poll();
+
+      if (reference == null) {
+        return;
+      }
+
+      final Owned<K, V> o = unregister(reference);
+
+      if (o == null) {
+        continue;
+      }
+
+      for (final K key : o.entries.keySet()) {
+        if (o.entries.remove(key) != null) {
+          o.count.decrementAndGet();
+          size.decrementAndGet();
+          evictions.increment();
+        }
+      }
+    }
+  }
+
+  /**
+   * Get the entries of the given owner, registering it if this is its first use.
+   */
+  @SuppressWarnings("unchecked")
+  private Owned<K, V> owned(final Class<?> type) {
+    if (type == null) {
+      if (retainedRegistered.compareAndSet(false, true)) {
+        owners.add(new OwnerReference(null, retained.count, null));
+      }
+
+      return retained;
+    }
+
+    final Caches caches = CACHES.get(type);
+    final Owned<K, V> existing = (Owned<K, V>) caches.get(this);
+
+    if (existing != null) {
+      return existing;
+    }
+
+    final Owned<K, V> o = new Owned<>();
+    final Owned<K, V> added = (Owned<K, V>) caches.add(this, o);
+
+    if (added == o) {
+      owners.add(new OwnerReference(type, o.count, unloadedOwners));
+    }
+
+    return added;
+  }
+
+  /**
+   * Get the entries of the given owner, without registering it.
+   */
+  @SuppressWarnings("unchecked")
+  private Owned<K, V> registered(final Class<?> type) {
+    if (type == null) {
+      return retainedRegistered.get() ? retained : null;
+    }
+
+    return (Owned<K, V>) CACHES.get(type).get(this);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Owned<K, V> registered(final OwnerReference reference) {
+    if (reference.count == retained.count) {
+      return retained;
+    }
+
+    final Class<?> type = reference.get();
+    return type != null ? (Owned<K, V>) CACHES.get(type).get(this) : null;
+  }
+
+  /**
+   * Unregister an owner, the next use of it registers it again.
+   *
+   * @return The entries of the owner, or {@code null} if it has been unloaded.
+   */
+  @SuppressWarnings("unchecked")
+  private Owned<K, V> unregister(final OwnerReference reference) {
+    if (reference.count == retained.count) {
+      retainedRegistered.set(false);
+      return retained;
+    }
+
+    final Class<?> type = reference.get();
+    return type != null ? (Owned<K, V>) CACHES.get(type).remove(this) : null;
+  }
+
+  private void expungeUnloaded() {
+    Reference<? extends Class<?>> reference;
+
+    while ((reference = unloadedOwners.poll()) != null) {
+      final OwnerReference o = (OwnerReference) reference;
+      final int count = o.count.getAndSet(0);
+      size.addAndGet(-count);
+      unloaded.add(count);
+      owners.remove(o);
+    }
+  }
+
+  /**
+   * Finish determining an owner.
+   *
+   * @param owner The class with the most specific class loader that a key refers to, or
+   * {@code null} if it doesn't refer to any.
+   * @return The owner to store entries for the key in.
+   */
+  static Class<?> owner(final Class<?> owner) {
+    if (owner == null) {
+      return WeakClassCache.class;
+    }
+
+    final ClassLoader loader = owner.getClassLoader();
+    final ClassLoader library = WeakClassCache.class.getClassLoader();
+
+    if (loader != library && (loader == null || isAncestor(loader, library))) {
+      return WeakClassCache.class;
+    }
+
+    return owner;
+  }
+
+  /**
+   * Find the class with the most specific class loader that the given type refers to.
+   *
+   * @param type Type to find owner for.
+   * @param current Current owner, or {@code null}.
+   * @return The more specific owner.
+   * @see #owner(Class)
+   */
+  static Class<?> ownerOf(final JavaType type, final Class<?> current) {
+    Class<?> result = moreSpecific(current, type.getType());
+
+    for (final JavaType parameter : type.getTypeParameters()) {
+      result = ownerOf(parameter, result);
+    }
+
+    return result;
+  }
+
+  /**
+   * @see #ownerOf(JavaType, Class)
+   */
+  static Class<?> ownerOf(final Type type, final Class<?> current) {
+    if (type instanceof Class) {
+      return moreSpecific(current, (Class<?>) type);
+    }
+
+    if (type instanceof ParameterizedType) {
+      final ParameterizedType p = (ParameterizedType) type;
+      Class<?> result = ownerOf(p.getRawType(), current);
+
+      for (final Type argument : p.getActualTypeArguments()) {
+        result = ownerOf(argument, result);
+      }
+
+      return result;
+    }
+
+    if (type instanceof GenericArrayType) {
+      return ownerOf(((GenericArrayType) type).getGenericComponentType(), current);
+    }
+
+    if (type instanceof WildcardType) {
+      final WildcardType w = (WildcardType) type;
+      Class<?> result = current;
+
+      for (final Type bound : w.getUpperBounds()) {
+        result = ownerOf(bound, result);
+      }
+
+      for (final Type bound : w.getLowerBounds()) {
+        result = ownerOf(bound, result);
+      }
+
+      return result;
+    }
+
+    /* type variables refer to a declaring class or method, which is always reachable */
+    return current;
+  }
+
+  /**
+   * Pick the class with the more specific class loader, preferring the current one if neither is
+   * more specific.
+   */
+  static Class<?> moreSpecific(final Class<?> current, final Class<?> candidate) {
+    if (current == null) {
+      return candidate;
+    }
+
+    final ClassLoader loader = current.getClassLoader();
+    final ClassLoader candidateLoader = candidate.getClassLoader();
+
+    if (loader == candidateLoader || loader != null && !isAncestor(loader, candidateLoader)) {
+      return current;
+    }
+
+    return candidate;
+  }
+
+  private static boolean isAncestor(final ClassLoader ancestor, final ClassLoader loader) {
+    for (ClassLoader l = loader; l != null; l = l.getParent()) {
+      if (l == ancestor) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private static class Owned<K, V> {
+    private final ConcurrentMap<K, V> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger count = new AtomicInteger();
+  }
+
+  /**
+   * Entries of every cache using the same owner.
+   * <p>
+   * Caches are few, so they are kept in an array which is copied when modified, and scanned when
+   * read. Slots of released caches are expunged as soon as they are seen, since they hold on to the
+   * entries of the released cache.
+   */
+  private static class Caches {
+    private volatile Slot[] slots = new Slot[0];
+
+    Owned<?, ?> get(final WeakClassCache<?, ?> cache) {
+      Owned<?, ?> result = null;
+      boolean released = false;
+
+      for (final Slot slot : slots) {
+        final WeakClassCache<?, ?> c = slot.get();
+
+        if (c == null) {
+          released = true;
+        } else if (c == cache) {
+          result = slot.owned;
+        }
+      }
+
+      if (released) {
+        expunge();
+      }
+
+      return result;
+    }
+
+    synchronized Owned<?, ?> add(final WeakClassCache<?, ?> cache, final Owned<?, ?> owned) {
+      final Owned<?, ?> existing = get(cache);
+
+      if (existing != null) {
+        return existing;
+      }
+
+      final List<Slot> next = live();
+      next.add(new Slot(cache, owned));
+      slots = next.toArray(new Slot[0]);
+      return owned;
+    }
+
+    synchronized Owned<?, ?> remove(final WeakClassCache<?, ?> cache) {
+      final Owned<?, ?> existing = get(cache);
+      final List<Slot> next = live();
+      next.removeIf(slot -> slot.get() == cache);
+      slots = next.toArray(new Slot[0]);
+      return existing;
+    }
+
+    private synchronized void expunge() {
+      slots = live().toArray(new Slot[0]);
+    }
+
+    private List<Slot> live() {
+      final List<Slot> live = new ArrayList<>();
+
+      for (final Slot slot : slots) {
+        if (slot.get() != null) {
+          live.add(slot);
+        }
+      }
+
+      return live;
+    }
+  }
+
+  private static class Slot extends WeakReference<WeakClassCache<?, ?>> {
+    private final Owned<?, ?> owned;
+
+    Slot(final WeakClassCache<?, ?> cache, final Owned<?, ?> owned) {
+      super(cache);
+      this.owned = owned;
+    }
+  }
+
+  private static class OwnerReference extends WeakReference<Class<?>> {
+    private final AtomicInteger count;
+
+    OwnerReference(
+        final Class<?> type, final AtomicInteger count, final ReferenceQueue<Class<?>> queue
+    ) {
+      super(type, queue);
+      this.count = count;
+    }
+  }
+}
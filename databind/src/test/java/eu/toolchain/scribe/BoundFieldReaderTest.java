@@ -0,0 +1,67 @@
+package eu.toolchain.scribe;
+
+import eu.toolchain.scribe.reflection.Annotations;
+import eu.toolchain.scribe.reflection.JavaType;
+import lombok.Data;
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class BoundFieldReaderTest {
+  private static final JavaType INT = JavaType.of(int.class);
+
+  @Data
+  public static class Entity {
+    private final int value;
+
+    public int fails() {
+      throw new IllegalStateException("oops");
+    }
+  }
+
+  @Test
+  public void testBind() {
+    final FieldReader reader = bind(Entity.class, "getValue").get();
+    assertThat(reader, instanceOf(BoundFieldReader.class));
+    assertThat(reader.read(Context.ROOT, new Entity(42)), is(42));
+  }
+
+  @Test
+  public void testReadPrimitive() {
+    final BoundFieldReader reader = (BoundFieldReader) bind(Entity.class, "getValue").get();
+    assertThat(reader.getPrimitiveAccessor(), instanceOf(ToIntFunction.class));
+    assertThat(reader.readInt(Context.ROOT, new Entity(42)), is(42));
+  }
+
+  @Test(expected = ContextException.class)
+  public void testReadPrimitiveError() {
+    bind(Entity.class, "fails").get().readInt(Context.ROOT, new Entity(42));
+  }
+
+  @Test(expected = ContextException.class)
+  public void testBindError() {
+    bind(Entity.class, "fails").get().read(Context.ROOT, new Entity(42));
+  }
+
+  @Test
+  public void testDetected() {
+    final FieldReader reader = GetterFieldReader
+        .forBeanGetter()
+        .detect(JavaType.of(Entity.class), "value", INT)
+        .findFirst()
+        .get()
+        .getValue();
+
+    assertThat(reader, instanceOf(BoundFieldReader.class));
+  }
+
+  private Optional<FieldReader> bind(final Class<?> type, final String name) {
+    final JavaType.Method getter = JavaType.of(type).getMethod(name).findFirst().get();
+    return BoundFieldReader.bind(getter, Annotations.empty(), INT);
+  }
+}
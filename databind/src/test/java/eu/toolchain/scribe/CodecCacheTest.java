@@ -0,0 +1,67 @@
+package eu.toolchain.scribe;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class CodecCacheTest {
+  private static final Set<Option> NONE = Collections.emptySet();
+
+  static class A {
+  }
+
+  static class B {
+  }
+
+  static class C {
+  }
+
+  @Test
+  public void testHitsAndMisses() {
+    final CodecCache cache = new CodecCache(10);
+    final Object factory = new Object();
+
+    final Object a = cache.get(CodecCache.Kind.ENCODER, factory, String.class, NONE, Object::new);
+    final Object b = cache.get(CodecCache.Kind.ENCODER, factory, String.class, NONE, Object::new);
+    final Object c = cache.get(CodecCache.Kind.DECODER, factory, String.class, NONE, Object::new);
+    final Object d = cache.get(CodecCache.Kind.ENCODER, factory, String.class,
+        Collections.singleton(DatabindOptions.OPTIONAL_EMPTY_AS_NULL), Object::new);
+
+    assertThat(b, sameInstance(a));
+    assertThat(c == a, is(false));
+    assertThat(d == a, is(false));
+    assertThat(cache.stats(), is(new CacheStats(1, 3, 0, 0, 3)));
+  }
+
+  @Test
+  public void testBounded() {
+    final CodecCache cache = new CodecCache(2);
+    final Object factory = new Object();
+
+    final Object a = cache.get(CodecCache.Kind.ENCODER, factory, A.class, NONE, Object::new);
+    cache.get(CodecCache.Kind.ENCODER, factory, B.class, NONE, Object::new);
+    cache.get(CodecCache.Kind.ENCODER, factory, C.class, NONE, Object::new);
+
+    assertThat(cache.stats(), is(new CacheStats(0, 3, 1, 0, 2)));
+
+    /* the oldest was evicted */
+    final Object again = cache.get(CodecCache.Kind.ENCODER, factory, A.class, NONE, Object::new);
+    assertThat(again == a, is(false));
+  }
+
+  @Test
+  public void testDisabled() {
+    final CodecCache cache = new CodecCache(0);
+    final Object factory = new Object();
+
+    cache.get(CodecCache.Kind.ENCODER, factory, String.class, NONE, Object::new);
+    cache.get(CodecCache.Kind.ENCODER, factory, String.class, NONE, Object::new);
+
+    assertThat(cache.stats(), is(new CacheStats(0, 2, 0, 0, 0)));
+  }
+}
@@ -0,0 +1,55 @@
+package eu.toolchain.scribe;
+
+import eu.toolchain.scribe.annotations.EntityCreator;
+import eu.toolchain.scribe.reflection.JavaType;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class CodecCompilerTest {
+  public static class Entity {
+    @EntityCreator
+    public Entity() {
+    }
+  }
+
+  @Test
+  public void testCopy() {
+    final CodecCompiler.TemplateClassLoader loader = new CodecCompiler.TemplateClassLoader();
+    final CodecCompiler.TemplateClassLoader other = new CodecCompiler.TemplateClassLoader();
+    final Class<?> a = loader.copy(CompiledEncodeField.class);
+    final Class<?> b = other.copy(CompiledEncodeField.class);
+
+    assertThat(a.getName(), is(CompiledEncodeField.class.getName()));
+    assertThat(a, not(sameInstance((Object) CompiledEncodeField.class)));
+    assertThat(a, not(sameInstance((Object) b)));
+    assertThat(a.getClassLoader(), sameInstance((Object) loader));
+    assertThat(b.getClassLoader(), sameInstance((Object) other));
+
+    /* copies are shared within a loader */
+    assertThat(loader.copy(CompiledEncodeField.class), sameInstance((Object) a));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testCompiledEntityEncoder() {
+    final Scribe scribe =
+        Scribe.nativeBuilder().option(DatabindOptions.COMPILED_CODECS).build();
+
+    final Mapping<Object> mapping = scribe.mapping(JavaType.of(Entity.class));
+    assertThat(mapping, instanceOf(DatabindClassMapping.class));
+
+    final EntityEncoder<Object, Object, Object> encoder =
+        ((DatabindClassMapping<Object>) mapping)
+            .getDeferred()
+            .newEntityEncoder(scribe, mock(EncoderFactory.class));
+
+    assertThat(encoder.getClass().getName(), is(CompiledEntityEncoder.class.getName()));
+    assertThat(encoder, not(instanceOf(CompiledEntityEncoder.class)));
+  }
+}
@@ -0,0 +1,68 @@
+package eu.toolchain.scribe;
+
+import eu.toolchain.scribe.reflection.JavaType;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class LazyCodecTest {
+  private static final JavaType A = JavaType.of(String.class);
+  private static final JavaType B = JavaType.of(Integer.class);
+
+  private final Object factory = new Object();
+  private final AtomicInteger builds = new AtomicInteger();
+
+  @Test
+  public void testMaterializeNotLazyRoot() {
+    final List<LazyCodec<?>> created = new ArrayList<>();
+
+    final Object root = LazyCodec.buildRoot(() -> {
+      created.add(lazy(A));
+      created.add(lazy(A));
+      created.add(lazy(B));
+      return new Object();
+    });
+
+    LazyCodec.materialize(root);
+
+    for (final LazyCodec<?> c : created) {
+      assertThat(c.isMaterialized(), is(true));
+    }
+
+    /* instances of the same type share the built codec */
+    assertThat(builds.get(), is(2));
+  }
+
+  @Test
+  public void testMaterializeCircular() {
+    final List<LazyCodec<?>> created = new ArrayList<>();
+    final LazyCodec<?> root = circular(created);
+
+    LazyCodec.materialize(root);
+
+    assertThat(root.isMaterialized(), is(true));
+    assertThat(created.size(), is(1));
+    assertThat(created.get(0).isMaterialized(), is(true));
+    assertThat(builds.get(), is(1));
+  }
+
+  private LazyCodec<?> lazy(final JavaType type) {
+    return new LazyCodec.LazyEntityDecoder<>(type, factory, () -> {
+      builds.incrementAndGet();
+      return null;
+    });
+  }
+
+  private LazyCodec<?> circular(final List<LazyCodec<?>> created) {
+    return new LazyCodec.LazyEntityDecoder<>(A, factory, () -> {
+      builds.incrementAndGet();
+      created.add(circular(created));
+      return null;
+    });
+  }
+}
@@ -0,0 +1,53 @@
+package eu.toolchain.scribe;
+
+import eu.toolchain.scribe.reflection.Annotations;
+import eu.toolchain.scribe.reflection.JavaType;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MappingCacheTest {
+  private static final Scribe.EntityKey OUTER =
+      new Scribe.EntityKey(JavaType.of(String.class), Annotations.empty());
+  private static final Scribe.EntityKey INNER =
+      new Scribe.EntityKey(JavaType.of(Integer.class), Annotations.empty());
+
+  private final EntityResolver resolver = Scribe.nativeBuilder().build();
+  private final MappingCache cache = new MappingCache(Long.MAX_VALUE);
+  private final AtomicInteger attempts = new AtomicInteger();
+
+  @Test
+  public void testFailureRetriedInSession() {
+    cache.mapping(OUTER, this::create, resolver, Instrumentation.NONE);
+
+    assertThat(attempts.get(), is(2));
+    assertThat(cache.stats().getSize(), is(2L));
+
+    cache.mapping(OUTER, this::create, resolver, Instrumentation.NONE);
+    assertThat(cache.stats().getHits(), is(1L));
+  }
+
+  private Mapping<Object> create(final Scribe.EntityKey key) {
+    if (key.equals(INNER)) {
+      if (attempts.getAndIncrement() == 0) {
+        throw new IllegalStateException("first attempt fails");
+      }
+
+      return new EncodedMapping<>(key.getType());
+    }
+
+    return new EncodedMapping<Object>(key.getType()) {
+      @Override
+      public void postCacheInitialize(final EntityResolver resolver) {
+        try {
+          cache.mapping(INNER, MappingCacheTest.this::create, resolver, Instrumentation.NONE);
+        } catch (final IllegalStateException e) {
+          cache.mapping(INNER, MappingCacheTest.this::create, resolver, Instrumentation.NONE);
+        }
+      }
+    };
+  }
+}
@@ -0,0 +1,158 @@
+package eu.toolchain.scribe;
+
+import eu.toolchain.scribe.annotations.EntityCreator;
+import eu.toolchain.scribe.annotations.EntitySubTypes;
+import eu.toolchain.scribe.annotations.Property;
+import eu.toolchain.scribe.reflection.JavaType;
+import lombok.Data;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MappingSnapshotTest {
+  @EntitySubTypes({@EntitySubTypes.Type(Person.class)})
+  public interface Entity {
+  }
+
+  @Data
+  public static class Person implements Entity {
+    private final String name;
+    private final int age;
+
+    @EntityCreator
+    public Person(@Property("name") final String name, @Property("age") final int age) {
+      this.name = name;
+      this.age = age;
+    }
+  }
+
+  @Test
+  public void testRoundTrip() throws Exception {
+    final Scribe original = Scribe.nativeBuilder().build();
+    original.mapping(Entity.class);
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    MappingSnapshot.of(original).write(out);
+
+    final MappingSnapshot snapshot = MappingSnapshot.read(
+        new ByteArrayInputStream(out.toByteArray()), getClass().getClassLoader());
+
+    assertThat(snapshot.getEntries().size(), is(2));
+
+    final Scribe restored = Scribe.nativeBuilder().install(snapshot).build();
+
+    final MethodClassEncoding<?> detected = methodEncoding(original);
+    final MethodClassEncoding<?> fromSnapshot = methodEncoding(restored);
+
+    assertThat(fromSnapshot.getClassInstanceBuilder(),
+        instanceOf(GeneratedClassEncoding.Creator.class));
+    assertThat(fromSnapshot.getClassInstanceBuilder().getFields(),
+        is(detected.getClassInstanceBuilder().getFields()));
+    assertThat(names(fromSnapshot), is(names(detected)));
+
+    final DatabindClassMapping<?> abstractMapping =
+        (DatabindClassMapping<?>) restored.mapping(Entity.class);
+    assertThat(abstractMapping.getDeferred(), instanceOf(AbstractClassEncoding.class));
+  }
+
+  @Test
+  public void testFingerprintMismatch() {
+    final MappingSnapshot snapshot = new MappingSnapshot(Collections.singletonList(
+        new MappingSnapshot.CreatorEntry(Person.class.getName(), 0L, true, "<init>",
+            Collections.emptyList(), Collections.emptyList())),
+        Scribe.nativeBuilder().build().configurationFingerprint(), getClass().getClassLoader());
+
+    final Scribe scribe = Scribe.nativeBuilder().install(snapshot).build();
+
+    // falls back to detection, which would otherwise fail since the entry is bogus.
+    assertThat(methodEncoding(scribe).getClassInstanceBuilder(),
+        instanceOf(ConstructorClassInstanceBuilder.class));
+  }
+
+  @Test
+  public void testSubTypeFingerprint() {
+    /* an entry fingerprinted without its sub-types, as if they changed */
+    final MappingSnapshot snapshot = new MappingSnapshot(Collections.singletonList(
+        new MappingSnapshot.AbstractEntry(Entity.class.getName(),
+            MappingSnapshot.fingerprint(Entity.class),
+            Collections.singletonList(Person.class.getName()),
+            Collections.singletonList(Optional.of("bogus")))),
+        Scribe.nativeBuilder().build().configurationFingerprint(), getClass().getClassLoader());
+
+    final Scribe scribe = Scribe.nativeBuilder().install(snapshot).build();
+    final DatabindClassMapping<?> m = (DatabindClassMapping<?>) scribe.mapping(Entity.class);
+    final AbstractClassEncoding<?> encoding = (AbstractClassEncoding<?>) m.getDeferred();
+
+    assertThat(encoding.getSubTypes().get(0).getName(), is(not(Optional.of("bogus"))));
+  }
+
+  @Test
+  public void testModuleVersion() {
+    final Module versioned = new Module() {
+      @Override
+      public void register(final ScribeBuilder builder) {
+      }
+
+      @Override
+      public String version() {
+        return "2";
+      }
+    };
+
+    final long plain = Scribe.nativeBuilder().build().configurationFingerprint();
+    final Scribe scribe = Scribe.nativeBuilder().install(versioned).build();
+
+    assertThat(scribe.configurationFingerprint(), is(not(plain)));
+    assertThat(scribe.toBuilder().build().configurationFingerprint(),
+        is(scribe.configurationFingerprint()));
+  }
+
+  @Test
+  public void testConfigurationMismatch() {
+    final Scribe original = Scribe.nativeBuilder().build();
+    original.mapping(Person.class);
+
+    final MappingSnapshot snapshot = MappingSnapshot.of(original);
+    assertThat(snapshot.getEntries().size(), is(1));
+
+    final Scribe matching = Scribe.nativeBuilder().install(snapshot).build();
+    assertThat(methodEncoding(matching).getClassInstanceBuilder(),
+        instanceOf(GeneratedClassEncoding.Creator.class));
+
+    final Scribe other = Scribe
+        .nativeBuilder()
+        .option(DatabindOptions.OPTIONAL_EMPTY_AS_NULL)
+        .install(snapshot)
+        .build();
+    assertThat(methodEncoding(other).getClassInstanceBuilder(),
+        instanceOf(ConstructorClassInstanceBuilder.class));
+
+    /* derived resolvers share the configuration they were derived from */
+    assertThat(matching.withOptions(DatabindOptions.OPTIONAL_EMPTY_AS_NULL)
+        .configurationFingerprint(), is(matching.configurationFingerprint()));
+  }
+
+  private MethodClassEncoding<?> methodEncoding(final Scribe scribe) {
+    final DatabindClassMapping<?> m =
+        (DatabindClassMapping<?>) scribe.mapping(JavaType.of(Person.class));
+    return (MethodClassEncoding<?>) m.getDeferred();
+  }
+
+  private List<String> names(final MethodClassEncoding<?> encoding) {
+    return encoding
+        .getFields()
+        .stream()
+        .map(DefaultEntityFieldMapping::getName)
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,51 @@
+package eu.toolchain.scribe;
+
+import eu.toolchain.scribe.annotations.EntitySubTypes;
+import eu.toolchain.scribe.annotations.EntityTypeName;
+import lombok.Data;
+import lombok.experimental.Builder;
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ReachabilityMetadataTest {
+  @EntitySubTypes({@EntitySubTypes.Type(Shape.Circle.class)})
+  public interface Shape {
+    @Data
+    @EntityTypeName("circle")
+    class Circle implements Shape {
+      private final double radius;
+    }
+  }
+
+  @Data
+  @Builder
+  public static class Drawing {
+    private final List<Shape> shapes;
+    private final Optional<String> title;
+  }
+
+  @Test
+  public void testForTypes() throws Exception {
+    final ReachabilityMetadata metadata = ReachabilityMetadata.forTypes(
+        Scribe.nativeBuilder().build(), Collections.singletonList(Drawing.class));
+
+    assertThat(metadata.getClasses(),
+        is(Arrays.asList(Drawing.class, Drawing.DrawingBuilder.class, Shape.class,
+            Shape.Circle.class)));
+
+    final StringWriter writer = new StringWriter();
+    metadata.write(writer);
+
+    assertThat(writer.toString(), containsString(
+        "{\"name\": \"" + Drawing.class.getName() + "\", \"allDeclaredConstructors\": true"));
+  }
+}
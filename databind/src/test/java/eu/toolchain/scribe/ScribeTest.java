@@ -2,15 +2,27 @@ package eu.toolchain.scribe;
 
 import eu.toolchain.scribe.annotations.EntityCreator;
 import eu.toolchain.scribe.annotations.Property;
+import eu.toolchain.scribe.reflection.Annotations;
 import eu.toolchain.scribe.reflection.JavaType;
 import lombok.Data;
 import lombok.experimental.Builder;
 import org.junit.Test;
 
 import java.beans.ConstructorProperties;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 public class ScribeTest {
@@ -42,6 +54,50 @@ public class ScribeTest {
     }
   }
 
+  @Test
+  public void testWithOptionsSharesMappings() {
+    final Scribe derived = mapper.withOptions(DatabindOptions.OPTIONAL_EMPTY_AS_NULL);
+
+    assertThat(derived.mapping(BuilderTest.class),
+        sameInstance(mapper.mapping(BuilderTest.class)));
+  }
+
+  @Data
+  public static class AnnotatedFields {
+    @Property("a")
+    private final String a;
+    @Property("b")
+    private final String b;
+  }
+
+  @Test
+  public void testIrrelevantAnnotationsShareMappings() throws Exception {
+    final Annotations a =
+        Annotations.of(AnnotatedFields.class.getDeclaredField("a").getAnnotations());
+    final Annotations b =
+        Annotations.of(AnnotatedFields.class.getDeclaredField("b").getAnnotations());
+    final JavaType string = JavaType.of(String.class);
+
+    assertThat(mapper.mapping(string, a), sameInstance(mapper.mapping(string, b)));
+    assertThat(mapper.mapping(string, a), sameInstance(mapper.mapping(string)));
+  }
+
+  @Test
+  public void testRelevantAnnotationsSeparateMappings() throws Exception {
+    final Scribe scribe = Scribe
+        .nativeBuilder()
+        .typeAlias((type, annotations) -> Stream.<TypeAlias<Object, Object>>empty())
+        .build();
+
+    final Annotations a =
+        Annotations.of(AnnotatedFields.class.getDeclaredField("a").getAnnotations());
+    final Annotations b =
+        Annotations.of(AnnotatedFields.class.getDeclaredField("b").getAnnotations());
+    final JavaType string = JavaType.of(String.class);
+
+    assertThat(scribe.mapping(string, a) == scribe.mapping(string, b), is(false));
+  }
+
   @Test
   public void testEntityCreator() {
     final ClassMapping<EntityCreatorTest> a =
@@ -106,4 +162,135 @@ public class ScribeTest {
     assertThat(mapper.mapping(ConstructorPropertiesPropertyOverride.class),
         instanceOf(DatabindClassMapping.class));
   }
+
+  @Data
+  public static class CircularA {
+    private final CircularB b;
+
+    @EntityCreator
+    public CircularA(@Property("b") final CircularB b) {
+      this.b = b;
+    }
+  }
+
+  @Data
+  public static class CircularB {
+    private final CircularA a;
+
+    @EntityCreator
+    public CircularB(@Property("a") final CircularA a) {
+      this.a = a;
+    }
+  }
+
+  @Test
+  public void testInstrumentation() {
+    final RecordingInstrumentation instrumentation = new RecordingInstrumentation();
+    final Scribe scribe = Scribe.nativeBuilder().instrumentation(instrumentation).build();
+
+    scribe.mapping(CircularA.class);
+    scribe.mapping(CircularA.class);
+
+    final InstrumentationSnapshot snapshot = instrumentation.snapshot();
+    final JavaType a = JavaType.of(CircularA.class);
+    final JavaType b = JavaType.of(CircularB.class);
+
+    assertThat(snapshot.getCacheHits(), is(1L));
+    assertThat(snapshot.getCacheMisses(), is(2L));
+    assertThat(snapshot.getMappingsResolved(), is(2));
+    assertThat(snapshot.getDetectors().get(Instrumentation.Detector.CLASS_ENCODING).getCount(),
+        is(2L));
+    assertThat(snapshot.triggeredBy(a),
+        is(Collections.singletonList(new InstrumentationSnapshot.Resolution(b, Optional.of(a),
+            snapshot.triggeredBy(a).get(0).getNanos()))));
+  }
+
+  public static class Unmappable {
+    public Unmappable(final String a, final String b) {
+    }
+  }
+
+  @Data
+  public static class PartlyUnmappable {
+    private final EntityCreatorTest independent;
+    private final Dependent dependent;
+    private final Unmappable unmappable;
+
+    @EntityCreator
+    public PartlyUnmappable(
+        @Property("independent") final EntityCreatorTest independent,
+        @Property("dependent") final Dependent dependent,
+        @Property("unmappable") final Unmappable unmappable
+    ) {
+      this.independent = independent;
+      this.dependent = dependent;
+      this.unmappable = unmappable;
+    }
+  }
+
+  @Data
+  public static class Dependent {
+    private final PartlyUnmappable parent;
+
+    @EntityCreator
+    public Dependent(@Property("parent") final PartlyUnmappable parent) {
+      this.parent = parent;
+    }
+  }
+
+  @Test
+  public void testFailureOnlyFailsDependents() {
+    final Scribe scribe = Scribe.nativeBuilder().build();
+
+    assertThrows(() -> scribe.mapping(PartlyUnmappable.class));
+
+    /* resolved before the failure, without referring to the failed mapping */
+    final long hits = scribe.mappingCacheStats().getHits();
+    scribe.mapping(EntityCreatorTest.class);
+    assertThat(scribe.mappingCacheStats().getHits(), is(hits + 1));
+
+    /* resolved before the failure, but refers to the failed mapping */
+    assertThrows(() -> scribe.mapping(Dependent.class));
+  }
+
+  private void assertThrows(final Runnable runnable) {
+    try {
+      runnable.run();
+    } catch (final RuntimeException e) {
+      return;
+    }
+
+    throw new AssertionError("Expected exception");
+  }
+
+  @Test
+  public void testConcurrentCircular() throws Exception {
+    final int threads = 4;
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+    try {
+      for (int attempt = 0; attempt < 20; attempt++) {
+        final Scribe scribe = Scribe.nativeBuilder().build();
+        final CyclicBarrier barrier = new CyclicBarrier(threads);
+        final List<Future<Mapping<Object>>> futures = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+          final Class<?> type = i % 2 == 0 ? CircularA.class : CircularB.class;
+
+          futures.add(executor.submit(() -> {
+            barrier.await();
+            return scribe.mapping(JavaType.of(type));
+          }));
+        }
+
+        for (int i = 0; i < threads; i++) {
+          final DatabindClassMapping<?> m = (DatabindClassMapping<?>) futures.get(i).get();
+          assertThat(m.getDeferred(), notNullValue());
+          assertThat(m, sameInstance(futures.get(i % 2).get()));
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
 }
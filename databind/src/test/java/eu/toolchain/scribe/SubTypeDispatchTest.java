@@ -0,0 +1,98 @@
+package eu.toolchain.scribe;
+
+import eu.toolchain.scribe.reflection.JavaType;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class SubTypeDispatchTest {
+  interface Base {
+  }
+
+  static class A implements Base {
+  }
+
+  static class B implements Base {
+  }
+
+  static class C implements Base {
+  }
+
+  static class SubA extends A {
+  }
+
+  static class D implements Base {
+  }
+
+  private SubTypeDispatch<String> dispatch() {
+    final Map<JavaType, String> byType = new HashMap<>();
+    byType.put(JavaType.of(A.class), "a");
+    byType.put(JavaType.of(B.class), "b");
+    byType.put(JavaType.of(C.class), "c");
+    return new SubTypeDispatch<>(byType);
+  }
+
+  @Test
+  public void testDispatch() {
+    final SubTypeDispatch<String> dispatch = dispatch();
+
+    // exercise both inline slots and the fallback, twice each
+    for (int i = 0; i < 2; i++) {
+      assertThat(dispatch.get(A.class), is("a"));
+      assertThat(dispatch.get(B.class), is("b"));
+      assertThat(dispatch.get(C.class), is("c"));
+    }
+  }
+
+  @Test
+  public void testSubclass() {
+    assertThat(dispatch().get(SubA.class), is("a"));
+  }
+
+  @Test
+  public void testMissing() {
+    final SubTypeDispatch<String> dispatch = dispatch();
+    assertThat(dispatch.get(D.class), nullValue());
+    assertThat(dispatch.get(A.class), is("a"));
+  }
+
+  @Test
+  public void testReleased() throws Exception {
+    final WeakReference<SubTypeDispatch<?>> dispatch = referencedByEntries();
+
+    for (int i = 0; i < 50 && dispatch.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+
+    assertThat(dispatch.get(), nullValue());
+  }
+
+  /**
+   * Build a dispatcher with entries that refer back to it, like encoders do, and resolve a class
+   * which doesn't fit in the inline slots.
+   */
+  private WeakReference<SubTypeDispatch<?>> referencedByEntries() {
+    final List<Object> entry = new ArrayList<>();
+    final Map<JavaType, List<Object>> byType = new HashMap<>();
+    byType.put(JavaType.of(A.class), entry);
+    byType.put(JavaType.of(B.class), entry);
+    byType.put(JavaType.of(C.class), entry);
+
+    final SubTypeDispatch<List<Object>> dispatch = new SubTypeDispatch<>(byType);
+    entry.add(dispatch);
+
+    dispatch.get(A.class);
+    dispatch.get(B.class);
+    assertThat(dispatch.get(C.class), is(entry));
+    return new WeakReference<>(dispatch);
+  }
+}
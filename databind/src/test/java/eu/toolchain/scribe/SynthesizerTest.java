@@ -0,0 +1,67 @@
+package eu.toolchain.scribe;
+
+import lombok.Data;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+
+public class SynthesizerTest {
+  private final Synthesizer synthesizer = new Synthesizer(Scribe.nativeBuilder().build());
+
+  @Data
+  public static class Node {
+    private final String name;
+    private final List<Node> children;
+    private final Optional<Node> next;
+  }
+
+  @Test
+  public void testCircular() {
+    final Synthesizer.Synthesized synthesized = synthesizer.synthesize(Node.class);
+
+    assertThat(synthesized.getBranches(), hasItems("next: present", "next: absent"));
+    assertThat(synthesized.getInstances().size(), is(2));
+    assertThat(((Node) synthesized.getInstances().get(0)).getNext().isPresent(), is(true));
+  }
+
+  @Test
+  public void testUnsupported() {
+    assertThat(synthesizer.synthesize(int[].class).getInstances(), is(empty()));
+  }
+
+  @Data
+  public static class Leaves {
+    private final Optional<int[]> array;
+    private final List<int[]> arrays;
+    private final Map<Integer, String> keyed;
+  }
+
+  @Test
+  public void testUnsupportedLeaves() {
+    final Synthesizer.Synthesized synthesized = synthesizer.synthesize(Leaves.class);
+    final Leaves leaves = (Leaves) synthesized.getInstances().get(0);
+
+    assertThat(leaves.getArray(), is(Optional.empty()));
+    assertThat(leaves.getArrays(), is(empty()));
+    assertThat(leaves.getKeyed(), is(Collections.singletonMap(0, "AAAA")));
+  }
+
+  @Data
+  public static class RequiredLeaf {
+    private final String name;
+    private final int[] array;
+  }
+
+  @Test
+  public void testUnsupportedRequiredLeaf() {
+    assertThat(synthesizer.synthesize(RequiredLeaf.class).getInstances(), is(empty()));
+  }
+}
@@ -0,0 +1,168 @@
+package eu.toolchain.scribe;
+
+import eu.toolchain.scribe.reflection.JavaType;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class WeakClassCacheTest {
+  public static class Unloadable {
+  }
+
+  @Test
+  public void testOwner() throws Exception {
+    final Class<?> isolated = new Isolated().define(Unloadable.class);
+
+    assertThat(owner(JavaType.of(String.class)), is((Object) WeakClassCache.class));
+    assertThat(owner(JavaType.of(Unloadable.class)), is((Object) Unloadable.class));
+    assertThat(owner(JavaType.of(new TypeReference<List<Unloadable>>() {
+    })), is((Object) Unloadable.class));
+    assertThat(WeakClassCache.owner(WeakClassCache.ownerOf(listOf(isolated), null)),
+        is((Object) isolated));
+  }
+
+  @Test
+  public void testUnloaded() throws Exception {
+    final WeakClassCache<Class<?>, Object> cache =
+        new WeakClassCache<>(Long.MAX_VALUE);
+
+    final WeakReference<ClassLoader> loader = putIsolated(cache);
+    assertThat(cache.size(), is(1L));
+
+    for (int i = 0; i < 50 && loader.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+
+    assertThat(loader.get(), is(nullValue()));
+
+    /* unloaded entries are expunged when putting */
+    cache.putIfAbsent(WeakClassCache.owner(String.class), String.class, new Object());
+    assertThat(cache.unloaded(), is(1L));
+    assertThat(cache.size(), is(1L));
+  }
+
+  @Test
+  public void testConcurrentEviction() throws Exception {
+    final WeakClassCache<Integer, Object> cache = new WeakClassCache<>(4);
+    final Class<?> owner = WeakClassCache.owner(Integer.class);
+    final AtomicInteger keys = new AtomicInteger();
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+
+      for (int t = 0; t < 8; t++) {
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < 20000; i++) {
+            cache.putIfAbsent(owner, keys.incrementAndGet(), new Object());
+          }
+        }));
+      }
+
+      for (final Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    /* every counted entry must be reachable */
+    assertThat(cache.size(), is((long) cache.values().size()));
+  }
+
+  @Test
+  public void testReleasedCacheExpungedOnRead() throws Exception {
+    final Class<?> owner = new Isolated().define(Unloadable.class);
+    final WeakReference<Object> value = putReleased(owner);
+
+    final WeakClassCache<Class<?>, Object> other = new WeakClassCache<>(Long.MAX_VALUE);
+
+    for (int i = 0; i < 50 && value.get() != null; i++) {
+      System.gc();
+      other.get(owner, owner);
+      Thread.sleep(10);
+    }
+
+    assertThat(value.get(), is(nullValue()));
+  }
+
+  private WeakReference<Object> putReleased(final Class<?> owner) {
+    final WeakClassCache<Class<?>, Object> cache = new WeakClassCache<>(Long.MAX_VALUE);
+    final Object value = new Object();
+    cache.putIfAbsent(owner, owner, value);
+    return new WeakReference<>(value);
+  }
+
+  private WeakReference<ClassLoader> putIsolated(final WeakClassCache<Class<?>, Object> cache)
+      throws IOException {
+    final Isolated loader = new Isolated();
+    final Class<?> type = loader.define(Unloadable.class);
+    cache.putIfAbsent(type, type, new Object());
+    return new WeakReference<>(loader);
+  }
+
+  private ParameterizedType listOf(final Class<?> argument) {
+    return new ParameterizedType() {
+      @Override
+      public Type[] getActualTypeArguments() {
+        return new Type[]{argument};
+      }
+
+      @Override
+      public Type getRawType() {
+        return List.class;
+      }
+
+      @Override
+      public Type getOwnerType() {
+        return null;
+      }
+    };
+  }
+
+  private Object owner(final JavaType type) {
+    return WeakClassCache.owner(WeakClassCache.ownerOf(type, null));
+  }
+
+  /**
+   * Defines a copy of a class in its own class loader.
+   */
+  static class Isolated extends ClassLoader {
+    Isolated() {
+      super(WeakClassCacheTest.class.getClassLoader());
+    }
+
+    Class<?> define(final Class<?> type) throws IOException {
+      final String resource = type.getName().replace('.', '/') + ".class";
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+      try (final InputStream in = getParent().getResourceAsStream(resource)) {
+        final byte[] buffer = new byte[4096];
+        int read;
+
+        while ((read = in.read(buffer)) != -1) {
+          out.write(buffer, 0, read);
+        }
+      }
+
+      final byte[] bytes = out.toByteArray();
+      return defineClass(type.getName(), bytes, 0, bytes.length);
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package eu.toolchain.scribe.processor;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Writes the source of generated encodings and modules.
+ */
+final class EncodingWriter {
+  private EncodingWriter() {
+  }
+
+  static String encoding(final ProcessedEntity entity) {
+    final StringBuilder out = new StringBuilder();
+
+    packageDeclaration(out, entity.getPackageName());
+
+    out.append(ScribeProcessor.GENERATED).append("\n");
+    out.append("public final class ").append(entity.getEncodingName()).append(" {\n");
+    out
+        .append("  public static final eu.toolchain.scribe.reflection.JavaType TYPE =\n")
+        .append("      eu.toolchain.scribe.reflection.JavaType.of(")
+        .append(entity.getTypeName())
+        .append(".class);\n\n");
+
+    out.append("  private ").append(entity.getEncodingName()).append("() {\n");
+    out.append("  }\n\n");
+
+    out.append("  @SuppressWarnings(\"unchecked\")\n");
+    out.append("  public static eu.toolchain.scribe.ClassEncoding<Object> classEncoding(\n");
+    out.append("      final eu.toolchain.scribe.EntityResolver resolver\n");
+    out.append("  ) {\n");
+    out.append("    return eu.toolchain.scribe.GeneratedClassEncoding\n");
+    out.append("        .builder(resolver, TYPE)\n");
+
+    for (final ProcessedEntity.Field field : entity.getFields()) {
+      out
+          .append("        .field(\"")
+          .append(field.getName())
+          .append("\", ")
+          .append(field.getJavaType())
+          .append(", ")
+          .append(field.isAnnotated())
+          .append(",\n            instance -> ((")
+          .append(entity.getTypeName())
+          .append(") instance).")
+          .append(field.getGetter())
+          .append("())\n");
+    }
+
+    final StringJoiner arguments = new StringJoiner(", ", "(", ")");
+
+    int index = 0;
+
+    for (final ProcessedEntity.Field field : entity.getFields()) {
+      arguments.add("(" + field.getCastType() + ") arguments[" + (index++) + "]");
+    }
+
+    out
+        .append("        .build(arguments -> ")
+        .append(entity.getCreator())
+        .append(arguments.toString())
+        .append(");\n");
+
+    out.append("  }\n");
+    out.append("}\n");
+    return out.toString();
+  }
+
+  static String module(final String packageName, final List<ProcessedEntity> entities) {
+    final StringBuilder out = new StringBuilder();
+
+    packageDeclaration(out, packageName);
+
+    out.append(ScribeProcessor.GENERATED).append("\n");
+    out
+        .append("public class ")
+        .append(ScribeProcessor.MODULE_NAME)
+        .append(" implements eu.toolchain.scribe.Module {\n");
+    out.append("  @Override\n");
+    out.append("  public void register(final eu.toolchain.scribe.ScribeBuilder b) {\n");
+
+    for (final ProcessedEntity entity : entities) {
+      out
+          .append("    b.classEncoding(")
+          .append(entity.getEncodingName())
+          .append(".TYPE, ")
+          .append(entity.getEncodingName())
+          .append("::classEncoding);\n");
+    }
+
+    out.append("  }\n");
+    out.append("}\n");
+    return out.toString();
+  }
+
+  private static void packageDeclaration(final StringBuilder out, final String packageName) {
+    if (!packageName.isEmpty()) {
+      out.append("package ").append(packageName).append(";\n\n");
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package eu.toolchain.scribe.processor;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * An entity for which a class encoding will be generated.
+ */
+@Data
+class ProcessedEntity {
+  /**
+   * Package of the entity, and the generated encoding.
+   */
+  private final String packageName;
+  /**
+   * Canonical name of the entity type.
+   */
+  private final String typeName;
+  /**
+   * Simple name of the generated encoding.
+   */
+  private final String encodingName;
+  /**
+   * Expression invoking the creator, to which arguments are appended.
+   */
+  private final String creator;
+  private final List<Field> fields;
+
+  public String getQualifiedEncodingName() {
+    if (packageName.isEmpty()) {
+      return encodingName;
+    }
+
+    return packageName + "." + encodingName;
+  }
+
+  @Data
+  static class Field {
+    /**
+     * Name of the field, as declared by the creator.
+     */
+    private final String name;
+    /**
+     * Expression producing a JavaType for the field.
+     */
+    private final String javaType;
+    /**
+     * Source representation of the field type, used for casting.
+     */
+    private final String castType;
+    /**
+     * Name of the getter method.
+     */
+    private final String getter;
+    /**
+     * If the declared field has runtime annotations.
+     */
+    private final boolean annotated;
+  }
+}
@@ -0,0 +1,497 @@
+package eu.toolchain.scribe.processor;
+
+import eu.toolchain.scribe.annotations.EntityCreator;
+import eu.toolchain.scribe.annotations.FieldGetter;
+import eu.toolchain.scribe.annotations.Property;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.beans.ConstructorProperties;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Generates class encodings for entities at compile time.
+ * <p>
+ * For every type with a public constructor annotated with {@link EntityCreator} or
+ * {@link ConstructorProperties}, or a public static method annotated with {@link EntityCreator},
+ * a {@code <Type>_ScribeEncoding} class is generated that reads fields and builds instances
+ * through direct calls. Every package with generated encodings also gets a {@code
+ * ScribeGeneratedModule} which registers them, and should be installed after the modules that
+ * handle the annotations used by the entities.
+ * <p>
+ * Types which can't be faithfully represented without reflection are left for runtime detection.
+ */
+@SupportedAnnotationTypes({
+    "eu.toolchain.scribe.annotations.EntityCreator", "java.beans.ConstructorProperties"
+})
+public class ScribeProcessor extends AbstractProcessor {
+  public static final String ENCODING_SUFFIX = "_ScribeEncoding";
+  public static final String MODULE_NAME = "ScribeGeneratedModule";
+
+  static final String GENERATED = "@javax.annotation.Generated(\"" +
+      ScribeProcessor.class.getCanonicalName() + "\")";
+
+  /**
+   * Annotations which are only used for detection, and are safe to ignore on generated entities.
+   */
+  private static final Set<String> DETECTION_ANNOTATIONS = Collections.unmodifiableSet(
+      new HashSet<>(Arrays.asList(EntityCreator.class.getCanonicalName(),
+          ConstructorProperties.class.getCanonicalName(), Property.class.getCanonicalName(),
+          FieldGetter.class.getCanonicalName())));
+
+  private final Set<String> processed = new HashSet<>();
+  private final Map<String, List<ProcessedEntity>> modules = new TreeMap<>();
+  /* packages whose module has been written, which can't be written again */
+  private final Set<String> written = new HashSet<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(
+      final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv
+  ) {
+    if (roundEnv.processingOver()) {
+      writeModules();
+      return false;
+    }
+
+    final Set<TypeElement> types = new LinkedHashSet<>();
+
+    for (final TypeElement annotation : annotations) {
+      for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+        final Element enclosing = element.getEnclosingElement();
+
+        if (enclosing instanceof TypeElement) {
+          types.add((TypeElement) enclosing);
+        }
+      }
+    }
+
+    for (final TypeElement type : types) {
+      if (!processed.add(type.getQualifiedName().toString())) {
+        continue;
+      }
+
+      final ProcessedEntity entity;
+
+      try {
+        entity = analyze(type);
+      } catch (final Unsupported e) {
+        processingEnv
+            .getMessager()
+            .printMessage(Diagnostic.Kind.NOTE,
+                "Not generating encoding for " + type + ": " + e.getMessage(), type);
+        continue;
+      }
+
+      if (written.contains(entity.getPackageName())) {
+        processingEnv
+            .getMessager()
+            .printMessage(Diagnostic.Kind.WARNING,
+                "Not generating encoding for " + type + ": it appeared after the module of its " +
+                    "package was written in an earlier round, it will be detected at runtime " +
+                    "instead", type);
+        continue;
+      }
+
+      writeEncoding(entity, type);
+      modules.computeIfAbsent(entity.getPackageName(), k -> new ArrayList<>()).add(entity);
+    }
+
+    /* modules are written once a round settles without new entities, so that they are compiled
+     * in a regular round. Entities which only appear in later rounds, because another processor
+     * generated them, are left to detection at runtime */
+    if (types.isEmpty()) {
+      writeModules();
+    }
+
+    return false;
+  }
+
+  ProcessedEntity analyze(final TypeElement type) throws Unsupported {
+    if (type.getKind() != ElementKind.CLASS) {
+      throw new Unsupported("not a class");
+    }
+
+    if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+      throw new Unsupported("abstract");
+    }
+
+    if (!type.getTypeParameters().isEmpty()) {
+      throw new Unsupported("generic");
+    }
+
+    final List<String> names = new ArrayList<>();
+
+    Element current = type;
+
+    while (current instanceof TypeElement) {
+      final Set<Modifier> modifiers = current.getModifiers();
+
+      if (!modifiers.contains(Modifier.PUBLIC)) {
+        throw new Unsupported("not publicly accessible");
+      }
+
+      if (current.getEnclosingElement() instanceof TypeElement &&
+          !modifiers.contains(Modifier.STATIC)) {
+        throw new Unsupported("inner class");
+      }
+
+      names.add(0, current.getSimpleName().toString());
+      current = current.getEnclosingElement();
+    }
+
+    if (!(current instanceof PackageElement)) {
+      throw new Unsupported("local class");
+    }
+
+    final String packageName = ((PackageElement) current).getQualifiedName().toString();
+    final String typeName = type.getQualifiedName().toString();
+
+    final List<ExecutableElement> methods = ElementFilter.methodsIn(type.getEnclosedElements());
+
+    for (final ExecutableElement m : methods) {
+      if (m.getModifiers().contains(Modifier.STATIC) &&
+          m.getSimpleName().contentEquals("builder")) {
+        throw new Unsupported("has a static builder method");
+      }
+    }
+
+    final ExecutableElement creator = findCreator(type, methods);
+
+    if (!creator.getThrownTypes().isEmpty()) {
+      throw new Unsupported("creator (" + creator + ") throws checked exceptions");
+    }
+
+    verifyAnnotations(creator);
+
+    final List<String> fieldNames = fieldNames(creator);
+
+    final List<ProcessedEntity.Field> fields = new ArrayList<>();
+
+    int index = 0;
+
+    for (final VariableElement parameter : creator.getParameters()) {
+      verifyAnnotations(parameter);
+
+      final String name = fieldNames.get(index++);
+      final TypeMirror fieldType = parameter.asType();
+
+      if (containsTypeVariable(fieldType)) {
+        throw new Unsupported("field (" + name + ") has a type variable");
+      }
+
+      final ExecutableElement getter = findGetter(methods, name, fieldType);
+
+      final boolean annotated = ElementFilter
+          .fieldsIn(type.getEnclosedElements())
+          .stream()
+          .filter(f -> f.getSimpleName().contentEquals(name))
+          .anyMatch(f -> !runtimeAnnotations(f).isEmpty());
+
+      fields.add(new ProcessedEntity.Field(name, javaType(fieldType), fieldType.toString(),
+          getter.getSimpleName().toString(), annotated));
+    }
+
+    final String creatorCall;
+
+    if (creator.getKind() == ElementKind.CONSTRUCTOR) {
+      creatorCall = "new " + typeName;
+    } else {
+      creatorCall = typeName + "." + creator.getSimpleName();
+    }
+
+    final String encodingName = String.join("_", names) + ENCODING_SUFFIX;
+
+    return new ProcessedEntity(packageName, typeName, encodingName, creatorCall,
+        Collections.unmodifiableList(fields));
+  }
+
+  private ExecutableElement findCreator(
+      final TypeElement type, final List<ExecutableElement> methods
+  ) throws Unsupported {
+    final List<ExecutableElement> creators = new ArrayList<>();
+
+    for (final ExecutableElement c : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+      if (!c.getModifiers().contains(Modifier.PUBLIC)) {
+        continue;
+      }
+
+      if (c.getAnnotation(EntityCreator.class) != null) {
+        creators.add(c);
+      }
+
+      if (c.getAnnotation(ConstructorProperties.class) != null) {
+        creators.add(c);
+      }
+    }
+
+    for (final ExecutableElement m : methods) {
+      final Set<Modifier> modifiers = m.getModifiers();
+
+      if (!modifiers.contains(Modifier.PUBLIC) || !modifiers.contains(Modifier.STATIC)) {
+        continue;
+      }
+
+      if (m.getAnnotation(EntityCreator.class) == null) {
+        continue;
+      }
+
+      if (!processingEnv.getTypeUtils().isSameType(m.getReturnType(), type.asType())) {
+        throw new Unsupported("creator (" + m + ") does not return " + type);
+      }
+
+      creators.add(m);
+    }
+
+    if (creators.size() != 1) {
+      throw new Unsupported("expected exactly one creator, but found " + creators);
+    }
+
+    return creators.get(0);
+  }
+
+  private List<String> fieldNames(final ExecutableElement creator) throws Unsupported {
+    final ConstructorProperties properties = creator.getAnnotation(ConstructorProperties.class);
+
+    if (properties != null) {
+      if (properties.value().length != creator.getParameters().size()) {
+        throw new Unsupported("@ConstructorProperties does not match parameters");
+      }
+
+      for (final VariableElement p : creator.getParameters()) {
+        if (p.getAnnotation(Property.class) != null) {
+          throw new Unsupported("ambiguous field names on (" + creator + ")");
+        }
+      }
+
+      return Arrays.asList(properties.value());
+    }
+
+    final List<String> names = new ArrayList<>();
+
+    for (final VariableElement p : creator.getParameters()) {
+      final Property property = p.getAnnotation(Property.class);
+
+      if (property == null) {
+        throw new Unsupported("parameter (" + p + ") has no @Property annotation");
+      }
+
+      names.add(property.value());
+    }
+
+    return names;
+  }
+
+  /**
+   * Find the getter for the given field, following the same rules as the runtime field reader
+   * detectors.
+   */
+  private ExecutableElement findGetter(
+      final List<ExecutableElement> methods, final String name, final TypeMirror fieldType
+  ) throws Unsupported {
+    final List<ExecutableElement> annotated = methods.stream().filter(m -> {
+      final FieldGetter fieldGetter = m.getAnnotation(FieldGetter.class);
+
+      if (fieldGetter != null && fieldGetter.value().equals(name)) {
+        return true;
+      }
+
+      final Property property = m.getAnnotation(Property.class);
+      return property != null && property.value().equals(name);
+    }).collect(Collectors.toList());
+
+    if (annotated.size() > 1) {
+      throw new Unsupported("multiple getters for field (" + name + ")");
+    }
+
+    final ExecutableElement getter;
+
+    if (annotated.size() == 1) {
+      getter = annotated.get(0);
+    } else {
+      final String getterName = beanGetterName(name, fieldType);
+
+      getter = methods
+          .stream()
+          .filter(m -> m.getSimpleName().contentEquals(getterName))
+          .filter(m -> m.getParameters().isEmpty())
+          .findFirst()
+          .orElseThrow(() -> new Unsupported("no getter for field (" + name + ")"));
+    }
+
+    final Set<Modifier> modifiers = getter.getModifiers();
+
+    if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.STATIC) ||
+        !getter.getParameters().isEmpty() || !getter.getThrownTypes().isEmpty()) {
+      throw new Unsupported("getter (" + getter + ") can't be called directly");
+    }
+
+    if (!processingEnv.getTypeUtils().isSameType(getter.getReturnType(), fieldType)) {
+      throw new Unsupported("getter (" + getter + ") has incompatible return type");
+    }
+
+    verifyAnnotations(getter);
+    return getter;
+  }
+
+  private String beanGetterName(final String name, final TypeMirror fieldType) {
+    final String upper = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+
+    if (fieldType.getKind() == TypeKind.BOOLEAN) {
+      return "is" + upper;
+    }
+
+    return "get" + upper;
+  }
+
+  /**
+   * Verify that the given element only has runtime annotations which are used for detection.
+   * Other annotations would be taken into account when resolving field mappings at runtime.
+   */
+  private void verifyAnnotations(final Element element) throws Unsupported {
+    for (final AnnotationMirror a : runtimeAnnotations(element)) {
+      final TypeElement annotationType = (TypeElement) a.getAnnotationType().asElement();
+
+      if (!DETECTION_ANNOTATIONS.contains(annotationType.getQualifiedName().toString())) {
+        throw new Unsupported("(" + element + ") is annotated with " + a);
+      }
+    }
+  }
+
+  private List<AnnotationMirror> runtimeAnnotations(final Element element) {
+    return element.getAnnotationMirrors().stream().filter(a -> {
+      final Retention retention =
+          a.getAnnotationType().asElement().getAnnotation(Retention.class);
+      return retention != null && retention.value() == RetentionPolicy.RUNTIME;
+    }).collect(Collectors.toList());
+  }
+
+  private boolean containsTypeVariable(final TypeMirror type) {
+    switch (type.getKind()) {
+      case TYPEVAR:
+        return true;
+      case WILDCARD:
+        final WildcardType wildcard = (WildcardType) type;
+        return (wildcard.getExtendsBound() != null &&
+            containsTypeVariable(wildcard.getExtendsBound())) ||
+            (wildcard.getSuperBound() != null && containsTypeVariable(wildcard.getSuperBound()));
+      case ARRAY:
+        return containsTypeVariable(((ArrayType) type).getComponentType());
+      case DECLARED:
+        return ((DeclaredType) type)
+            .getTypeArguments()
+            .stream()
+            .anyMatch(this::containsTypeVariable);
+      default:
+        return false;
+    }
+  }
+
+  private boolean hasTypeArguments(final TypeMirror type) {
+    switch (type.getKind()) {
+      case ARRAY:
+        return hasTypeArguments(((ArrayType) type).getComponentType());
+      case DECLARED:
+        return !((DeclaredType) type).getTypeArguments().isEmpty();
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Build an expression that produces a JavaType for the given type.
+   */
+  private String javaType(final TypeMirror type) {
+    if (hasTypeArguments(type)) {
+      return "eu.toolchain.scribe.reflection.JavaType.of(new eu.toolchain.scribe.TypeReference<" +
+          type + ">() {})";
+    }
+
+    return "eu.toolchain.scribe.reflection.JavaType.of(" +
+        processingEnv.getTypeUtils().erasure(type) + ".class)";
+  }
+
+  private void writeEncoding(final ProcessedEntity entity, final TypeElement type) {
+    try {
+      final JavaFileObject file =
+          processingEnv.getFiler().createSourceFile(entity.getQualifiedEncodingName(), type);
+
+      try (final PrintWriter out = new PrintWriter(file.openWriter())) {
+        out.print(EncodingWriter.encoding(entity));
+      }
+    } catch (final IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(Diagnostic.Kind.ERROR, "Failed to write encoding: " + e, type);
+    }
+  }
+
+  private void writeModules() {
+    for (final Map.Entry<String, List<ProcessedEntity>> e : modules.entrySet()) {
+      writeModule(e.getKey(), e.getValue());
+      written.add(e.getKey());
+    }
+
+    modules.clear();
+  }
+
+  private void writeModule(final String packageName, final List<ProcessedEntity> entities) {
+    final String name = packageName.isEmpty() ? MODULE_NAME : packageName + "." + MODULE_NAME;
+
+    try {
+      final JavaFileObject file = processingEnv.getFiler().createSourceFile(name);
+
+      try (final PrintWriter out = new PrintWriter(file.openWriter())) {
+        out.print(EncodingWriter.module(packageName, entities));
+      }
+    } catch (final IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(Diagnostic.Kind.ERROR, "Failed to write module " + name + ": " + e);
+    }
+  }
+
+  /**
+   * Thrown when a type is not supported for generation.
+   */
+  static class Unsupported extends Exception {
+    Unsupported(final String message) {
+      super(message);
+    }
+  }
+}
@@ -0,0 +1,254 @@
+package eu.toolchain.scribe.processor;
+
+import eu.toolchain.scribe.ClassEncoding;
+import eu.toolchain.scribe.Context;
+import eu.toolchain.scribe.DatabindClassMapping;
+import eu.toolchain.scribe.GeneratedClassEncoding;
+import eu.toolchain.scribe.MethodClassEncoding;
+import eu.toolchain.scribe.Module;
+import eu.toolchain.scribe.Scribe;
+import eu.toolchain.scribe.StringEncoding;
+import eu.toolchain.scribe.annotations.EntityCreator;
+import eu.toolchain.scribe.jackson.JacksonMapper;
+import eu.toolchain.scribe.reflection.JavaType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ScribeProcessorTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private static final String ENTITY = String.join("\n", "package foo;",
+      "import eu.toolchain.scribe.annotations.EntityCreator;",
+      "import eu.toolchain.scribe.annotations.Property;", "import java.util.List;",
+      "public class Entity {", "  private final String name;",
+      "  private final List<Integer> values;", "  private final boolean active;",
+      "  @EntityCreator", "  public Entity(@Property(\"name\") String name,",
+      "      @Property(\"values\") List<Integer> values, @Property(\"active\") boolean active) {",
+      "    this.name = name;", "    this.values = values;", "    this.active = active;", "  }",
+      "  public String getName() { return name; }",
+      "  public List<Integer> getValues() { return values; }",
+      "  public boolean isActive() { return active; }", "}");
+
+  private static final String NO_GETTER = String.join("\n", "package foo;",
+      "import eu.toolchain.scribe.annotations.EntityCreator;",
+      "import eu.toolchain.scribe.annotations.Property;", "public class NoGetter {",
+      "  @EntityCreator", "  public NoGetter(@Property(\"name\") String name) {", "  }", "}");
+
+  private static final String LATE = String.join("\n", "package foo;",
+      "import eu.toolchain.scribe.annotations.EntityCreator;",
+      "import eu.toolchain.scribe.annotations.Property;", "public class Late {",
+      "  private final String name;", "  @EntityCreator",
+      "  public Late(@Property(\"name\") String name) {", "    this.name = name;", "  }",
+      "  public String getName() { return name; }", "}");
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testGeneratedEncoding() throws Exception {
+    final ClassLoader loader = compile();
+
+    final Class<?> entity = loader.loadClass("foo.Entity");
+    final Module module =
+        (Module) loader.loadClass("foo." + ScribeProcessor.MODULE_NAME).newInstance();
+
+    final Scribe scribe = Scribe
+        .nativeBuilder()
+        .install(module)
+        .build();
+
+    final ClassEncoding<Object> encoding =
+        ((DatabindClassMapping<Object>) scribe.mapping(JavaType.of(entity))).getDeferred();
+
+    assertThat(encoding, instanceOf(MethodClassEncoding.class));
+
+    final MethodClassEncoding<Object> method = (MethodClassEncoding<Object>) encoding;
+    assertThat(method.getClassInstanceBuilder(), instanceOf(GeneratedClassEncoding.Creator.class));
+
+    final Object instance = method
+        .getClassInstanceBuilder()
+        .getInstanceBuilder()
+        .newInstance(Context.ROOT, new Object[]{"foo", Arrays.asList(1, 2), true});
+
+    assertThat(method.getFields().get(0).getName(), is("name"));
+    assertThat(method.getFields().get(0).getReader().read(Context.ROOT, instance), is("foo"));
+    assertThat(method.getFields().get(1).getReader().read(Context.ROOT, instance),
+        is(Arrays.asList(1, 2)));
+    assertThat(method.getFields().get(2).getReader().read(Context.ROOT, instance), is(true));
+  }
+
+  @Test
+  public void testRoundTrip() throws Exception {
+    final ClassLoader loader = compile();
+
+    final Class<?> entity = loader.loadClass("foo.Entity");
+    final Module module =
+        (Module) loader.loadClass("foo." + ScribeProcessor.MODULE_NAME).newInstance();
+
+    final Scribe scribe = Scribe
+        .nativeBuilder()
+        .install(module)
+        .build();
+
+    final StringEncoding<Object> encoding = new JacksonMapper(scribe).stringEncodingForType(entity);
+
+    final Object instance = entity
+        .getConstructor(String.class, List.class, boolean.class)
+        .newInstance("foo", Arrays.asList(1, 2), true);
+
+    final String json = encoding.encode(instance);
+    final Object decoded = encoding.decode(json);
+
+    assertThat(entity.getMethod("getName").invoke(decoded), is("foo"));
+    assertThat(entity.getMethod("getValues").invoke(decoded), is(Arrays.asList(1, 2)));
+    assertThat(entity.getMethod("isActive").invoke(decoded), is(true));
+    assertThat(encoding.encode(decoded), is(json));
+  }
+
+  @Test
+  public void testUnsupported() throws Exception {
+    final ClassLoader loader = compile();
+
+    final File encoding =
+        new File(folder.getRoot(), "classes/foo/NoGetter" + ScribeProcessor.ENCODING_SUFFIX +
+            ".class");
+
+    assertThat(encoding.exists(), is(false));
+    loader.loadClass("foo.NoGetter");
+  }
+
+  @Test
+  public void testEntityAfterModule() throws Exception {
+    final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    final ClassLoader loader = compile(diagnostics, new LateEntityProcessor());
+
+    loader.loadClass("foo.Late");
+    loader.loadClass("foo." + ScribeProcessor.MODULE_NAME);
+
+    final File encoding =
+        new File(folder.getRoot(), "classes/foo/Late" + ScribeProcessor.ENCODING_SUFFIX +
+            ".class");
+    assertThat(encoding.exists(), is(false));
+
+    assertThat(diagnostics
+        .getDiagnostics()
+        .stream()
+        .anyMatch(d -> d.getKind() == Diagnostic.Kind.WARNING &&
+            d.getMessage(null).startsWith("Not generating encoding for foo.Late")), is(true));
+  }
+
+  /**
+   * Generates an entity in the round after the one where the first module is written.
+   */
+  @SupportedAnnotationTypes("*")
+  public static class LateEntityProcessor extends AbstractProcessor {
+    private int round;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+      return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(
+        final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv
+    ) {
+      if (++round != 2) {
+        return false;
+      }
+
+      try {
+        final JavaFileObject file = processingEnv.getFiler().createSourceFile("foo.Late");
+
+        try (final Writer out = file.openWriter()) {
+          out.write(LATE);
+        }
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+
+      return false;
+    }
+  }
+
+  private ClassLoader compile() throws Exception {
+    return compile(null);
+  }
+
+  private ClassLoader compile(
+      final DiagnosticCollector<JavaFileObject> diagnostics, final Processor... extra
+  ) throws Exception {
+    final File sources = folder.newFolder("sources");
+    final File classes = folder.newFolder("classes");
+
+    final File foo = new File(sources, "foo");
+    assertThat(foo.mkdirs(), is(true));
+
+    final File entity = new File(foo, "Entity.java");
+    final File noGetter = new File(foo, "NoGetter.java");
+
+    Files.write(entity.toPath(), ENTITY.getBytes(StandardCharsets.UTF_8));
+    Files.write(noGetter.toPath(), NO_GETTER.getBytes(StandardCharsets.UTF_8));
+
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+    try (final StandardJavaFileManager files = compiler.getStandardFileManager(null, null,
+        StandardCharsets.UTF_8)) {
+      files.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singletonList(classes));
+      files.setLocation(StandardLocation.SOURCE_OUTPUT, Collections.singletonList(classes));
+      files.setLocation(StandardLocation.CLASS_PATH,
+          Arrays.asList(location(EntityCreator.class), location(JavaType.class),
+              location(Scribe.class)));
+
+      final Iterable<? extends JavaFileObject> units =
+          files.getJavaFileObjects(entity, noGetter);
+
+      final JavaCompiler.CompilationTask task =
+          compiler.getTask(null, files, diagnostics, null, null, units);
+
+      final List<Processor> processors = new ArrayList<>();
+      processors.add(new ScribeProcessor());
+      processors.addAll(Arrays.asList(extra));
+      task.setProcessors(processors);
+
+      assertThat(task.call(), is(true));
+    }
+
+    return new URLClassLoader(new URL[]{classes.toURI().toURL()}, getClass().getClassLoader());
+  }
+
+  private File location(final Class<?> type) throws Exception {
+    return new File(type.getProtectionDomain().getCodeSource().getLocation().toURI());
+  }
+}